@@ -0,0 +1,91 @@
+package FreshBid.back.benchmark;
+
+import FreshBid.back.dto.bid.BidResponseDto;
+import FreshBid.back.dto.bid.BidStatusDto;
+import FreshBid.back.entity.Auction;
+import FreshBid.back.entity.User;
+import FreshBid.back.socket.RoomEvent.Type;
+import FreshBid.back.socket.RoomEventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 벤치마크 공용 테스트 데이터 / 필드 주입 헬퍼
+ * (BidHandler, SignalingHandler는 필드 주입이라 Spring 컨텍스트 없이 조립할 때 사용)
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 최고가부터 100원 간격으로 size건의 입찰 현황 생성
+     * 입찰 ID/입찰자는 입찰가로 정해지므로, 최고가를 100원 올린 현황과 비교하면 새 입찰 1건만 다르다.
+     */
+    static BidStatusDto bidStatus(Long auctionId, long highestPrice, int size) {
+        List<BidResponseDto> bidList = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            long bidPrice = highestPrice - i * 100L;
+            bidList.add(BidResponseDto.builder()
+                .bidId(bidPrice)
+                .auctionId(auctionId)
+                .userId(50_000L + (bidPrice / 100) % 1000)
+                .userNickName("입찰자" + (bidPrice / 100) % 1000)
+                .bidPrice(bidPrice)
+                .bidTime(now.minusSeconds(i))
+                .build());
+        }
+
+        return BidStatusDto.builder()
+            .auctionId(auctionId)
+            .status(Auction.Status.IN_PROGRESS.name())
+            .currentHighestPrice(highestPrice)
+            .bidList(bidList)
+            .highestBid(bidList.isEmpty() ? null : bidList.get(0))
+            .build();
+    }
+
+    static User user(Long id, String nickname) {
+        User user = new User();
+        user.setId(id);
+        user.setNickname(nickname);
+        return user;
+    }
+
+    /**
+     * Redis 없이 동작하는 룸 이벤트 버스 (이벤트 직렬화까지만 하고 발행은 생략, 단일 서버 배포와 같은 조건)
+     */
+    static RoomEventBus localRoomEventBus() {
+        return new RoomEventBus(null, null, new SimpleMeterRegistry(), "benchmark") {
+            @Override
+            public void publish(Long roomId, Type type, Long userId, String payload) {
+            }
+        };
+    }
+
+    static void inject(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException(
+                target.getClass().getSimpleName() + "에 " + fieldName + " 필드가 없습니다.");
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T read(Object target, String fieldName) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException(
+                target.getClass().getSimpleName() + "에 " + fieldName + " 필드가 없습니다.");
+        }
+        ReflectionUtils.makeAccessible(field);
+        return (T) ReflectionUtils.getField(field, target);
+    }
+}
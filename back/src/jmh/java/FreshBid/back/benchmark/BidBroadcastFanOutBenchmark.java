@@ -0,0 +1,86 @@
+package FreshBid.back.benchmark;
+
+import FreshBid.back.dto.bid.BidStatusDto;
+import FreshBid.back.socket.BidHandler;
+import FreshBid.back.socket.LiveRoom;
+import FreshBid.back.socket.QueuedWebSocketSession;
+import FreshBid.back.socket.QueuedWebSocketSession.OverflowPolicy;
+import FreshBid.back.socket.SignalingHandler;
+import FreshBid.back.socket.UserSession;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * SignalingHandler.broadcastBidStatusToRoom 팬아웃 비용 (룸 참가자 N명)
+ * - newBid: 호출마다 새 입찰 1건이 들어온 현황 → 동기화된 세션에는 변경분 전송
+ * - unchanged: 같은 현황 반복 → 모든 세션 전송 생략
+ * 송신 펌프는 호출 스레드에서 바로 실행하여 직렬화 + 큐잉 + 전송까지 한 번에 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BidBroadcastFanOutBenchmark {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long AUCTION_ID = 1024L;
+    private static final int STATUS_RING_SIZE = 1024;
+
+    @Param({"10", "100", "1000"})
+    public int sessionCount;
+
+    @Param({"newBid", "unchanged"})
+    public String scenario;
+
+    private SignalingHandler signalingHandler;
+    private BidStatusDto[] statuses;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        signalingHandler = new SignalingHandler();
+        BenchmarkFixtures.inject(signalingHandler, "bidHandler", new BidHandler());
+        BenchmarkFixtures.inject(signalingHandler, "roomEventBus",
+            BenchmarkFixtures.localRoomEventBus());
+
+        Executor inline = Runnable::run;
+        LiveRoom room = new LiveRoom();
+        room.setHostSession(queued("host", inline));
+        for (int i = 0; i < sessionCount; i++) {
+            QueuedWebSocketSession session = queued("participant-" + i, inline);
+            room.getParticipants().put(session, new UserSession(session, session.getId(), null, null));
+        }
+        Map<Long, LiveRoom> rooms = BenchmarkFixtures.read(signalingHandler, "rooms");
+        rooms.put(ROOM_ID, room);
+
+        statuses = new BidStatusDto[STATUS_RING_SIZE];
+        for (int i = 0; i < STATUS_RING_SIZE; i++) {
+            statuses[i] = BenchmarkFixtures.bidStatus(AUCTION_ID, 100_000L + i * 100L, 10);
+        }
+        // 첫 스냅샷으로 모든 세션을 동기화 상태로 만듦
+        signalingHandler.broadcastBidStatusToRoom(ROOM_ID, statuses[0]);
+        cursor = 0;
+    }
+
+    private QueuedWebSocketSession queued(String id, Executor executor) {
+        return new QueuedWebSocketSession(new CountingWebSocketSession(id), executor, 64,
+            OverflowPolicy.DROP_STALE, 5000);
+    }
+
+    @Benchmark
+    public void broadcastBidStatusToRoom() {
+        if ("newBid".equals(scenario)) {
+            cursor = (cursor + 1) % STATUS_RING_SIZE;
+        }
+        signalingHandler.broadcastBidStatusToRoom(ROOM_ID, statuses[cursor]);
+    }
+}
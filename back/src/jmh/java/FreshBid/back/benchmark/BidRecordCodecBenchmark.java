@@ -0,0 +1,67 @@
+package FreshBid.back.benchmark;
+
+import FreshBid.back.entity.BidRecord;
+import FreshBid.back.repository.codec.BidRecordCodec;
+import FreshBid.back.repository.codec.CompactBidRecordCodec;
+import FreshBid.back.repository.codec.JsonBidRecordCodec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 입찰 Sorted Set member 코덱 비교 (JSON vs compact)
+ * - encode: 입찰 1건 저장 시 member 생성 비용
+ * - decodeTop10: 브로드캐스트마다 수행되는 상위 10건 디코딩 비용
+ * 입찰 1건당 member 크기(bytes)는 Setup 단계에서 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BidRecordCodecBenchmark {
+
+    @Param({JsonBidRecordCodec.NAME, CompactBidRecordCodec.NAME})
+    public String codecName;
+
+    private BidRecordCodec codec;
+    private BidRecord bidRecord;
+    private List<String> top10Members;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = JsonBidRecordCodec.NAME.equals(codecName) ? new JsonBidRecordCodec()
+            : new CompactBidRecordCodec();
+        bidRecord = BidRecord.createBid(1024L, 52_311L, "신선한농부", 125_000L);
+
+        top10Members = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            top10Members.add(codec.encode(
+                BidRecord.createBid(1024L, 50_000L + i, "입찰자" + i, 125_000L - i * 100L)));
+        }
+
+        int bytes = codec.encode(bidRecord).getBytes(StandardCharsets.UTF_8).length;
+        System.out.printf("%n[%s] bytes per bid member: %d%n", codecName, bytes);
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(bidRecord);
+    }
+
+    @Benchmark
+    public void decodeTop10(Blackhole blackhole) {
+        for (String member : top10Members) {
+            blackhole.consume(codec.decode(member, 1024L));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package FreshBid.back.benchmark;
+
+import FreshBid.back.dto.bid.BidResponseDto;
+import FreshBid.back.dto.bid.BidStatusDto;
+import FreshBid.back.socket.BidHandler;
+import com.google.gson.JsonObject;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 입찰 현황 메시지 직렬화 비용 (BidHandler.bidStatus / bidStatusDelta, maskBidList 포함)
+ * - snapshotJson: 마스킹 + JsonObject 생성
+ * - snapshotFrame: 위 + 전송 프레임(UTF-8 바이트)까지, 룸 브로드캐스트 1회에 1번 발생
+ * - deltaFrame: 새 입찰 1건만 포함한 변경분 프레임
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BidStatusSerializationBenchmark {
+
+    @Param({"10", "50"})
+    public int bidListSize;
+
+    private BidHandler bidHandler;
+    private BidStatusDto bidStatus;
+    private List<BidResponseDto> newBids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bidHandler = new BidHandler();
+        bidStatus = BenchmarkFixtures.bidStatus(1024L, 125_000L, bidListSize);
+        newBids = bidStatus.getBidList().subList(0, 1);
+    }
+
+    @Benchmark
+    public JsonObject snapshotJson() {
+        return bidHandler.bidStatus(bidStatus, 42L);
+    }
+
+    @Benchmark
+    public byte[] snapshotFrame() {
+        return bidHandler.bidStatus(bidStatus, 42L).toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] deltaFrame() {
+        return bidHandler.bidStatusDelta(bidStatus, newBids, 43L, 42L).toString()
+            .getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,123 @@
+package FreshBid.back.benchmark;
+
+import FreshBid.back.dto.auction.AuctionStateDto;
+import FreshBid.back.entity.Auction;
+import FreshBid.back.entity.User;
+import FreshBid.back.repository.BidRedisRepositorySupport;
+import FreshBid.back.repository.codec.CompactBidRecordCodec;
+import FreshBid.back.repository.codec.JsonBidRecordCodec;
+import FreshBid.back.scheduler.BidUpdateTracker;
+import FreshBid.back.service.AuctionStateCacheService;
+import FreshBid.back.service.impl.BidServiceImpl;
+import FreshBid.back.socket.BidHandler;
+import com.google.gson.JsonObject;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 입찰 처리 경로 전체: BidHandler.submitBid → BidServiceImpl.createBid → Redis 입찰 스크립트
+ * <p>
+ * 로컬 Redis가 필요하다 (기본 localhost:6379, 예: docker run --rm -p 6379:6379 redis:7).
+ * 다른 주소는 -Dbench.redis.host / -Dbench.redis.port 로 지정한다.
+ * 경매 상태는 로컬 캐시 적중 상황을 가정해 고정값을 반환하며, 반복(iteration)마다 입찰 데이터를 비운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SubmitBidBenchmark {
+
+    private static final Long AUCTION_ID = 900_000_001L; // 실제 데이터와 겹치지 않는 경매 ID
+    private static final Long ROOM_ID = 900_000_001L;
+    private static final long START_PRICE = 10_000L;
+
+    @Param({CompactBidRecordCodec.NAME, JsonBidRecordCodec.NAME})
+    public String codecName;
+
+    private LettuceConnectionFactory connectionFactory;
+    private BidRedisRepositorySupport bidRedisRepositorySupport;
+    private BidHandler bidHandler;
+    private User user;
+    private final AtomicLong nextBidPrice = new AtomicLong(START_PRICE);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+            System.getProperty("bench.redis.host", "localhost"),
+            Integer.getInteger("bench.redis.port", 6379));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        bidRedisRepositorySupport = new BidRedisRepositorySupport(redisTemplate, codecName);
+
+        AuctionStateDto auctionState = new AuctionStateDto(AUCTION_ID,
+            Auction.Status.IN_PROGRESS, START_PRICE);
+        AuctionStateCacheService auctionStateCacheService = new AuctionStateCacheService() {
+            @Override
+            public AuctionStateDto getAuctionState(Long auctionId) {
+                return auctionState;
+            }
+
+            @Override
+            public AuctionStateDto refreshAuctionState(Long auctionId) {
+                return auctionState;
+            }
+
+            @Override
+            public void evictAuctionState(Long auctionId) {
+            }
+        };
+
+        // createBid에서 사용하지 않는 의존성(주문/JPA 저장소/이벤트)은 null
+        BidServiceImpl bidService = new BidServiceImpl(null, bidRedisRepositorySupport, null, null,
+            null, auctionStateCacheService, new BidUpdateTracker(), null);
+
+        bidHandler = new BidHandler();
+        BenchmarkFixtures.inject(bidHandler, "bidService", bidService);
+
+        user = BenchmarkFixtures.user(52_311L, "신선한농부");
+    }
+
+    @Setup(Level.Iteration)
+    public void resetAuction() {
+        bidRedisRepositorySupport.deleteByAuctionId(AUCTION_ID);
+        bidRedisRepositorySupport.removeCurrentMinBidPrice(AUCTION_ID);
+        bidRedisRepositorySupport.addActiveAuction(AUCTION_ID, ROOM_ID);
+        nextBidPrice.set(START_PRICE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        bidRedisRepositorySupport.deleteByAuctionId(AUCTION_ID);
+        bidRedisRepositorySupport.removeActiveAuction(AUCTION_ID);
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public JsonObject submitBid() {
+        JsonObject message = new JsonObject();
+        message.addProperty("type", "submitBid");
+        message.addProperty("auctionId", AUCTION_ID);
+        message.addProperty("bidPrice", nextBidPrice.incrementAndGet());
+
+        JsonObject response = bidHandler.submitBid(user, message);
+        if (!response.get("success").getAsBoolean()) {
+            throw new IllegalStateException("입찰 실패: " + response);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,38 @@
+package FreshBid.back.config;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 여러 backend 서버를 함께 띄울 때 필요한 설정
+ */
+@Slf4j
+@Configuration
+public class ClusterConfig {
+
+    /**
+     * 클러스터 안에서 이 서버를 구분하는 식별자 (룸 이벤트 발신자, 경매 담당 서버)
+     * 설정하지 않으면 호스트명 + 임의 값으로 기동할 때마다 새로 만든다.
+     */
+    @Bean(name = "clusterNodeId")
+    public String clusterNodeId(@Value("${cluster.node-id:}") String configuredNodeId) {
+        String nodeId = configuredNodeId.isBlank()
+            ? hostName() + "-" + UUID.randomUUID().toString().substring(0, 8)
+            : configuredNodeId;
+        log.info("클러스터 서버 식별자: {}", nodeId);
+        return nodeId;
+    }
+
+    private String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "backend";
+        }
+    }
+}
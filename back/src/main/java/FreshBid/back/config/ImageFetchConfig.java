@@ -0,0 +1,71 @@
+package FreshBid.back.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 이미지 처리용 HTTP 클라이언트 / 실행기 설정 (base64 변환, 비동기 업로드)
+ */
+@Configuration
+public class ImageFetchConfig {
+
+    /**
+     * 공용 HTTP 클라이언트
+     * 호출마다 RestTemplate을 만들지 않고 커넥션을 재사용하며, 느린 스토리지 응답에 요청 스레드가 묶이지 않도록 제한 시간을 둔다.
+     */
+    @Bean(name = "imageRestTemplate")
+    public RestTemplate imageRestTemplate(
+        @Value("${image.fetch.connect-timeout-ms:1000}") long connectTimeoutMillis,
+        @Value("${image.fetch.read-timeout-ms:3000}") long readTimeoutMillis) {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+            .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * 목록 이미지 병렬 변환 실행기
+     * 한 페이지의 이미지를 동시에 가져오되, 여러 요청이 몰려도 스토리지 동시 요청 수가 pool-size를 넘지 않도록 제한한다.
+     */
+    @Bean(name = "imageFetchExecutor")
+    public ThreadPoolTaskExecutor imageFetchExecutor(
+        @Value("${image.fetch.pool-size:8}") int poolSize,
+        @Value("${image.fetch.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-fetch-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 업로드 이미지 처리 실행기 (스토리지 업로드, 썸네일 생성, 검증)
+     * 큐가 가득 차면 요청 스레드에서 직접 처리하여 업로드가 유실되지 않도록 한다.
+     */
+    @Bean(name = "imageIngestExecutor")
+    public ThreadPoolTaskExecutor imageIngestExecutor(
+        @Value("${image.ingest.pool-size:4}") int poolSize,
+        @Value("${image.ingest.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-ingest-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -8,8 +8,10 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * Redis 설정 클래스
@@ -71,4 +73,29 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    /**
+     * Redis pub/sub 구독 컨테이너
+     * 서버 간 라이브 룸 이벤트(입찰 현황, 경매 종료, 신선도 결과 등)를 받는 데 사용합니다.
+     * 같은 룸의 이벤트 순서가 바뀌지 않도록 받은 메시지는 스레드 하나에서 차례로 처리합니다.
+     * (세션 전송은 송신 큐에 넣고 바로 반환하므로 스레드 하나로 충분합니다.)
+     *
+     * @return 메시지 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.setTaskExecutor(redisListenerExecutor());
+        return container;
+    }
+
+    @Bean(name = "redisListenerExecutor")
+    public ThreadPoolTaskExecutor redisListenerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("redis-listener-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
 }
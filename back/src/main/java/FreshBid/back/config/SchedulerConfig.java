@@ -0,0 +1,47 @@
+package FreshBid.back.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 스케줄러에서 사용하는 작업 실행기 설정
+ */
+@Configuration
+public class SchedulerConfig {
+
+    /**
+     * 경매별 입찰 상태 브로드캐스트 실행기
+     * 느린 룸 하나가 다른 경매의 브로드캐스트/구간 갱신을 지연시키지 않도록 경매 단위로 병렬 처리한다.
+     */
+    @Bean(name = "bidBroadcastExecutor")
+    public ThreadPoolTaskExecutor bidBroadcastExecutor(
+        @Value("${bid.broadcast.pool-size:8}") int poolSize,
+        @Value("${bid.broadcast.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bid-broadcast-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 종료 경매 입찰 이관 실행기
+     * 판매자의 경매 종료 응답과 분리하여 대량 입찰 INSERT를 백그라운드에서 처리한다.
+     */
+    @Bean(name = "bidArchiveExecutor")
+    public ThreadPoolTaskExecutor bidArchiveExecutor(
+        @Value("${bid.archive.pool-size:2}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("bid-archive-");
+        // 종료 시 남은 작업은 이관 대기 목록에 남아 다음 기동 때 이어서 처리됨
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
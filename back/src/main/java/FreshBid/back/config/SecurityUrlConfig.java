@@ -25,6 +25,9 @@ public class SecurityUrlConfig {
         "/categories/**",       // CategoryController (카테고리 관리 API)
         "/auction/**",          // TODO : GET /auction 전체 허용하므로, 추후 엔드포인트 분리 필요
         "/price/**",
+        "/images/live/**",      // ImageController (이미지 전달 API, 업로드 경로만 공개)
+        "/images/product/**",
+        "/images/profile-image/**",
     };
 
     public static final String[] AUTHENTICATED_URLS = {
@@ -35,6 +38,7 @@ public class SecurityUrlConfig {
         "/my-page/**",          // UserController (마이페이지 관련 API)
         "/cart/**",             // CartController (장바구니 관련 API)
         "/bookmark/**",          // BookmarkController (찜 관련 API)
+        "/images/status",       // ImageController (이미지 업로드 상태 조회 API)
     };
 
     // GET ONLY
@@ -2,15 +2,18 @@ package FreshBid.back.config;
 
 import FreshBid.back.interceptor.JwtWebSocketHandshakeInterceptor;
 import FreshBid.back.socket.BidHandler;
+import FreshBid.back.socket.CborFrameCodec;
 import FreshBid.back.socket.SignalingHandler;
 import lombok.RequiredArgsConstructor;
 import org.kurento.client.KurentoClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
 import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
 
 @Configuration
@@ -31,6 +34,60 @@ public class WebSocketConfig implements WebSocketConfigurer {
         return new SignalingHandler();
     }
 
+    /**
+     * 세션별 송신 펌프를 실행하는 공용 실행기
+     * 세션마다 동시에 하나의 펌프만 실행되므로 느린 클라이언트는 최대 스레드 하나만 점유한다.
+     */
+    @Bean(name = "socketSendExecutor")
+    public ThreadPoolTaskExecutor socketSendExecutor(
+        @Value("${socket.outbound.pump-threads:16}") int pumpThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pumpThreads);
+        executor.setMaxPoolSize(pumpThreads);
+        executor.setThreadNamePrefix("ws-send-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 입찰 메시지 처리 실행기 (지연에 민감하므로 다른 메시지와 스레드를 나눔)
+     */
+    @Bean(name = "socketBidExecutor")
+    public ThreadPoolTaskExecutor socketBidExecutor(
+        @Value("${socket.lane.bid.threads:8}") int threads) {
+        return laneExecutor(threads, "ws-bid-");
+    }
+
+    /**
+     * WebRTC 시그널링 + 룸 수명 주기(라이브 시작/종료, 경매 시작/종료) 처리 실행기
+     * 세션별 순서를 지키기 위해 호스트의 수명 주기 메시지는 모두 이 실행기에서 처리한다.
+     */
+    @Bean(name = "socketSignalingExecutor")
+    public ThreadPoolTaskExecutor socketSignalingExecutor(
+        @Value("${socket.lane.signaling.threads:4}") int threads) {
+        return laneExecutor(threads, "ws-signal-");
+    }
+
+    /**
+     * 신선도 확인 등 관리 메시지 처리 실행기
+     */
+    @Bean(name = "socketAdminExecutor")
+    public ThreadPoolTaskExecutor socketAdminExecutor(
+        @Value("${socket.lane.admin.threads:2}") int threads) {
+        return laneExecutor(threads, "ws-admin-");
+    }
+
+    // 대기 메시지 수는 MessageLane이 capacity로 제한하므로 실행기 큐는 따로 제한하지 않음
+    private ThreadPoolTaskExecutor laneExecutor(int threads, String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
     @Value("${SOCKET_ADDRESS}")
     private String socketAddress;
     @Value("${SOCKET_PORT}")
@@ -52,6 +109,17 @@ public class WebSocketConfig implements WebSocketConfigurer {
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
         registry.addHandler(signalingHandler(), "/call")
             .addInterceptors(jwtWebSocketHandshakeInterceptor)
+            .setHandshakeHandler(handshakeHandler())
             .setAllowedOrigins("*");
     }
+
+    /**
+     * 클라이언트가 Sec-WebSocket-Protocol 로 바이너리(CBOR) 서브 프로토콜을 요청하면 수락
+     * 요청하지 않은 클라이언트는 기존처럼 텍스트(JSON) 프레임만 사용한다.
+     */
+    private DefaultHandshakeHandler handshakeHandler() {
+        DefaultHandshakeHandler handshakeHandler = new DefaultHandshakeHandler();
+        handshakeHandler.setSupportedProtocols(CborFrameCodec.PROTOCOL);
+        return handshakeHandler;
+    }
 }
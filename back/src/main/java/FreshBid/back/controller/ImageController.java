@@ -0,0 +1,50 @@
+package FreshBid.back.controller;
+
+import FreshBid.back.dto.common.CommonResponse;
+import FreshBid.back.dto.image.ImageIngestStatusDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "이미지", description = "스토리지 이미지 전달 API")
+@RequestMapping("/images")
+public interface ImageController {
+
+    @Operation(summary = "이미지 업로드 상태 조회", description = "비동기로 처리되는 업로드(라이브 대표 이미지, 프로필 이미지)의 진행 상태를 조회합니다. DONE이 되면 해당 key로 이미지를 조회할 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상태 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "상태 정보가 없는 key입니다.")
+    })
+    @GetMapping("/status")
+    public ResponseEntity<CommonResponse<ImageIngestStatusDto>> getUploadStatus(
+            @Parameter(description = "업로드 시 발급된 이미지 key")
+            @RequestParam("key") String filePath);
+
+    @Operation(summary = "이미지 조회", description = "스토리지의 이미지를 고정 크기 버퍼로 스트리밍 전달합니다. Range 요청, ETag 기반 조건부 요청과 장기 캐시 헤더를 지원합니다. w를 지정하면 해당 너비의 썸네일을 전달합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "이미지 전달 성공"),
+            @ApiResponse(responseCode = "206", description = "요청한 구간 전달 성공"),
+            @ApiResponse(responseCode = "304", description = "클라이언트 캐시가 최신입니다."),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 이미지 크기입니다."),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 이미지입니다."),
+            @ApiResponse(responseCode = "416", description = "요청한 구간이 이미지 크기를 벗어났습니다."),
+            @ApiResponse(responseCode = "500", description = "인터넷 서버 오류")
+    })
+    @GetMapping("/{*filePath}")
+    public ResponseEntity<StreamingResponseBody> getImage(@PathVariable("filePath") String filePath,
+                                                          @Parameter(description = "썸네일 너비 (160, 480)")
+                                                          @RequestParam(value = "w", required = false) Integer width,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                          @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                                                          @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange);
+}
@@ -0,0 +1,218 @@
+package FreshBid.back.controller.impl;
+
+import FreshBid.back.controller.ImageController;
+import FreshBid.back.dto.common.CommonResponse;
+import FreshBid.back.dto.image.ImageIngestStatusDto;
+import FreshBid.back.dto.image.ImageVariant;
+import FreshBid.back.dto.image.StoredImageDto;
+import FreshBid.back.exception.NotFoundException;
+import FreshBid.back.service.FileStorageService;
+import FreshBid.back.service.ImageIngestService;
+import FreshBid.back.service.ThumbnailService;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+public class ImageControllerImpl implements ImageController {
+
+    // object key에 UUID가 포함되어 같은 key의 내용이 바뀌지 않으므로 immutable 장기 캐시
+    private static final CacheControl IMAGE_CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS)
+            .cachePublic()
+            .immutable();
+
+    private static final String ACCEPT_RANGES_BYTES = "bytes";
+
+    // 업로드 경로 아래의 /images/** 는 인증 없이 열려 있으므로 업로드 경로(live/, product/, profile-image/)의 파일과 그 썸네일(_wNNN.jpg)만 전달
+    // 같은 버킷의 다른 object(업로드 임시 파일, 기타 prefix)는 존재 여부도 드러내지 않도록 404
+    private static final Pattern IMAGE_KEY_PATTERN =
+            Pattern.compile("^(live|product|profile-image)/[^/\\\\]+$");
+
+    private final FileStorageService fileStorageService;
+    private final ThumbnailService thumbnailService;
+    private final ImageIngestService imageIngestService;
+
+    // 요청당 힙 사용량은 이미지 크기와 무관하게 버퍼 하나로 고정
+    @Value("${image.stream.buffer-size:8192}")
+    private int bufferSize;
+
+    @Override
+    public ResponseEntity<CommonResponse<ImageIngestStatusDto>> getUploadStatus(String filePath) {
+        CommonResponse<ImageIngestStatusDto> response = CommonResponse.<ImageIngestStatusDto>builder()
+                .success(true)
+                .message("이미지 업로드 상태 조회 성공")
+                .data(imageIngestService.getStatus(filePath))
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> getImage(String filePath, Integer width,
+                                                          String ifNoneMatch, String range,
+                                                          String ifRange) {
+        String key = filePath.startsWith("/") ? filePath.substring(1) : filePath;
+        if (!isImageKey(key)) {
+            throw new NotFoundException("존재하지 않는 이미지입니다: " + key);
+        }
+        if (width != null) {
+            // 썸네일이 없으면 첫 요청 때 생성, 생성할 수 없는 이미지는 원본 key
+            key = thumbnailService.ensureThumbnail(key, ImageVariant.fromWidth(width));
+        }
+
+        StoredImageDto image = fileStorageService.getImageInfo(key);
+        String etag = "\"" + image.getEtag() + "\"";
+        long size = image.getSize();
+
+        if (matchesEtag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(IMAGE_CACHE_CONTROL)
+                    .build();
+        }
+
+        // If-Range가 현재 ETag와 다르면 Range를 무시하고 전체 전달
+        if (range != null && (ifRange == null || ifRange.trim().equals(etag))) {
+            // 형식이 잘못된 Range는 무시하고 전체 전달 (RFC 9110), 416은 형식은 맞지만 크기를 벗어난 경우만
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                log.debug("잘못된 Range 헤더 무시 - key: {}, range: {}", key, range);
+                ranges = List.of();
+            }
+
+            // 다중 구간은 지원하지 않으므로 전체 전달 (RFC 9110상 Range는 무시 가능)
+            if (ranges.size() == 1) {
+                long start;
+                long end;
+                try {
+                    start = ranges.get(0).getRangeStart(size);
+                    end = ranges.get(0).getRangeEnd(size);
+                } catch (IllegalArgumentException e) {
+                    return rangeNotSatisfiable(size);
+                }
+                long length = end - start + 1;
+
+                return headers(ResponseEntity.status(HttpStatus.PARTIAL_CONTENT), image, etag)
+                        .header(HttpHeaders.CONTENT_RANGE,
+                                "bytes " + start + "-" + end + "/" + size)
+                        .contentLength(length)
+                        .body(stream(key, start, length, false));
+            }
+        }
+
+        return headers(ResponseEntity.ok(), image, etag)
+                .contentLength(size)
+                .body(stream(key, 0, size, true));
+    }
+
+    private ResponseEntity.BodyBuilder headers(ResponseEntity.BodyBuilder response,
+                                               StoredImageDto image, String etag) {
+        response.eTag(etag)
+                .cacheControl(IMAGE_CACHE_CONTROL)
+                .header(HttpHeaders.ACCEPT_RANGES, ACCEPT_RANGES_BYTES)
+                .contentType(resolveContentType(image.getContentType()));
+        if (image.getLastModified() != null) {
+            response.lastModified(image.getLastModified());
+        }
+        return response;
+    }
+
+    private ResponseEntity<StreamingResponseBody> rangeNotSatisfiable(long size) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                .build();
+    }
+
+    /**
+     * 로컬 디스크 캐시에 있으면 파일에서, 없으면 MinIO 응답 스트림을 고정 크기 버퍼로 출력 스트림에 바로 복사
+     * (이미지 전체를 메모리에 올리지 않음)
+     */
+    private StreamingResponseBody stream(String key, long offset, long length, boolean whole) {
+        return outputStream -> {
+            if (length == 0) {
+                return;
+            }
+
+            Path localImage = fileStorageService.getLocalImage(key);
+            if (localImage != null) {
+                try (FileChannel channel = FileChannel.open(localImage, StandardOpenOption.READ)) {
+                    WritableByteChannel target = Channels.newChannel(outputStream);
+                    long position = offset;
+                    long remaining = length;
+                    while (remaining > 0) {
+                        long transferred = channel.transferTo(position, remaining, target);
+                        if (transferred <= 0) {
+                            break;
+                        }
+                        position += transferred;
+                        remaining -= transferred;
+                    }
+                    outputStream.flush();
+                    return;
+                } catch (NoSuchFileException e) {
+                    // 전달 직전에 캐시에서 밀려난 경우 스토리지에서 전달
+                    log.debug("디스크 캐시 파일 없음, 스토리지에서 전달 - key: {}", key);
+                }
+            }
+
+            try (InputStream inputStream = whole
+                    ? fileStorageService.openImage(key)
+                    : fileStorageService.openImage(key, offset, length)) {
+                byte[] buffer = new byte[bufferSize];
+                long remaining = length;
+                int read;
+                while (remaining > 0 && (read = inputStream.read(buffer, 0,
+                        (int) Math.min(buffer.length, remaining))) != -1) {
+                    outputStream.write(buffer, 0, read);
+                    remaining -= read;
+                }
+                outputStream.flush();
+            }
+        };
+    }
+
+    private boolean isImageKey(String key) {
+        return IMAGE_KEY_PATTERN.matcher(key).matches() && !key.contains("..");
+    }
+
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+
+    private MediaType resolveContentType(String contentType) {
+        try {
+            return contentType != null ? MediaType.parseMediaType(contentType)
+                    : MediaType.APPLICATION_OCTET_STREAM;
+        } catch (IllegalArgumentException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
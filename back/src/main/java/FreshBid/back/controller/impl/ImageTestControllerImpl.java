@@ -14,6 +14,6 @@ public class ImageTestControllerImpl implements ImageTestController {
     @Override
     public ResponseEntity<String> uploadImage(MultipartFile file) {
         String bucketName = "test";
-        return ResponseEntity.ok(imageService.uploadImage(bucketName, file));
+        return ResponseEntity.ok(imageService.uploadImage(bucketName, file).getFilePath());
     }
 }
@@ -7,7 +7,6 @@ import FreshBid.back.dto.Order.OrderUpdateRequestDto;
 import FreshBid.back.dto.common.CommonResponse;
 import FreshBid.back.dto.user.FreshBidUserDetails;
 import FreshBid.back.entity.User;
-import FreshBid.back.service.FileStorageService;
 import FreshBid.back.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +30,6 @@ public class OrderControllerImpl implements OrderController {
 
     private final OrderService orderService;
 
-    private final FileStorageService fileStorageService;
     @Override
     @PutMapping("/{orderId}")
     public ResponseEntity<CommonResponse<?>> updateOrderStatus(
@@ -68,10 +66,6 @@ public class OrderControllerImpl implements OrderController {
         User user = userDetails.getUser();
         OrderDetailResponseDto result = orderService.getOrderById(user, orderId);
 
-        //주문 기록 이미지에 상품 사진
-        String url = fileStorageService.getUrl(result.getProduct().getReprImgSrc());
-        result.getProduct().setReprImgSrc(fileStorageService.convertImageUrlToBlob(url));
-
         CommonResponse<OrderDetailResponseDto> response = CommonResponse.<OrderDetailResponseDto>builder()
                 .success(true)
                 .message("주문 조회가 성공했습니다.")
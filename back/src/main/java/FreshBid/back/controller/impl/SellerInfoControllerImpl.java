@@ -11,7 +11,6 @@ import FreshBid.back.entity.Live.LiveStatus;
 import FreshBid.back.dto.live.SellerLiveFilterRequestDto;
 import FreshBid.back.dto.product.ProductResponseDto;
 import FreshBid.back.dto.user.SellerBasicInfoDto;
-import FreshBid.back.service.FileStorageService;
 import FreshBid.back.service.SellerInfoService;
 import FreshBid.back.service.SellerReviewService;
 import lombok.RequiredArgsConstructor;
@@ -26,7 +25,6 @@ import java.util.List;
 public class SellerInfoControllerImpl implements SellerInfoController {
 
     private final SellerInfoService sellerInfoService;
-    private final FileStorageService fileStorageService;
     @Override
     public ResponseEntity<?> getBasicInfo(Long sellerId) {
         SellerBasicInfoDto basicInfo = sellerInfoService.getBasicInfo(sellerId);
@@ -43,13 +41,6 @@ public class SellerInfoControllerImpl implements SellerInfoController {
     public ResponseEntity<?> getProducts(Long sellerId, Integer category, Integer pageNo) {
         Page<ProductResponseDto> products = sellerInfoService.getProductsBySellerId(sellerId, category, pageNo);
 
-        for(ProductResponseDto dto: products.getContent()) {
-            String imagePath = dto.getReprImgSrc();
-            if(imagePath == null) continue;
-            String base64Img = fileStorageService.convertImageUrlToBlob(fileStorageService.getUrl(imagePath));
-            dto.setReprImgSrc(base64Img);
-        }
-
         CommonResponse<Page<ProductResponseDto>> response
                 = CommonResponse.<Page<ProductResponseDto>>builder()
                 .success(true).message("판매자 판매 상품 조회 완료.")
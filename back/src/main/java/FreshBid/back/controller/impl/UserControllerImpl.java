@@ -33,14 +33,12 @@ public class UserControllerImpl implements UserController {
 
         User user = userDetails.getUser();
 
-        String imageUrl = fileStorageService.getUrl(user.getProfileImage());
-
         UserInfoDto userInfo = UserInfoDto.builder()
             .id(user.getId())
             .username(user.getUsername())
             .nickname(user.getNickname())
             .phoneNumber(user.getPhoneNumber())
-            .profileImage(fileStorageService.convertImageUrlToBlob(imageUrl))
+            .profileImage(fileStorageService.resolveImageSrc(user.getProfileImage()))
             .email(user.getEmail())
             .address(user.getAddress())
             .introduction(user.getIntroduction())
@@ -0,0 +1,27 @@
+package FreshBid.back.dto.auction;
+
+import FreshBid.back.entity.Auction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 입찰 검증에 필요한 경매 상태 스냅샷 (로컬 캐시 저장용)
+ */
+@Getter
+@AllArgsConstructor
+public class AuctionStateDto {
+
+    private final Long auctionId;
+
+    private final Auction.Status status;
+
+    private final long startPrice;
+
+    public static AuctionStateDto from(Auction auction) {
+        return new AuctionStateDto(auction.getId(), auction.getStatus(), auction.getStartPrice());
+    }
+
+    public boolean isInProgress() {
+        return status == Auction.Status.IN_PROGRESS;
+    }
+}
@@ -0,0 +1,34 @@
+package FreshBid.back.dto.bid;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis 입찰 스크립트(tryPlaceBid) 실행 결과
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BidPlacementResultDto {
+
+    private Result result;
+
+    // 스크립트가 비교에 사용한 현재 구간 최소 입찰가
+    private Long minBidPrice;
+
+    // 스크립트 실행 직후의 최고 입찰가 (입찰이 없으면 null)
+    private Long highestPrice;
+
+    public boolean isAccepted() {
+        return result == Result.ACCEPTED;
+    }
+
+    public enum Result {
+        ACCEPTED,
+        NOT_ACTIVE,
+        BELOW_MIN_PRICE
+    }
+}
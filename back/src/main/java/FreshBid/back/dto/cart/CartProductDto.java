@@ -1,5 +1,7 @@
 package FreshBid.back.dto.cart;
 
+import FreshBid.back.dto.image.ImageKey;
+import FreshBid.back.dto.image.ImageVariant;
 import FreshBid.back.entity.Order;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
@@ -21,6 +23,7 @@ public class CartProductDto {
     private String name;
 
     @Schema(description = "상품 이미지 URL", example = "https://example.com/images/apple.jpg")
+    @ImageKey(ImageVariant.SMALL)
     private String img;
     
     @Schema(description = "규격(kg)", example = "4")
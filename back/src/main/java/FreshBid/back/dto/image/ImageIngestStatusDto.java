@@ -0,0 +1,33 @@
+package FreshBid.back.dto.image;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 비동기 이미지 업로드 진행 상태
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ImageIngestStatusDto {
+
+    public enum Status {
+        PENDING,    // 로컬 임시 파일 저장 완료, 작업 대기
+        PROCESSING, // 스토리지 업로드 / 썸네일 / 검증 중
+        DONE,       // 완료, 이미지 조회 가능
+        FAILED      // 재시도 횟수 초과
+    }
+
+    private final String filePath;
+
+    private final Status status;
+
+    private final int attempts;
+
+    // 마지막 실패 사유 (FAILED 또는 재시도 대기 중일 때)
+    private final String error;
+
+    private final LocalDateTime updatedAt;
+}
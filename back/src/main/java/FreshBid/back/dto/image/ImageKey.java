@@ -0,0 +1,22 @@
+package FreshBid.back.dto.image;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 스토리지 object key를 담는 응답 DTO 필드 표시
+ * 응답을 쓰기 직전에 ImageKeyResponseAdvice가 페이지 전체의 key를 모아 한 번에 이미지 값(URL/base64)으로 바꿔 넣는다.
+ */
+@Documented
+@Target({ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ImageKey {
+
+    /**
+     * 전달할 크기 (지정하지 않으면 원본)
+     */
+    ImageVariant value() default ImageVariant.ORIGINAL;
+}
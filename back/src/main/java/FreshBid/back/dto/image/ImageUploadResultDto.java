@@ -0,0 +1,27 @@
+package FreshBid.back.dto.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 이미지 업로드 결과 (업로드 실패 시에는 예외)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ImageUploadResultDto {
+
+    // 스토리지 object key (엔티티에 저장할 값)
+    private final String filePath;
+
+    private final String contentType;
+
+    private final long size;
+
+    // 업로드 전에 계산한 내용 해시 (SHA-256 hex)
+    private final String contentHash;
+
+    // 같은 내용의 기존 object를 재사용했으면 true (스토리지에 새로 쓰지 않음)
+    private final boolean deduplicated;
+}
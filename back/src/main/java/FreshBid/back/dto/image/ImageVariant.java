@@ -0,0 +1,52 @@
+package FreshBid.back.dto.image;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전달할 이미지 크기: 원본 또는 목록 화면용 고정 폭 썸네일
+ * 썸네일은 원본 옆에 파생 key로 저장된다. (live/user_uuid.png → live/user_uuid_w160.jpg)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    ORIGINAL(0),  // 썸네일 없이 원본 그대로
+    SMALL(160),   // 프로필, 상품/주문 목록 아이콘
+    MEDIUM(480);  // 라이브 카드
+
+    // 원본을 제외한 생성 대상 썸네일
+    private static final List<ImageVariant> THUMBNAILS = List.of(SMALL, MEDIUM);
+
+    private final int width;
+
+    public static List<ImageVariant> thumbnails() {
+        return THUMBNAILS;
+    }
+
+    public boolean isOriginal() {
+        return this == ORIGINAL;
+    }
+
+    /**
+     * 이 크기의 object key (원본이면 그대로)
+     */
+    public String keyOf(String filePath) {
+        if (isOriginal()) {
+            return filePath;
+        }
+        int slashIndex = filePath.lastIndexOf('/');
+        int dotIndex = filePath.lastIndexOf('.');
+        String base = dotIndex > slashIndex ? filePath.substring(0, dotIndex) : filePath;
+        return base + "_w" + width + ".jpg";
+    }
+
+    public static ImageVariant fromWidth(int width) {
+        for (ImageVariant variant : THUMBNAILS) {
+            if (variant.width == width) {
+                return variant;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 이미지 크기입니다: " + width);
+    }
+}
@@ -0,0 +1,25 @@
+package FreshBid.back.dto.image;
+
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 스토리지에 저장된 이미지 메타데이터 (이미지 엔드포인트 응답 헤더용)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class StoredImageDto {
+
+    private final String filePath;
+
+    private final String contentType;
+
+    private final long size;
+
+    private final String etag;
+
+    private final ZonedDateTime lastModified;
+}
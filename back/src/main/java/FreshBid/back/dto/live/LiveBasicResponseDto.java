@@ -1,6 +1,8 @@
 package FreshBid.back.dto.live;
 
 
+import FreshBid.back.dto.image.ImageKey;
+import FreshBid.back.dto.image.ImageVariant;
 import FreshBid.back.entity.Live.LiveStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
@@ -11,6 +13,7 @@ import java.time.LocalDateTime;
 public class LiveBasicResponseDto {
     private Long id;
     private String title;
+    @ImageKey(ImageVariant.MEDIUM)
     private String reprImgSrc;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
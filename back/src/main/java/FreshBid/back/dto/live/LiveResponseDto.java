@@ -1,6 +1,8 @@
 package FreshBid.back.dto.live;
 
 import FreshBid.back.dto.auction.AuctionResponseDto;
+import FreshBid.back.dto.image.ImageKey;
+import FreshBid.back.dto.image.ImageVariant;
 import FreshBid.back.entity.Live;
 import FreshBid.back.entity.Live.LiveStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -26,6 +28,7 @@ public class LiveResponseDto {
     private String title;
     
     @Schema(description = "Live 메인 사진", example = "https://~~")
+    @ImageKey(ImageVariant.MEDIUM)
     private String reprImgSrc;
     
     @Schema(description = "Live 시작 일시", example = "2024-12-01T10:00:00")
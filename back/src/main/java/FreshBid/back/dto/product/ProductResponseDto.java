@@ -1,5 +1,7 @@
 package FreshBid.back.dto.product;
 
+import FreshBid.back.dto.image.ImageKey;
+import FreshBid.back.dto.image.ImageVariant;
 import FreshBid.back.entity.Product;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
@@ -25,6 +27,7 @@ public class ProductResponseDto {
     private String weight;
 
     @Schema(description = "대표 이미지 URL")
+    @ImageKey(ImageVariant.SMALL)
     private String reprImgSrc;
 
     @Schema(description = "상품 설명")
@@ -1,5 +1,7 @@
 package FreshBid.back.dto.user;
 
+import FreshBid.back.dto.image.ImageKey;
+import FreshBid.back.dto.image.ImageVariant;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
@@ -9,6 +11,7 @@ public class SellerBasicInfoDto {
     @Schema(description = "판매자 PRIMARY KEY ID", example = "1")
     private Long id;
     @Schema(description = "판매자 프로필 이미지 URL", example = "https://edu.ssafy.com/edu/main/index.do")
+    @ImageKey(ImageVariant.SMALL)
     private String profileImage;
     @Schema(description = "판매자 아이디", example = "ssafy123")
     private String username;
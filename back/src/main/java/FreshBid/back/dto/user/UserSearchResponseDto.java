@@ -1,10 +1,13 @@
 package FreshBid.back.dto.user;
 
+import FreshBid.back.dto.image.ImageKey;
+import FreshBid.back.dto.image.ImageVariant;
 import lombok.Data;
 
 @Data
 public class UserSearchResponseDto {
     private Long id;
+    @ImageKey(ImageVariant.SMALL)
     private String profileImage;
     private String username;
     private String nickname;
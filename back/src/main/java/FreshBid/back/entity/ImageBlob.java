@@ -0,0 +1,74 @@
+package FreshBid.back.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용이 같은 이미지를 하나의 스토리지 object로 공유하기 위한 참조 정보
+ * 같은 경로(prefix) 안에서 같은 SHA-256의 업로드는 기존 object key를 재사용하고 참조 수만 늘린다.
+ * (경로마다 조회 허용 범위/정리 정책이 다르므로 다른 경로의 object는 공유하지 않음)
+ */
+@Entity
+@Table(name = "image_blob", uniqueConstraints = @UniqueConstraint(
+    name = "uk_image_blob_prefix_content_hash", columnNames = {"prefix", "content_hash"}))
+@Getter
+@NoArgsConstructor
+public class ImageBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 hex
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    // object key의 첫 경로 (live, product, profile-image)
+    @Column(nullable = false, length = 32)
+    private String prefix;
+
+    // 실제 저장된 스토리지 object key
+    @Column(name = "file_path", nullable = false, unique = true)
+    private String filePath;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static ImageBlob of(String contentHash, String prefix, String filePath, long size) {
+        ImageBlob imageBlob = new ImageBlob();
+
+        imageBlob.contentHash = contentHash;
+        imageBlob.prefix = prefix;
+        imageBlob.filePath = filePath;
+        imageBlob.size = size;
+        imageBlob.refCount = 1;
+
+        return imageBlob;
+    }
+
+    public void retain() {
+        this.refCount++;
+    }
+
+    /**
+     * @return 더 이상 참조하는 곳이 없으면 true
+     */
+    public boolean release() {
+        this.refCount--;
+        return this.refCount <= 0;
+    }
+}
@@ -0,0 +1,22 @@
+package FreshBid.back.event;
+
+import FreshBid.back.repository.BidRedisRepositorySupport.WinningBid;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 낙찰 처리(낙찰 기록 저장 + 주문 생성)가 끝난 경매
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuctionFinalizedEvent {
+
+    private final Long auctionId;
+
+    // 낙찰 입찰 (입찰이 없었으면 null)
+    private final WinningBid winningBid;
+
+    public Long getWinningPrice() {
+        return winningBid != null ? winningBid.bid().getBidPrice() : null;
+    }
+}
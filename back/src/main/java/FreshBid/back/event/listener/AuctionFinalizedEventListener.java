@@ -0,0 +1,49 @@
+package FreshBid.back.event.listener;
+
+import FreshBid.back.event.AuctionFinalizedEvent;
+import FreshBid.back.repository.BidRedisRepositorySupport;
+import FreshBid.back.scheduler.BidUpdateTracker;
+import FreshBid.back.service.BidArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionFinalizedEventListener {
+
+    private final BidRedisRepositorySupport bidRedisRepositorySupport;
+    private final BidUpdateTracker bidUpdateTracker;
+    private final BidArchiveService bidArchiveService;
+
+    /**
+     * 낙찰 기록이 커밋된 뒤에 신규 입찰 차단 + 입찰 데이터를 이관 대기 키로 옮기고 나머지 입찰 이관 시작
+     * (롤백된 경우 실행되지 않으므로 경매는 진행 중 상태로 남고 입찰 데이터도 그대로 유지됨)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleAuctionFinalized(AuctionFinalizedEvent event) {
+        Long auctionId = event.getAuctionId();
+        long bidCount;
+        try {
+            bidRedisRepositorySupport.removeActiveAuction(auctionId);
+            bidRedisRepositorySupport.removeCurrentMinBidPrice(auctionId);
+            bidUpdateTracker.clear(auctionId);
+
+            // 낙찰 입찰과 낙찰 입찰을 읽은 뒤 들어온 낙찰가 이상의 입찰은 옮기지 않음 ('입찰'로 저장할 입찰만 남음)
+            bidCount = bidRedisRepositorySupport.moveBidsToArchive(auctionId,
+                event.getWinningBid());
+        } catch (RuntimeException e) {
+            log.error("낙찰 커밋 후 입찰 데이터 정리 실패 - 경매 ID: {}", auctionId, e);
+            return;
+        }
+
+        if (event.getWinningPrice() == null || bidCount == 0) {
+            return;
+        }
+        log.debug("낙찰 처리 커밋 - 입찰 이관 시작, 경매 ID: {}", auctionId);
+        bidArchiveService.archiveAsync(auctionId);
+    }
+}
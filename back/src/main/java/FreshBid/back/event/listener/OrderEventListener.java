@@ -5,6 +5,7 @@ import FreshBid.back.entity.Order;
 import FreshBid.back.entity.Order.OrderStatus;
 import FreshBid.back.event.OrderStatusChangedEvent;
 import FreshBid.back.repository.AuctionHistoryRepository;
+import FreshBid.back.service.BidArchiveService;
 import FreshBid.back.service.EmailService;
 import FreshBid.back.service.OrderService;
 import java.util.Optional;
@@ -24,6 +25,7 @@ public class OrderEventListener {
     private final AuctionHistoryRepository auctionHistoryRepository;
     private final PriceDataService priceDataService;
     private final EmailService emailService;
+    private final BidArchiveService bidArchiveService;
 
     @Async
     @EventListener
@@ -43,18 +45,26 @@ public class OrderEventListener {
             if (event.getNewStatus() == OrderStatus.CANCELLED
                 || event.getNewStatus() == OrderStatus.REFUNDED) {
 
-                // 1. 현재 Order의 AuctionHistory를 '포기'로 변경
+                // 1. 낙찰 처리 후 백그라운드 이관이 끝나지 않았으면 먼저 끝냄
+                // (이관 전에는 auction_history에 '입찰' 행이 없어 차순위 입찰자가 없는 것으로 보고 유찰 처리됨)
+                if (!bidArchiveService.archiveNow(order.getAuction().getId())) {
+                    log.error("입찰 이관이 끝나지 않아 취소/환불 후속 처리 보류 - Auction ID: {}",
+                        order.getAuction().getId());
+                    return;
+                }
+
+                // 2. 현재 Order의 AuctionHistory를 '포기'로 변경
                 AuctionHistory currentHistory = order.getAuctionHistory();
                 currentHistory.setAction(AuctionHistory.Action.포기);
                 auctionHistoryRepository.save(currentHistory);
 
                 log.debug("AuctionHistory 상태 변경 완료 - Order ID: {}, Action: 포기", order.getId());
 
-                // 2. 차순위 입찰자 처리 시작
+                // 3. 차순위 입찰자 처리 시작
                 Optional<AuctionHistory> nextBidderOpt = orderService.processNextBidder(
                     order.getAuction().getId());
 
-                // 3. 새 주문 생성 (차순위 입찰자가 있는 경우에만)
+                // 4. 새 주문 생성 (차순위 입찰자가 있는 경우에만)
                 if (nextBidderOpt.isPresent()) {
                     AuctionHistory nextBidder = nextBidderOpt.get();
                     orderService.createOrder(nextBidder);
@@ -0,0 +1,38 @@
+package FreshBid.back.interceptor;
+
+import FreshBid.back.service.ImageKeyResolveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * JSON 응답을 쓰기 직전에 DTO의 @ImageKey 필드(object key)를 이미지 값으로 일괄 변환
+ * 서비스/컨트롤러마다 이미지 변환 반복문을 두지 않고, 응답 하나당 서로 다른 key 수만큼만 변환한다.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ImageKeyResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ImageKeyResolveService imageKeyResolveService;
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+        Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType,
+        MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        ServerHttpRequest request, ServerHttpResponse response) {
+        // 요청별 전달 방식(base64 등)을 읽을 수 있도록 요청 스레드에서 변환
+        imageKeyResolveService.resolve(body);
+        return body;
+    }
+}
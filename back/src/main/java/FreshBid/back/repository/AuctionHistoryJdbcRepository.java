@@ -0,0 +1,48 @@
+package FreshBid.back.repository;
+
+import FreshBid.back.entity.AuctionHistory;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * auction_history 대량 INSERT 전용 저장소
+ * AuctionHistory는 IDENTITY 키를 사용하므로 JPA saveAll은 행마다 INSERT를 실행한다.
+ * 종료 경매 입찰 이관처럼 ID가 필요 없는 대량 저장은 JDBC batch로 처리한다.
+ * (MySQL에서는 rewriteBatchedStatements=true 일 때 multi-row INSERT로 전송됨)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AuctionHistoryJdbcRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO auction_history (ac_id, buy_id, action, action_time, price) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 트랜잭션으로 일괄 저장 (전부 저장되거나 전부 롤백)
+     */
+    @Transactional
+    public void batchInsert(List<AuctionHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, histories, histories.size(), (ps, history) -> {
+            ps.setLong(1, history.getAuctionId());
+            ps.setLong(2, history.getUserId());
+            ps.setString(3, history.getAction().name());
+            ps.setTimestamp(4, Timestamp.valueOf(history.getActionTime()));
+            ps.setLong(5, history.getPrice());
+        });
+
+        log.debug("auction_history 일괄 저장 완료 - {}건", histories.size());
+    }
+}
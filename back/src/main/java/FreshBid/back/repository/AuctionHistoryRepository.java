@@ -17,6 +17,8 @@ public interface AuctionHistoryRepository extends JpaRepository<AuctionHistory,
     AuctionHistory findTopByAuctionIdAndActionOrderByPriceDesc(Long auctionId,
         AuctionHistory.Action action);
 
+    long countByAuctionIdAndAction(Long auctionId, AuctionHistory.Action action);
+
     boolean existsByAuctionIdAndAction(Long auctionId, AuctionHistory.Action action);
 
     /**
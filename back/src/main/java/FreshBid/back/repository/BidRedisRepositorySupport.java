@@ -1,19 +1,28 @@
 package FreshBid.back.repository;
 
+import FreshBid.back.dto.bid.BidPlacementResultDto;
+import FreshBid.back.dto.bid.BidPlacementResultDto.Result;
 import FreshBid.back.entity.BidRecord;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import FreshBid.back.repository.codec.BidRecordCodec;
+import FreshBid.back.repository.codec.CompactBidRecordCodec;
+import FreshBid.back.repository.codec.JsonBidRecordCodec;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,25 +30,150 @@ import java.util.stream.Collectors;
 public class BidRedisRepositorySupport {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+
+    // 읽기는 member 형식을 보고 코덱을 고르므로(JSON/compact 혼용 가능) 쓰기 코덱만 설정으로 선택
+    private final List<BidRecordCodec> codecs = List.of(new CompactBidRecordCodec(),
+        new JsonBidRecordCodec());
+    private final BidRecordCodec writeCodec;
 
     private static final String BID_KEY_PREFIX = "auction:bids:";
     private static final String ACTIVE_AUCTIONS_KEY = "auction:active:"; // auctionId -> roomId 매핑
+    private static final String ROOM_ACTIVE_AUCTIONS_PREFIX = "auction:active:room:"; // 룸별 진행 중인 경매 ID (역방향 매핑)
     private static final String CURRENT_MIN_BID_PREFIX = "auction:current_min_bid:"; // 3초 구간별 최소 입찰가
     private static final long BID_TTL = 36000; // 10시간 (초 단위)
 
-    public BidRedisRepositorySupport(@Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+    private static final String ARCHIVE_BID_KEY_PREFIX = "auction:bids:archive:"; // 종료 후 MySQL 이관 대기 입찰
+    private static final String ARCHIVE_PENDING_KEY = "auction:archive:pending"; // 이관 대기 경매 ID
+    private static final String ARCHIVE_LOCK_PREFIX = "auction:archive:lock:"; // 이관 작업 중복 실행 방지
+    private static final long ARCHIVE_TTL = 604800; // 7일 (초 단위), 이관 실패 시 재시도 여유
+
+    private static final String DIRTY_AUCTIONS_KEY_PREFIX = "auction:dirty:"; // 담당 서버별, 다른 서버에서 넘겨받은 브로드캐스트 대상 경매
+    private static final String WINDOW_HIGH_KEY_PREFIX = "auction:window_high:"; // 담당 서버별, 다른 서버에서 넘겨받은 구간 최고가
+    private static final String WINDOW_LOCK_PREFIX = "auction:window_lock:"; // 구간당 한 서버만 최소 입찰가 갱신
+
+    // 진행 여부 확인 + 최소 입찰가 검증 + ZADD + EXPIRE 를 한 번에 수행하는 스크립트
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TRY_PLACE_BID_SCRIPT = createTryPlaceBidScript();
+
+    // 입찰 Sorted Set → 이관 대기 키 이동 + 이관 대기 목록 등록을 한 번에 수행하는 스크립트
+    private static final RedisScript<Long> MOVE_BIDS_TO_ARCHIVE_SCRIPT = RedisScript.of(
+        new ClassPathResource("scripts/move_bids_to_archive.lua"), Long.class);
+
+    // 소유자 토큰이 같을 때만 잠금을 삭제하는 스크립트
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = RedisScript.of(
+        new ClassPathResource("scripts/release_lock.lua"), Long.class);
+
+    // 브로드캐스트 대상 경매 추가 + 구간 최고가 최댓값 병합을 한 번에 수행하는 스크립트
+    private static final RedisScript<Long> FORWARD_BID_UPDATES_SCRIPT = RedisScript.of(
+        new ClassPathResource("scripts/forward_bid_updates.lua"), Long.class);
+
+    // 여러 서버 앞으로 넘겨진 변경 정보를 한 번에 읽고 삭제하는 스크립트 (중간 실패 시 일부 키만 지워지는 유실 방지)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_BID_UPDATES_SCRIPT = RedisScript.of(
+        new ClassPathResource("scripts/drain_bid_updates.lua"), List.class);
+
+    // 구간 갱신 잠금을 잡은 서버만 다음 구간 최소 입찰가를 올리는 스크립트
+    private static final RedisScript<String> ADVANCE_BID_WINDOW_SCRIPT = RedisScript.of(
+        new ClassPathResource("scripts/advance_bid_window.lua"), String.class);
+
+    public BidRedisRepositorySupport(@Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+        @Value("${bid.codec.write:" + CompactBidRecordCodec.NAME + "}") String writeCodecName) {
         this.redisTemplate = redisTemplate;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.writeCodec = codecs.stream()
+            .filter(codec -> codec.name().equalsIgnoreCase(writeCodecName))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(
+                "지원하지 않는 입찰 코덱입니다: " + writeCodecName));
+        log.info("입찰 member 쓰기 코덱: {}", writeCodec.name());
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static RedisScript<List> createTryPlaceBidScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("scripts/try_place_bid.lua"));
+        script.setResultType(List.class);
+        return script;
+    }
+
+    /**
+     * 입찰을 Redis 서버에서 원자적으로 검증 후 저장
+     * 경매 진행 여부(auction:active:), 현재 구간 최소 입찰가 검증, Sorted Set 저장, TTL 설정을
+     * 하나의 Lua 스크립트로 처리하여 왕복 횟수를 줄이고 동시 입찰 간 경쟁 조건을 제거한다.
+     *
+     * @param bidRecord  저장할 입찰 기록
+     * @param startPrice 구간 최소 입찰가가 아직 없을 때 사용할 경매 시작가
+     * @return 입찰 수락 여부, 검증에 사용된 최소 입찰가, 실행 직후 최고 입찰가
+     */
+    public BidPlacementResultDto tryPlaceBid(BidRecord bidRecord, Long startPrice) {
+        validateBidRecord(bidRecord);
+        if (startPrice == null) {
+            throw new IllegalArgumentException("경매 시작가는 null일 수 없습니다.");
+        }
+
+        Long auctionId = bidRecord.getAuctionId();
+        List<String> keys = List.of(
+            ACTIVE_AUCTIONS_KEY,
+            CURRENT_MIN_BID_PREFIX + auctionId,
+            BID_KEY_PREFIX + auctionId);
+
+        List<?> raw = redisTemplate.execute(TRY_PLACE_BID_SCRIPT, keys,
+            auctionId.toString(),
+            bidRecord.getBidPrice().toString(),
+            startPrice.toString(),
+            writeCodec.encode(bidRecord),
+            String.valueOf(BID_TTL));
+
+        if (raw == null || raw.size() < 3) {
+            throw new IllegalStateException("입찰 스크립트 실행 결과가 올바르지 않습니다.");
+        }
+
+        long code = toLong(raw.get(0));
+        long minPrice = toLong(raw.get(1));
+        long highestPrice = toLong(raw.get(2));
+
+        Result result = code == 1 ? Result.ACCEPTED
+            : code == 0 ? Result.NOT_ACTIVE : Result.BELOW_MIN_PRICE;
+
+        log.debug("입찰 스크립트 실행 완료 - 경매 ID: {}, 입찰가: {}, 결과: {}, 최고가: {}",
+            auctionId, bidRecord.getBidPrice(), result, highestPrice);
+
+        return BidPlacementResultDto.builder()
+            .result(result)
+            .minBidPrice(minPrice < 0 ? null : minPrice)
+            .highestPrice(highestPrice < 0 ? null : highestPrice)
+            .build();
+    }
+
+    private long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return Long.parseLong(String.valueOf(value));
     }
 
     /**
      * 입찰 기록을 Redis Sorted Set에 저장
      * Score: -bidPrice (내림차순 정렬을 위해 음수 사용)
-     * Member: JSON 직렬화된 BidRecord
+     * Member: 쓰기 코덱(bid.codec.write)으로 인코딩된 BidRecord
      */
     public void saveBid(BidRecord bidRecord) {
+        validateBidRecord(bidRecord);
+
+        String key = BID_KEY_PREFIX + bidRecord.getAuctionId();
+        String member = writeCodec.encode(bidRecord);
+        double score = -bidRecord.getBidPrice().doubleValue(); // 내림차순을 위해 음수
+
+        // Sorted Set에 저장
+        redisTemplate.opsForZSet().add(key, member, score);
+
+        // TTL 설정
+        redisTemplate.expire(key, java.time.Duration.ofSeconds(BID_TTL));
+
+        log.debug("입찰 저장 완료 - 경매 ID: {}, 입찰가: {}",
+                 bidRecord.getAuctionId(), bidRecord.getBidPrice());
+    }
+
+    private void validateBidRecord(BidRecord bidRecord) {
         if (bidRecord == null) {
             throw new IllegalArgumentException("BidRecord는 null일 수 없습니다.");
         }
@@ -49,25 +183,6 @@ public class BidRedisRepositorySupport {
         if (bidRecord.getBidPrice() == null) {
             throw new IllegalArgumentException("입찰가는 null일 수 없습니다.");
         }
-        
-        try {
-            String key = BID_KEY_PREFIX + bidRecord.getAuctionId();
-            String memberJson = objectMapper.writeValueAsString(bidRecord);
-            double score = -bidRecord.getBidPrice().doubleValue(); // 내림차순을 위해 음수
-
-            // Sorted Set에 저장
-            redisTemplate.opsForZSet().add(key, memberJson, score);
-
-            // TTL 설정
-            redisTemplate.expire(key, java.time.Duration.ofSeconds(BID_TTL));
-
-            log.debug("입찰 저장 완료 - 경매 ID: {}, 입찰가: {}",
-                     bidRecord.getAuctionId(), bidRecord.getBidPrice());
-
-        } catch (JsonProcessingException e) {
-            log.error("BidRecord JSON 직렬화 실패", e);
-            throw new RuntimeException("입찰 저장 중 오류가 발생했습니다.", e);
-        }
     }
 
     /**
@@ -82,9 +197,9 @@ public class BidRedisRepositorySupport {
         }
         
         String key = BID_KEY_PREFIX + auctionId;
-        Set<String> bidJsons = redisTemplate.opsForZSet().range(key, 0, count - 1);
+        Set<String> members = redisTemplate.opsForZSet().range(key, 0, count - 1);
 
-        return convertJsonsToBidRecords(bidJsons);
+        return decodeMembers(members, auctionId);
     }
 
     /**
@@ -96,14 +211,13 @@ public class BidRedisRepositorySupport {
         }
         
         String key = BID_KEY_PREFIX + auctionId;
-        Set<String> bidJsons = redisTemplate.opsForZSet().range(key, 0, 0);
+        Set<String> members = redisTemplate.opsForZSet().range(key, 0, 0);
 
-        if (bidJsons == null || bidJsons.isEmpty()) {
+        if (members == null || members.isEmpty()) {
             return null;
         }
 
-        String bidJson = bidJsons.iterator().next();
-        return convertJsonToBidRecord(bidJson);
+        return decodeMember(members.iterator().next(), auctionId);
     }
 
     /**
@@ -115,9 +229,9 @@ public class BidRedisRepositorySupport {
         }
         
         String key = BID_KEY_PREFIX + auctionId;
-        Set<String> bidJsons = redisTemplate.opsForZSet().range(key, 0, -1);
+        Set<String> members = redisTemplate.opsForZSet().range(key, 0, -1);
 
-        return convertJsonsToBidRecords(bidJsons);
+        return decodeMembers(members, auctionId);
     }
 
     /**
@@ -147,21 +261,19 @@ public class BidRedisRepositorySupport {
     }
 
     /**
-     * JSON 배열을 BidRecord 리스트로 변환
+     * Sorted Set member 목록을 BidRecord 리스트로 변환
      */
-    private List<BidRecord> convertJsonsToBidRecords(Set<String> bidJsons) {
+    private List<BidRecord> decodeMembers(Set<String> members, Long auctionId) {
         List<BidRecord> bidRecords = new ArrayList<>();
-        
-        if (bidJsons == null || bidJsons.isEmpty()) {
+
+        if (members == null || members.isEmpty()) {
             return bidRecords;
         }
 
-        for (String bidJson : bidJsons) {
-            if (bidJson != null && !bidJson.trim().isEmpty()) {
-                BidRecord bidRecord = convertJsonToBidRecord(bidJson);
-                if (bidRecord != null) {
-                    bidRecords.add(bidRecord);
-                }
+        for (String member : members) {
+            BidRecord bidRecord = decodeMember(member, auctionId);
+            if (bidRecord != null) {
+                bidRecords.add(bidRecord);
             }
         }
 
@@ -169,20 +281,173 @@ public class BidRedisRepositorySupport {
     }
 
     /**
-     * JSON 문자열을 BidRecord 객체로 변환
+     * Sorted Set member를 형식에 맞는 코덱으로 BidRecord 변환 (JSON/compact 혼용 읽기)
      */
-    private BidRecord convertJsonToBidRecord(String bidJson) {
-        if (bidJson == null || bidJson.trim().isEmpty()) {
-            log.warn("JSON 문자열이 null이거나 비어있습니다.");
+    private BidRecord decodeMember(String member, Long auctionId) {
+        if (member == null || member.isEmpty()) {
+            log.warn("입찰 member가 null이거나 비어있습니다.");
             return null;
         }
-        
-        try {
-            return objectMapper.readValue(bidJson, BidRecord.class);
-        } catch (JsonProcessingException e) {
-            log.error("BidRecord JSON 역직렬화 실패: {}", bidJson, e);
+
+        for (BidRecordCodec codec : codecs) {
+            if (codec.supports(member)) {
+                return codec.decode(member, auctionId);
+            }
+        }
+
+        log.error("지원하지 않는 입찰 member 형식: {}", member);
+        return null;
+    }
+
+    // ================ 종료 경매 입찰 이관 ================
+
+    /**
+     * 낙찰 처리용 최고가 입찰 조회
+     * 같은 가격 입찰도 받으므로, 이관 시 낙찰 입찰과 이때 이미 있던 같은 가격 입찰을 구분할 수 있도록 member를 함께 반환
+     *
+     * @return 입찰이 없으면 null
+     */
+    public WinningBid getWinningBid(Long auctionId) {
+        if (auctionId == null) {
+            throw new IllegalArgumentException("경매 ID는 null일 수 없습니다.");
+        }
+
+        String key = BID_KEY_PREFIX + auctionId;
+        Set<ZSetOperations.TypedTuple<String>> top = redisTemplate.opsForZSet()
+            .rangeWithScores(key, 0, 0);
+        if (top == null || top.isEmpty()) {
             return null;
         }
+
+        ZSetOperations.TypedTuple<String> winner = top.iterator().next();
+        Set<String> sameScore = redisTemplate.opsForZSet()
+            .rangeByScore(key, winner.getScore(), winner.getScore());
+        List<String> tiedMembers = sameScore == null ? List.of() : sameScore.stream()
+            .filter(member -> !member.equals(winner.getValue()))
+            .toList();
+
+        return new WinningBid(decodeMember(winner.getValue(), auctionId), winner.getValue(),
+            tiedMembers);
+    }
+
+    /**
+     * 낙찰 입찰과 그 Sorted Set member, 조회 시점에 있던 같은 가격의 다른 입찰 member
+     */
+    public record WinningBid(BidRecord bid, String member, List<String> tiedMembers) {
+
+    }
+
+    /**
+     * 종료된 경매의 입찰 Sorted Set을 이관 대기 키로 옮기고 이관 대기 목록에 등록
+     * 이후 들어오는 입찰과 섞이지 않으며, 이관이 끝날 때까지 TTL이 ARCHIVE_TTL로 연장된다.
+     * 낙찰 입찰(낙찰 처리 시 '낙찰'로 저장됨)과 낙찰 입찰을 읽은 뒤 들어온 낙찰가 이상의 입찰은 옮기지 않고 버리므로,
+     * 이관 대기 키에는 '입찰'로 저장할 입찰만 남는다.
+     *
+     * @param winningBid 낙찰 입찰 (입찰이 없었으면 null)
+     * @return 이관 대기 중인 입찰 수 (0이면 옮길 입찰 없음)
+     */
+    public long moveBidsToArchive(Long auctionId, WinningBid winningBid) {
+        if (auctionId == null) {
+            throw new IllegalArgumentException("경매 ID는 null일 수 없습니다.");
+        }
+
+        List<String> keys = List.of(BID_KEY_PREFIX + auctionId,
+            ARCHIVE_BID_KEY_PREFIX + auctionId, ARCHIVE_PENDING_KEY);
+        List<String> args = new ArrayList<>();
+        args.add(auctionId.toString());
+        args.add(String.valueOf(ARCHIVE_TTL));
+        if (winningBid != null) {
+            args.add(winningBid.bid().getBidPrice().toString());
+            args.add(winningBid.member());
+            args.addAll(winningBid.tiedMembers());
+        }
+        Long count = redisTemplate.execute(MOVE_BIDS_TO_ARCHIVE_SCRIPT, keys, args.toArray());
+
+        log.debug("입찰 이관 대기 등록 - 경매 ID: {}, 입찰 수: {}", auctionId, count);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 이관 대기 입찰을 순위 구간으로 조회 (bidPrice 내림차순, 낙찰 입찰은 포함되지 않음)
+     */
+    public List<BidRecord> getArchivedBids(Long auctionId, long start, int count) {
+        if (auctionId == null) {
+            throw new IllegalArgumentException("경매 ID는 null일 수 없습니다.");
+        }
+        if (start < 0 || count <= 0) {
+            throw new IllegalArgumentException("조회 구간이 올바르지 않습니다.");
+        }
+
+        String key = ARCHIVE_BID_KEY_PREFIX + auctionId;
+        Set<String> members = redisTemplate.opsForZSet().range(key, start, start + count - 1);
+
+        return decodeMembers(members, auctionId);
+    }
+
+    /**
+     * 이관 대기 입찰 중 최고가 입찰 조회
+     */
+    public BidRecord getHighestArchivedBid(Long auctionId) {
+        List<BidRecord> top = getArchivedBids(auctionId, 0, 1);
+        return top.isEmpty() ? null : top.get(0);
+    }
+
+    /**
+     * 이관이 끝나지 않은 경매 ID 목록
+     */
+    public List<Long> getPendingArchiveAuctions() {
+        Set<String> members = redisTemplate.opsForSet().members(ARCHIVE_PENDING_KEY);
+        if (members == null || members.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return members.stream().map(Long::parseLong).toList();
+    }
+
+    /**
+     * 이관이 끝나지 않은 경매인지 (auction_history에 아직 없는 입찰이 Redis에 남아 있음)
+     */
+    public boolean isArchivePending(Long auctionId) {
+        if (auctionId == null) {
+            throw new IllegalArgumentException("경매 ID는 null일 수 없습니다.");
+        }
+        return Boolean.TRUE.equals(
+            redisTemplate.opsForSet().isMember(ARCHIVE_PENDING_KEY, auctionId.toString()));
+    }
+
+    /**
+     * 이관 완료 처리: 이관 대기 키 삭제 및 대기 목록에서 제거
+     */
+    public void completeArchive(Long auctionId) {
+        if (auctionId == null) {
+            throw new IllegalArgumentException("경매 ID는 null일 수 없습니다.");
+        }
+
+        redisTemplate.delete(ARCHIVE_BID_KEY_PREFIX + auctionId);
+        redisTemplate.opsForSet().remove(ARCHIVE_PENDING_KEY, auctionId.toString());
+        log.debug("입찰 이관 완료 처리 - 경매 ID: {}", auctionId);
+    }
+
+    /**
+     * 경매 하나의 이관 작업 잠금 획득 (여러 서버/스케줄러가 같은 경매를 동시에 이관하지 않도록)
+     *
+     * @return 해제 시 넘길 소유자 토큰, 다른 쪽이 잡고 있으면 null
+     */
+    public String tryAcquireArchiveLock(Long auctionId, java.time.Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue()
+            .setIfAbsent(ARCHIVE_LOCK_PREFIX + auctionId, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    /**
+     * 이관 작업 잠금 해제 (TTL이 지나 다른 서버가 다시 잡은 잠금은 지우지 않음)
+     */
+    public void releaseArchiveLock(Long auctionId, String token) {
+        Long released = redisTemplate.execute(RELEASE_LOCK_SCRIPT,
+            List.of(ARCHIVE_LOCK_PREFIX + auctionId), token);
+        if (released == null || released == 0) {
+            log.warn("이관 잠금이 만료되어 다른 작업이 잡고 있음 - 경매 ID: {}", auctionId);
+        }
     }
 
     // ================ 경매-룸 매핑 관리 ================
@@ -196,6 +461,7 @@ public class BidRedisRepositorySupport {
         }
         
         redisTemplate.opsForHash().put(ACTIVE_AUCTIONS_KEY, auctionId.toString(), roomId.toString());
+        redisTemplate.opsForSet().add(ROOM_ACTIVE_AUCTIONS_PREFIX + roomId, auctionId.toString());
         log.debug("활성 경매 등록 - 경매 ID: {}, 룸 ID: {}", auctionId, roomId);
     }
 
@@ -207,10 +473,41 @@ public class BidRedisRepositorySupport {
             throw new IllegalArgumentException("경매 ID는 null일 수 없습니다.");
         }
         
+        Long roomId = getActiveAuctionRoomId(auctionId);
         redisTemplate.opsForHash().delete(ACTIVE_AUCTIONS_KEY, auctionId.toString());
+        if (roomId != null) {
+            redisTemplate.opsForSet().remove(ROOM_ACTIVE_AUCTIONS_PREFIX + roomId, auctionId.toString());
+        }
         log.debug("활성 경매 삭제 - 경매 ID: {}", auctionId);
     }
 
+    /**
+     * 진행 중인 경매의 roomId 조회 (진행 중이 아니면 null)
+     */
+    public Long getActiveAuctionRoomId(Long auctionId) {
+        if (auctionId == null) {
+            throw new IllegalArgumentException("경매 ID는 null일 수 없습니다.");
+        }
+
+        Object roomId = redisTemplate.opsForHash().get(ACTIVE_AUCTIONS_KEY, auctionId.toString());
+        return roomId != null ? Long.parseLong(roomId.toString()) : null;
+    }
+
+    /**
+     * 특정 룸에서 진행 중인 경매 ID 조회 (전체 매핑을 읽지 않고 룸 단위로 조회)
+     */
+    public Set<Long> getActiveAuctionIdsByRoom(Long roomId) {
+        if (roomId == null) {
+            throw new IllegalArgumentException("룸 ID는 null일 수 없습니다.");
+        }
+
+        Set<String> auctionIds = redisTemplate.opsForSet().members(ROOM_ACTIVE_AUCTIONS_PREFIX + roomId);
+        if (auctionIds == null || auctionIds.isEmpty()) {
+            return Set.of();
+        }
+        return auctionIds.stream().map(Long::parseLong).collect(Collectors.toSet());
+    }
+
     /**
      * 모든 진행 중인 경매와 roomId 매핑 조회
      */
@@ -278,4 +575,96 @@ public class BidRedisRepositorySupport {
         redisTemplate.delete(key);
         log.debug("현재 최소 입찰가 삭제 - 경매 ID: {}", auctionId);
     }
-}
\ No newline at end of file
+
+    // ================ 서버 간 입찰 변경 정보 전달 ================
+
+    /**
+     * 이 서버에서 수락한 입찰 중 다른 서버가 담당하는 경매의 변경 정보를 담당 서버에게 넘김
+     *
+     * @param ownerNodeId         담당 서버 식별자
+     * @param dirtyAuctions       브로드캐스트가 필요한 경매
+     * @param windowHighestPrices 경매별 현재 구간 최고가 (기존 값보다 클 때만 반영)
+     */
+    public void forwardBidUpdates(String ownerNodeId, Collection<Long> dirtyAuctions,
+        Map<Long, Long> windowHighestPrices) {
+        if (dirtyAuctions.isEmpty() && windowHighestPrices.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(dirtyAuctions.size()));
+        dirtyAuctions.forEach(auctionId -> args.add(auctionId.toString()));
+        windowHighestPrices.forEach((auctionId, price) -> {
+            args.add(auctionId.toString());
+            args.add(price.toString());
+        });
+
+        redisTemplate.execute(FORWARD_BID_UPDATES_SCRIPT,
+            List.of(DIRTY_AUCTIONS_KEY_PREFIX + ownerNodeId, WINDOW_HIGH_KEY_PREFIX + ownerNodeId),
+            args.toArray());
+        log.debug("입찰 변경 정보 전달 - 담당 서버: {}, 경매 수: {}, 구간 최고가 수: {}", ownerNodeId,
+            dirtyAuctions.size(), windowHighestPrices.size());
+    }
+
+    /**
+     * 담당 서버들 앞으로 넘겨받은 브로드캐스트 대상 경매와 구간 최고가를 한 번에 꺼내고 비움
+     * 모든 키를 하나의 스크립트에서 비우므로, 실패하면 아무 키도 지워지지 않는다.
+     */
+    public ForwardedBidUpdates drainForwardedBidUpdates(Collection<String> ownerNodeIds) {
+        if (ownerNodeIds.isEmpty()) {
+            return new ForwardedBidUpdates(List.of(), Map.of());
+        }
+
+        List<String> keys = new ArrayList<>();
+        for (String ownerNodeId : ownerNodeIds) {
+            keys.add(DIRTY_AUCTIONS_KEY_PREFIX + ownerNodeId);
+            keys.add(WINDOW_HIGH_KEY_PREFIX + ownerNodeId);
+        }
+
+        List<?> raw = redisTemplate.execute(DRAIN_BID_UPDATES_SCRIPT, keys);
+        if (raw == null || raw.size() < 2) {
+            return new ForwardedBidUpdates(List.of(), Map.of());
+        }
+
+        List<Long> dirtyAuctions = ((List<?>) raw.get(0)).stream()
+            .map(value -> Long.parseLong(String.valueOf(value)))
+            .toList();
+        List<?> values = (List<?>) raw.get(1);
+        Map<Long, Long> prices = new HashMap<>();
+        for (int i = 0; i + 1 < values.size(); i += 2) {
+            prices.put(Long.parseLong(String.valueOf(values.get(i))),
+                Long.parseLong(String.valueOf(values.get(i + 1))));
+        }
+        return new ForwardedBidUpdates(dirtyAuctions, prices);
+    }
+
+    /**
+     * 넘겨받은 입찰 변경 정보 (브로드캐스트 대상 경매, 경매별 구간 최고가)
+     */
+    public record ForwardedBidUpdates(List<Long> dirtyAuctions, Map<Long, Long> windowHighestPrices) {
+
+    }
+
+    /**
+     * 다음 3초 구간 최소 입찰가 갱신 (경매마다 구간당 한 서버만)
+     * 담당 서버가 바뀌는 동안 두 서버가 같은 경매를 처리하지 않도록 잠금을 잡은 서버만 갱신하며, 최소 입찰가는 낮추지 않는다.
+     *
+     * @param lockTtl 잠금 유지 시간 (구간 길이보다 짧게)
+     * @return 갱신했으면 null, 이번 구간을 이미 다른 서버가 갱신했으면 그 서버 식별자
+     */
+    public String tryAdvanceBidWindow(Long auctionId, String nodeId, java.time.Duration lockTtl,
+        Long minPrice) {
+        if (auctionId == null || minPrice == null) {
+            throw new IllegalArgumentException("경매 ID와 최소 입찰가는 null일 수 없습니다.");
+        }
+
+        String holder = redisTemplate.execute(ADVANCE_BID_WINDOW_SCRIPT,
+            List.of(WINDOW_LOCK_PREFIX + auctionId, CURRENT_MIN_BID_PREFIX + auctionId),
+            nodeId, String.valueOf(lockTtl.toMillis()), minPrice.toString(),
+            String.valueOf(BID_TTL));
+        if (holder == null) {
+            log.debug("현재 최소 입찰가 갱신 - 경매 ID: {}, 최소 입찰가: {}", auctionId, minPrice);
+        }
+        return holder;
+    }
+}
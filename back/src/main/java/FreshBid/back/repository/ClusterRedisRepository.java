@@ -0,0 +1,65 @@
+package FreshBid.back.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 여러 서버가 함께 쓰는 클러스터 조정 정보 저장소
+ * cluster:members ZSET (member: 서버 식별자, score: heartbeat 만료 시각 epoch ms)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClusterRedisRepository {
+
+    private static final String MEMBERS_KEY = "cluster:members";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * heartbeat 기록 (만료 시각 갱신)
+     */
+    public void heartbeat(String nodeId, long expiresAtMillis) {
+        redisTemplate.opsForZSet().add(MEMBERS_KEY, nodeId, expiresAtMillis);
+    }
+
+    /**
+     * 만료되지 않은 서버 목록
+     */
+    public List<String> findLiveMembers(long nowMillis) {
+        Set<String> members = redisTemplate.opsForZSet()
+            .rangeByScore(MEMBERS_KEY, nowMillis, Double.POSITIVE_INFINITY);
+        return members == null ? List.of() : new ArrayList<>(members);
+    }
+
+    /**
+     * 만료된 서버 제거
+     *
+     * @return 이 호출로 제거한 서버 (여러 서버가 동시에 정리해도 서버마다 한 곳에서만 반환됨)
+     */
+    public List<String> removeExpiredMembers(long nowMillis) {
+        Set<String> expired = redisTemplate.opsForZSet()
+            .rangeByScore(MEMBERS_KEY, Double.NEGATIVE_INFINITY, nowMillis - 1);
+        List<String> removed = new ArrayList<>();
+        if (expired == null) {
+            return removed;
+        }
+        for (String nodeId : expired) {
+            Long count = redisTemplate.opsForZSet().remove(MEMBERS_KEY, nodeId);
+            if (count != null && count > 0) {
+                removed.add(nodeId);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 정상 종료 시 바로 만료 처리 (다른 서버가 제거하면서 남은 작업을 넘겨받도록 삭제하지 않음)
+     */
+    public void expireMember(String nodeId) {
+        redisTemplate.opsForZSet().add(MEMBERS_KEY, nodeId, 0);
+    }
+}
@@ -0,0 +1,19 @@
+package FreshBid.back.repository;
+
+import FreshBid.back.entity.ImageBlob;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, Long> {
+
+    // 참조 수 변경은 같은 행을 잠근 뒤 처리 (동시 업로드/삭제)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ImageBlob> findByPrefixAndContentHash(String prefix, String contentHash);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ImageBlob> findByFilePath(String filePath);
+}
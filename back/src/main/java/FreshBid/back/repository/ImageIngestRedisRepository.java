@@ -0,0 +1,103 @@
+package FreshBid.back.repository;
+
+import FreshBid.back.dto.image.ImageIngestStatusDto;
+import FreshBid.back.dto.image.ImageIngestStatusDto.Status;
+import FreshBid.back.dto.image.ImageUploadResultDto;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 비동기 이미지 업로드 상태 저장소 (어느 서버로 조회해도 같은 상태가 보이도록 Redis에 저장)
+ * image:ingest:{filePath} HASH (status, attempts, error, updatedAt
+ *                                + 작업 정보 contentType, size, contentHash: 재시작 후 임시 파일로 이어서 처리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ImageIngestRedisRepository {
+
+    private static final String INGEST_KEY_PREFIX = "image:ingest:";
+    private static final Duration STATUS_TTL = Duration.ofDays(1);
+
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_ATTEMPTS = "attempts";
+    private static final String FIELD_ERROR = "error";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
+    private static final String FIELD_CONTENT_TYPE = "contentType";
+    private static final String FIELD_SIZE = "size";
+    private static final String FIELD_CONTENT_HASH = "contentHash";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void save(String filePath, Status status, int attempts, String error) {
+        String key = INGEST_KEY_PREFIX + filePath;
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_STATUS, status.name());
+        fields.put(FIELD_ATTEMPTS, String.valueOf(attempts));
+        fields.put(FIELD_ERROR, error != null ? error : "");
+        fields.put(FIELD_UPDATED_AT, LocalDateTime.now().toString());
+
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, STATUS_TTL);
+    }
+
+    /**
+     * 업로드 작업 정보 저장 (작업 시작 시 한 번, 이후 상태 갱신과 같은 HASH에 유지)
+     */
+    public void saveJob(ImageUploadResultDto prepared) {
+        String key = INGEST_KEY_PREFIX + prepared.getFilePath();
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_CONTENT_TYPE,
+            prepared.getContentType() != null ? prepared.getContentType() : "");
+        fields.put(FIELD_SIZE, String.valueOf(prepared.getSize()));
+        fields.put(FIELD_CONTENT_HASH, prepared.getContentHash());
+
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, STATUS_TTL);
+    }
+
+    /**
+     * @return 작업 정보가 없으면 (시작 전 취소/만료) null
+     */
+    public ImageUploadResultDto findJob(String filePath) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(INGEST_KEY_PREFIX + filePath);
+        String contentHash = (String) fields.get(FIELD_CONTENT_HASH);
+        if (contentHash == null) {
+            return null;
+        }
+
+        String contentType = (String) fields.get(FIELD_CONTENT_TYPE);
+        return ImageUploadResultDto.builder()
+            .filePath(filePath)
+            .contentType(contentType == null || contentType.isEmpty() ? null : contentType)
+            .size(Long.parseLong((String) fields.get(FIELD_SIZE)))
+            .contentHash(contentHash)
+            .deduplicated(false)
+            .build();
+    }
+
+    /**
+     * @return 상태 정보가 없으면 null
+     */
+    public ImageIngestStatusDto find(String filePath) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(INGEST_KEY_PREFIX + filePath);
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        String error = (String) fields.get(FIELD_ERROR);
+        return ImageIngestStatusDto.builder()
+            .filePath(filePath)
+            .status(Status.valueOf((String) fields.get(FIELD_STATUS)))
+            .attempts(Integer.parseInt((String) fields.get(FIELD_ATTEMPTS)))
+            .error(error == null || error.isEmpty() ? null : error)
+            .updatedAt(LocalDateTime.parse((String) fields.get(FIELD_UPDATED_AT)))
+            .build();
+    }
+}
@@ -0,0 +1,57 @@
+package FreshBid.back.repository;
+
+import java.time.Duration;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 진행 중인 라이브의 Kurento 미디어 객체 ID 저장소
+ * 호스트가 연결된 서버가 아닌 곳에 참가자가 접속해도 같은 파이프라인에 연결할 수 있도록 공유한다.
+ * live:room:{liveId} HASH (pipeline, composite, hostEndpoint)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LiveRoomRedisRepository {
+
+    private static final String ROOM_KEY_PREFIX = "live:room:";
+
+    // 호스트 서버가 종료 처리 없이 내려간 경우에 대비한 만료 시간
+    private static final Duration ROOM_TTL = Duration.ofHours(12);
+
+    private static final String FIELD_PIPELINE = "pipeline";
+    private static final String FIELD_COMPOSITE = "composite";
+    private static final String FIELD_HOST_ENDPOINT = "hostEndpoint";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public record RoomMedia(String pipelineId, String compositeId, String hostEndpointId) {
+
+    }
+
+    public void save(Long liveId, RoomMedia media) {
+        String key = ROOM_KEY_PREFIX + liveId;
+        redisTemplate.opsForHash().putAll(key, Map.of(
+            FIELD_PIPELINE, media.pipelineId(),
+            FIELD_COMPOSITE, media.compositeId(),
+            FIELD_HOST_ENDPOINT, media.hostEndpointId()));
+        redisTemplate.expire(key, ROOM_TTL);
+    }
+
+    /**
+     * 진행 중인 라이브가 없으면 null
+     */
+    public RoomMedia find(Long liveId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(ROOM_KEY_PREFIX + liveId);
+        if (entries.isEmpty()) {
+            return null;
+        }
+        return new RoomMedia((String) entries.get(FIELD_PIPELINE),
+            (String) entries.get(FIELD_COMPOSITE), (String) entries.get(FIELD_HOST_ENDPOINT));
+    }
+
+    public void delete(Long liveId) {
+        redisTemplate.delete(ROOM_KEY_PREFIX + liveId);
+    }
+}
@@ -0,0 +1,43 @@
+package FreshBid.back.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 여러 서버가 함께 쓰는 입찰 토큰 버킷 저장소
+ * rate:bid:user:{userId}, rate:bid:room:{roomId} HASH (tokens, ts)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RateLimitRedisRepository {
+
+    private static final String USER_BUCKET_PREFIX = "rate:bid:user:";
+    private static final String ROOM_BUCKET_PREFIX = "rate:bid:room:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> BID_RATE_LIMIT_SCRIPT = RedisScript.of(
+        new ClassPathResource("scripts/bid_rate_limit.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 사용자/룸 버킷에서 토큰 하나씩 소비 (충전 기준 시각은 Redis 서버 시계)
+     *
+     * @return [결과 (0: 허용, 1: 사용자 제한, 2: 룸 제한), 다시 시도 가능까지 ms]
+     */
+    public long[] tryConsumeBidTokens(Long userId, Long roomId, int userBurst,
+        double userRefillPerSecond, int roomBurst, double roomRefillPerSecond) {
+        List<?> result = redisTemplate.execute(BID_RATE_LIMIT_SCRIPT,
+            List.of(USER_BUCKET_PREFIX + userId, ROOM_BUCKET_PREFIX + roomId),
+            String.valueOf(userBurst), String.valueOf(userRefillPerSecond),
+            String.valueOf(roomBurst), String.valueOf(roomRefillPerSecond));
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("입찰 요청 제한 스크립트 결과가 없습니다.");
+        }
+        return new long[]{((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue()};
+    }
+}
@@ -0,0 +1,33 @@
+package FreshBid.back.repository.codec;
+
+import FreshBid.back.entity.BidRecord;
+
+/**
+ * auction:bids:{auctionId} Sorted Set member 인코딩/디코딩 방식
+ */
+public interface BidRecordCodec {
+
+    /**
+     * 코덱 이름 (설정값 bid.codec.write 와 매칭)
+     */
+    String name();
+
+    /**
+     * BidRecord를 Sorted Set member 문자열로 인코딩
+     */
+    String encode(BidRecord bidRecord);
+
+    /**
+     * Sorted Set member 문자열을 BidRecord로 디코딩
+     *
+     * @param member    Redis에 저장된 member
+     * @param auctionId member가 속한 Sorted Set의 경매 ID (member에 포함되지 않는 코덱용)
+     * @return 디코딩된 BidRecord, 실패 시 null
+     */
+    BidRecord decode(String member, Long auctionId);
+
+    /**
+     * 해당 코덱으로 인코딩된 member인지 판별 (혼용 읽기용)
+     */
+    boolean supports(String member);
+}
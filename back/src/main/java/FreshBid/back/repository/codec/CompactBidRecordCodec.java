@@ -0,0 +1,96 @@
+package FreshBid.back.repository.codec;
+
+import FreshBid.back.entity.BidRecord;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고정 순서 packed string 방식
+ * 형식: {@code 1|userId|bidPrice|bidIdTimestamp|bidTimeEpochMillis|nickname} (숫자는 36진수)
+ * <p>
+ * auctionId는 Sorted Set 키에 이미 포함되어 있으므로 저장하지 않고, action은 항상 '입찰'이므로 생략한다.
+ * 닉네임은 구분자를 포함할 수 있으므로 마지막 필드로 둔다.
+ */
+@Slf4j
+public class CompactBidRecordCodec implements BidRecordCodec {
+
+    public static final String NAME = "compact";
+
+    private static final String VERSION_PREFIX = "1|";
+    private static final char SEPARATOR = '|';
+    private static final int RADIX = 36;
+    private static final int NUMERIC_FIELD_COUNT = 4;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String encode(BidRecord bidRecord) {
+        String nickname = bidRecord.getUserNickName() != null ? bidRecord.getUserNickName() : "";
+        LocalDateTime bidTime = bidRecord.getBidTime() != null ? bidRecord.getBidTime()
+            : LocalDateTime.now();
+
+        StringBuilder sb = new StringBuilder(32 + nickname.length());
+        sb.append(VERSION_PREFIX)
+            .append(Long.toString(bidRecord.getUserId(), RADIX)).append(SEPARATOR)
+            .append(Long.toString(bidRecord.getBidPrice(), RADIX)).append(SEPARATOR)
+            .append(Long.toString(extractBidIdTimestamp(bidRecord), RADIX)).append(SEPARATOR)
+            .append(Long.toString(bidTime.toInstant(ZoneOffset.UTC).toEpochMilli(), RADIX))
+            .append(SEPARATOR)
+            .append(nickname);
+        return sb.toString();
+    }
+
+    @Override
+    public BidRecord decode(String member, Long auctionId) {
+        try {
+            long[] numbers = new long[NUMERIC_FIELD_COUNT];
+            int start = VERSION_PREFIX.length();
+            for (int i = 0; i < NUMERIC_FIELD_COUNT; i++) {
+                int end = member.indexOf(SEPARATOR, start);
+                numbers[i] = Long.parseLong(member, start, end, RADIX);
+                start = end + 1;
+            }
+            String nickname = member.substring(start);
+
+            long userId = numbers[0];
+            long bidIdTimestamp = numbers[2];
+            long bidTimeMillis = numbers[3];
+
+            return BidRecord.builder()
+                .bidId(auctionId + ":" + userId + ":" + bidIdTimestamp)
+                .auctionId(auctionId)
+                .userId(userId)
+                .userNickName(nickname)
+                .bidPrice(numbers[1])
+                .bidTime(LocalDateTime.ofEpochSecond(Math.floorDiv(bidTimeMillis, 1000L),
+                    (int) Math.floorMod(bidTimeMillis, 1000L) * 1_000_000, ZoneOffset.UTC))
+                .build();
+        } catch (RuntimeException e) {
+            log.error("BidRecord compact 역직렬화 실패: {}", member, e);
+            return null;
+        }
+    }
+
+    @Override
+    public boolean supports(String member) {
+        return member.startsWith(VERSION_PREFIX);
+    }
+
+    /**
+     * bidId(auctionId:userId:timestamp)의 timestamp 부분 추출
+     */
+    private long extractBidIdTimestamp(BidRecord bidRecord) {
+        String bidId = bidRecord.getBidId();
+        if (bidId != null) {
+            int idx = bidId.lastIndexOf(':');
+            if (idx >= 0) {
+                return Long.parseLong(bidId.substring(idx + 1));
+            }
+        }
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,53 @@
+package FreshBid.back.repository.codec;
+
+import FreshBid.back.entity.BidRecord;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기존 방식: BidRecord 전체를 Jackson JSON 문자열로 저장
+ */
+@Slf4j
+public class JsonBidRecordCodec implements BidRecordCodec {
+
+    public static final String NAME = "json";
+
+    private final ObjectMapper objectMapper;
+
+    public JsonBidRecordCodec() {
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String encode(BidRecord bidRecord) {
+        try {
+            return objectMapper.writeValueAsString(bidRecord);
+        } catch (JsonProcessingException e) {
+            log.error("BidRecord JSON 직렬화 실패", e);
+            throw new RuntimeException("입찰 저장 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public BidRecord decode(String member, Long auctionId) {
+        try {
+            return objectMapper.readValue(member, BidRecord.class);
+        } catch (JsonProcessingException e) {
+            log.error("BidRecord JSON 역직렬화 실패: {}", member, e);
+            return null;
+        }
+    }
+
+    @Override
+    public boolean supports(String member) {
+        return member.startsWith("{");
+    }
+}
@@ -0,0 +1,160 @@
+package FreshBid.back.scheduler;
+
+import FreshBid.back.repository.ClusterRedisRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중인 경매를 살아 있는 서버들에 나눠 맡기는 consistent hash ring
+ * - 서버마다 heartbeat-interval-ms 주기로 cluster:members 에 만료 시각을 기록하고, 만료된 서버는 제거한다.
+ * - 경매는 ring 위에서 ID 해시 다음에 오는 서버가 담당하며, 서버 추가/제거 시 그 서버 몫의 경매만 옮겨간다.
+ */
+@Slf4j
+@Component
+public class AuctionShardRing {
+
+    private final ClusterRedisRepository clusterRedisRepository;
+    private final String nodeId;
+    private final long heartbeatTtlMillis;
+    private final int virtualNodes;
+
+    // 해시 → 서버 식별자 (membership이 바뀔 때만 새로 만들어 통째로 교체)
+    private volatile NavigableMap<Long, String> ring;
+    private volatile List<String> members = List.of();
+
+    // 이 서버가 만료 처리한 서버 (그 서버 앞으로 넘겨진 입찰 변경 정보를 다시 나눠야 함)
+    private final ConcurrentLinkedQueue<String> departedMembers = new ConcurrentLinkedQueue<>();
+
+    public AuctionShardRing(ClusterRedisRepository clusterRedisRepository,
+        @Qualifier("clusterNodeId") String nodeId,
+        @Value("${cluster.membership.ttl-ms:5000}") long heartbeatTtlMillis,
+        @Value("${cluster.membership.virtual-nodes:64}") int virtualNodes) {
+        this.clusterRedisRepository = clusterRedisRepository;
+        this.nodeId = nodeId;
+        this.heartbeatTtlMillis = heartbeatTtlMillis;
+        this.virtualNodes = virtualNodes;
+        // Redis 확인 전에는 이 서버가 모든 경매를 담당
+        this.ring = buildRing(List.of(nodeId));
+    }
+
+    @PostConstruct
+    void join() {
+        heartbeat();
+    }
+
+    /**
+     * heartbeat 기록, 만료 서버 제거, 서버 목록이 바뀌었으면 ring 재구성
+     * Redis 오류 시에는 마지막으로 확인한 ring을 그대로 사용
+     */
+    @Scheduled(fixedDelayString = "${cluster.membership.heartbeat-interval-ms:1000}")
+    public void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            clusterRedisRepository.heartbeat(nodeId, now + heartbeatTtlMillis);
+
+            List<String> removed = clusterRedisRepository.removeExpiredMembers(now);
+            if (!removed.isEmpty()) {
+                log.warn("응답 없는 서버 제거 - {}", removed);
+                departedMembers.addAll(removed);
+            }
+
+            List<String> live = clusterRedisRepository.findLiveMembers(now);
+            if (!live.contains(nodeId)) {
+                live.add(nodeId);
+            }
+            live.sort(null);
+            if (!live.equals(members)) {
+                ring = buildRing(live);
+                members = List.copyOf(live);
+                log.info("경매 담당 서버 재구성 - 서버 수: {}, 서버: {}", live.size(), live);
+            }
+
+        } catch (Exception e) {
+            log.warn("클러스터 heartbeat 실패 - {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void leave() {
+        try {
+            clusterRedisRepository.expireMember(nodeId);
+        } catch (Exception e) {
+            log.warn("클러스터 탈퇴 처리 실패 - {}", e.getMessage());
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 경매를 담당하는 서버 식별자
+     */
+    public String ownerOf(Long auctionId) {
+        NavigableMap<Long, String> current = ring;
+        Map.Entry<Long, String> entry = current.ceilingEntry(hash("auction:" + auctionId));
+        return entry != null ? entry.getValue() : current.firstEntry().getValue();
+    }
+
+    public boolean owns(Long auctionId) {
+        return nodeId.equals(ownerOf(auctionId));
+    }
+
+    /**
+     * 이 서버가 만료 처리한 서버를 꺼내고 비움
+     */
+    public List<String> drainDepartedMembers() {
+        List<String> drained = new ArrayList<>();
+        String member;
+        while ((member = departedMembers.poll()) != null) {
+            drained.add(member);
+        }
+        return drained;
+    }
+
+    /**
+     * 꺼낸 서버 앞 변경 정보를 처리하지 못했을 때 다음 주기에 다시 처리하도록 되돌림
+     */
+    public void restoreDepartedMembers(Collection<String> members) {
+        departedMembers.addAll(members);
+    }
+
+    private NavigableMap<Long, String> buildRing(List<String> nodeIds) {
+        NavigableMap<Long, String> built = new TreeMap<>();
+        for (String member : nodeIds) {
+            for (int i = 0; i < virtualNodes; i++) {
+                built.put(hash(member + "#" + i), member);
+            }
+        }
+        return built;
+    }
+
+    /**
+     * MD5 앞 8바이트 (서버 식별자/경매 ID가 비슷해도 ring 위에 고르게 흩어지도록)
+     */
+    private static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5")
+                .digest(value.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
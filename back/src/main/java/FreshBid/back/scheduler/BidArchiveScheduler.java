@@ -0,0 +1,27 @@
+package FreshBid.back.scheduler;
+
+import FreshBid.back.service.BidArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidArchiveScheduler {
+
+    private final BidArchiveService bidArchiveService;
+
+    /**
+     * 중단된 입찰 이관 재개 (서버 재시작, 이관 중 오류, 실행기 포화로 밀린 작업)
+     */
+    @Scheduled(initialDelay = 10000, fixedDelayString = "${bid.archive.resume-interval-ms:60000}")
+    public void resumePendingArchives() {
+        try {
+            bidArchiveService.resumePendingArchives();
+        } catch (Exception e) {
+            log.error("입찰 이관 재개 스케줄러 실행 중 오류 발생", e);
+        }
+    }
+}
@@ -3,12 +3,30 @@ package FreshBid.back.scheduler;
 import FreshBid.back.dto.bid.BidStatusDto;
 import FreshBid.back.exception.NotFoundException;
 import FreshBid.back.repository.BidRedisRepositorySupport;
+import FreshBid.back.repository.BidRedisRepositorySupport.ForwardedBidUpdates;
 import FreshBid.back.service.BidService;
 import FreshBid.back.socket.SignalingHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -16,60 +34,335 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class BidScheduler {
 
+    private static final String MODE_PUSH = "push";
+
     private final BidRedisRepositorySupport bidRedisRepositorySupport;
     private final BidService bidService;
     private final SignalingHandler signalingHandler;
+    private final BidUpdateTracker bidUpdateTracker;
+    private final AuctionShardRing auctionShardRing;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("bidBroadcastExecutor")
+    private final ThreadPoolTaskExecutor bidBroadcastExecutor;
+
+    // 담당 서버에게 넘길 입찰 변경 정보
+    private record ForwardBatch(List<Long> dirtyAuctions, Map<Long, Long> windowHighestPrices) {
+
+        ForwardBatch() {
+            this(new ArrayList<>(), new HashMap<>());
+        }
+    }
+
+    // 이전 주기의 브로드캐스트가 아직 끝나지 않은 경매 (중복 제출 방지)
+    private final Set<Long> inFlightAuctions = ConcurrentHashMap.newKeySet();
+
+    // push: 입찰이 발생한 경매만 bid.broadcast.interval-ms 주기로 모아서 전송
+    // poll: 3초마다 진행 중인 모든 경매를 전송 (기존 방식)
+    @Value("${bid.broadcast.mode:push}")
+    private String broadcastMode;
+
+    @Value("${bid.broadcast.interval-ms:200}")
+    private long flushIntervalMillis;
+
+    @Value("${bid.broadcast.tick-deadline-ms:2500}")
+    private long tickDeadlineMillis;
+
+    // 경매별 구간 갱신 잠금 유지 시간 (3초 구간보다 짧게, 다음 구간에는 다시 잡을 수 있도록)
+    @Value("${bid.broadcast.window-lock-ms:2500}")
+    private long windowLockMillis;
 
     /**
-     * 3초마다 진행 중인 경매들의 입찰 상태를 조회하여 WebSocket으로 브로드캐스트
+     * 3초 구간 처리
+     * - poll 모드: 진행 중인 경매들의 입찰 상태를 조회하여 브로드캐스트하고 다음 구간 최소 입찰가 갱신
+     * - push 모드: 이번 구간에 입찰이 들어온 경매만 다음 구간 최소 입찰가 갱신 (브로드캐스트는 flushDirtyAuctions)
+     * 각 서버는 자기가 담당하는 경매(AuctionShardRing)만 처리한다.
      */
     @Scheduled(fixedRate = 3000)
     public void broadcastBidUpdates() {
+        if (isPushMode()) {
+            advanceBidWindows();
+            return;
+        }
+
         try {
-            // 1. Redis에서 진행 중인 경매들 조회 (auctionId -> roomId 매핑)
-            Map<Long, Long> activeAuctions = bidRedisRepositorySupport.getAllActiveAuctions();
+            // 1. Redis에서 진행 중인 경매들 조회 후 이 서버 담당 경매만 남김 (auctionId -> roomId 매핑)
+            Map<Long, Long> activeAuctions = new LinkedHashMap<>(
+                bidRedisRepositorySupport.getAllActiveAuctions());
+            activeAuctions.keySet().removeIf(auctionId -> !auctionShardRing.owns(auctionId));
 
             if (activeAuctions.isEmpty()) {
-                log.debug("진행 중인 경매가 없습니다.");
+                log.debug("담당하는 진행 중인 경매가 없습니다.");
                 return;
             }
 
-            log.debug("진행 중인 경매 수: {}", activeAuctions.size());
+            log.debug("담당하는 진행 중인 경매 수: {}", activeAuctions.size());
 
-            // 2. 각 경매의 입찰 상태 조회 및 브로드캐스트
-            for (Map.Entry<Long, Long> entry : activeAuctions.entrySet()) {
-                Long auctionId = entry.getKey();
-                Long roomId = entry.getValue();
+            // 2. 각 경매의 입찰 상태 조회 및 브로드캐스트 (경매 단위 병렬 처리)
+            broadcastAuctions(activeAuctions, true, tickDeadlineMillis);
+
+        } catch (Exception e) {
+            log.error("입찰 상태 브로드캐스트 스케줄러 실행 중 오류 발생", e);
+        }
+    }
 
+    /**
+     * push 모드: 마지막 전송 이후 입찰이 들어온 경매만 경매당 1회 브로드캐스트
+     * 같은 주기 안의 여러 입찰은 하나의 상태 메시지로 합쳐진다.
+     * 다른 서버가 담당하는 경매의 변경분은 담당 서버에게 넘기고, 담당 서버가 모아서 한 번만 발행한다.
+     */
+    @Scheduled(fixedDelayString = "${bid.broadcast.interval-ms:200}")
+    public void flushDirtyAuctions() {
+        if (!isPushMode()) {
+            return;
+        }
+
+        try {
+            Set<Long> dirtyAuctions = collectOwnedUpdates();
+            if (dirtyAuctions.isEmpty()) {
+                return;
+            }
+
+            log.debug("변경된 경매 수: {}", dirtyAuctions.size());
+
+            Map<Long, Long> targets = new LinkedHashMap<>();
+            for (Long auctionId : dirtyAuctions) {
                 try {
-                    // 2-1. 현재 경매의 입찰 상태 조회 (TOP 10)
-                    BidStatusDto bidStatus = bidService.getBidStatus(auctionId, 10);
-
-                    // 2-2. 다음 최소 입찰가(현재 최고가+1)를 다음 3초 구간의 최소 입찰가로 Redis에 저장
-                    Long currentHighestPrice = bidStatus.getCurrentHighestPrice();
-                    bidRedisRepositorySupport.setCurrentMinBidPrice(auctionId,
-                        currentHighestPrice + 1);
-
-                    // 2-3. 해당 룸의 모든 참가자에게 브로드캐스트
-                    signalingHandler.broadcastBidStatusToRoom(roomId, bidStatus);
-
-                    log.debug("경매 상태 브로드캐스트 완료 - 경매 ID: {}, 룸 ID: {}, 현재 최고가: {}",
-                        auctionId, roomId, currentHighestPrice);
-
-                } catch (NotFoundException e) {
-                    // 경매가 존재하지 않는 경우 Redis에서 관련 데이터 정리
-                    log.warn("존재하지 않는 경매 {} (룸 {}) - Redis 데이터 정리 중", auctionId, roomId);
-                    bidRedisRepositorySupport.removeActiveAuction(auctionId);
-                    bidRedisRepositorySupport.removeCurrentMinBidPrice(auctionId);
-                    bidRedisRepositorySupport.deleteByAuctionId(auctionId);
-                    log.info("경매 {} Redis 데이터 정리 완료", auctionId);
+                    Long roomId = bidRedisRepositorySupport.getActiveAuctionRoomId(auctionId);
+                    if (roomId != null) { // 이미 종료된 경매 제외
+                        targets.put(auctionId, roomId);
+                    }
                 } catch (Exception e) {
-                    log.error("경매 {} (룸 {}) 상태 브로드캐스트 실패", auctionId, roomId, e);
+                    // 이미 꺼낸 변경분이므로 다음 주기에 다시 전송하도록 복원
+                    bidUpdateTracker.markDirty(auctionId);
+                    log.warn("경매 {} 룸 조회 실패 - {}", auctionId, e.getMessage());
                 }
             }
+            broadcastAuctions(targets, false, flushIntervalMillis);
 
         } catch (Exception e) {
-            log.error("입찰 상태 브로드캐스트 스케줄러 실행 중 오류 발생", e);
+            log.error("입찰 상태 변경분 브로드캐스트 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 이 서버가 담당하는 경매의 브로드캐스트 대상을 모으고, 다른 서버 담당 경매의 변경분은 담당 서버에게 넘김
+     * 대상: 이 서버에서 받은 입찰 + 다른 서버가 넘겨준 변경분 + 이 서버가 제거한 서버 앞으로 남아 있던 변경분
+     * 담당 경매의 구간 최고가는 트래커에 남겨 advanceBidWindows 에서 처리
+     */
+    private Set<Long> collectOwnedUpdates() {
+        String nodeId = auctionShardRing.getNodeId();
+
+        //1. Redis에 쌓인 변경분을 먼저 꺼냄 (모든 키를 한 번에 비우므로 실패하면 Redis와 로컬 트래커 모두 그대로)
+        List<String> departed = auctionShardRing.drainDepartedMembers();
+        List<String> sources = new ArrayList<>();
+        sources.add(nodeId);
+        sources.addAll(departed);
+        ForwardedBidUpdates forwarded;
+        try {
+            forwarded = bidRedisRepositorySupport.drainForwardedBidUpdates(sources);
+        } catch (RuntimeException e) {
+            auctionShardRing.restoreDepartedMembers(departed);
+            throw e;
+        }
+        List<Long> dirtyAuctions = new ArrayList<>(forwarded.dirtyAuctions());
+        Map<Long, Long> windowHighestPrices = new HashMap<>(forwarded.windowHighestPrices());
+
+        //2. 이 서버에서 받은 입찰 (구간 최고가는 다른 서버 담당분만)
+        dirtyAuctions.addAll(bidUpdateTracker.drainDirtyAuctions());
+        bidUpdateTracker.drainWindowHighestPrices(auctionId -> !auctionShardRing.owns(auctionId))
+            .forEach((auctionId, price) -> windowHighestPrices.merge(auctionId, price, Math::max));
+
+        //3. 담당 서버별로 나눔 (도중에 실패하면 꺼낸 변경분을 로컬 트래커에 되돌려 다음 주기에 다시 나눔)
+        Set<Long> owned = new LinkedHashSet<>();
+        Map<String, ForwardBatch> forwards = new HashMap<>();
+        try {
+            for (Long auctionId : dirtyAuctions) {
+                String owner = auctionShardRing.ownerOf(auctionId);
+                if (owner.equals(nodeId)) {
+                    owned.add(auctionId);
+                } else {
+                    forwards.computeIfAbsent(owner, key -> new ForwardBatch()).dirtyAuctions()
+                        .add(auctionId);
+                }
+            }
+            windowHighestPrices.forEach((auctionId, price) -> {
+                String owner = auctionShardRing.ownerOf(auctionId);
+                if (owner.equals(nodeId)) {
+                    bidUpdateTracker.mergeWindowHighestPrice(auctionId, price);
+                } else {
+                    forwards.computeIfAbsent(owner, key -> new ForwardBatch()).windowHighestPrices()
+                        .put(auctionId, price);
+                }
+            });
+        } catch (RuntimeException e) {
+            dirtyAuctions.forEach(bidUpdateTracker::markDirty);
+            windowHighestPrices.forEach(bidUpdateTracker::mergeWindowHighestPrice);
+            throw e;
+        }
+
+        forwards.forEach(this::forward);
+        return owned;
+    }
+
+    private void forward(String owner, ForwardBatch batch) {
+        try {
+            bidRedisRepositorySupport.forwardBidUpdates(owner, batch.dirtyAuctions(),
+                batch.windowHighestPrices());
+        } catch (Exception e) {
+            // 다음 주기에 다시 넘기도록 복원
+            batch.dirtyAuctions().forEach(bidUpdateTracker::markDirty);
+            batch.windowHighestPrices().forEach(bidUpdateTracker::mergeWindowHighestPrice);
+            log.warn("입찰 변경 정보 전달 실패 - 담당 서버: {}, {}", owner, e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * push 모드: 이번 구간의 최고가 + 1 을 다음 3초 구간의 최소 입찰가로 저장
+     * 담당 경매만 처리 (다른 서버에서 받은 입찰의 구간 최고가는 flushDirtyAuctions 에서 넘겨받아 합쳐져 있음)
+     * 담당 서버가 바뀌는 동안 이번 구간을 이미 다른 서버가 갱신했으면, 이 서버의 구간 최고가는 그 서버에게 넘겨 다음 구간에 반영
+     */
+    private void advanceBidWindows() {
+        try {
+            String nodeId = auctionShardRing.getNodeId();
+            Map<Long, Long> windowHighestPrices = bidUpdateTracker.drainWindowHighestPrices(
+                auctionShardRing::owns);
+
+            for (Map.Entry<Long, Long> entry : windowHighestPrices.entrySet()) {
+                Long auctionId = entry.getKey();
+                try {
+                    if (bidRedisRepositorySupport.getActiveAuctionRoomId(auctionId) == null) {
+                        continue;
+                    }
+                    String holder = bidRedisRepositorySupport.tryAdvanceBidWindow(auctionId, nodeId,
+                        Duration.ofMillis(windowLockMillis), entry.getValue() + 1);
+                    if (holder != null) {
+                        handOverWindow(holder, auctionId, entry.getValue());
+                    }
+                } catch (Exception e) {
+                    log.error("경매 {} 최소 입찰가 갱신 실패", auctionId, e);
+                }
+            }
+
+        } catch (Exception e) {
+            log.error("입찰 구간 갱신 중 오류 발생", e);
+        }
+    }
+
+    private void handOverWindow(String holder, Long auctionId, Long windowHighestPrice) {
+        log.info("경매 {} 이번 구간은 다른 서버가 이미 갱신함 - 갱신 서버: {}", auctionId, holder);
+        if (holder.equals(auctionShardRing.getNodeId())) {
+            bidUpdateTracker.mergeWindowHighestPrice(auctionId, windowHighestPrice);
+            return;
+        }
+        ForwardBatch batch = new ForwardBatch();
+        batch.windowHighestPrices().put(auctionId, windowHighestPrice);
+        forward(holder, batch);
+    }
+
+    /**
+     * 경매별 브로드캐스트를 bidBroadcastExecutor에서 병렬 실행하고 deadlineMillis 까지 완료를 기다림
+     * - 이전 주기 작업이 끝나지 않은 경매나 실행기 큐가 가득 차 제출하지 못한 경매는 건너뜀 (skipped)
+     *   push 모드에서는 건너뛴 경매를 다시 dirty로 표시해 다음 주기에 전송
+     * - 제한 시간 안에 끝나지 않으면 지연 주기로 기록 (late), 남은 작업은 계속 실행됨
+     */
+    private void broadcastAuctions(Map<Long, Long> targets, boolean advanceWindow,
+        long deadlineMillis) {
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(targets.size());
+
+        for (Map.Entry<Long, Long> entry : targets.entrySet()) {
+            Long auctionId = entry.getKey();
+            Long roomId = entry.getValue();
+
+            if (!inFlightAuctions.add(auctionId)) {
+                skipAuction(auctionId, advanceWindow, "이전 브로드캐스트 진행 중");
+                continue;
+            }
+
+            try {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        broadcastAuction(auctionId, roomId, advanceWindow);
+                    } finally {
+                        inFlightAuctions.remove(auctionId);
+                    }
+                }, bidBroadcastExecutor));
+            } catch (RejectedExecutionException e) {
+                inFlightAuctions.remove(auctionId);
+                skipAuction(auctionId, advanceWindow, "브로드캐스트 실행기 포화");
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .get(deadlineMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            long pending = futures.stream().filter(future -> !future.isDone()).count();
+            meterRegistry.counter("bid.broadcast.tick.late", "mode", broadcastMode).increment();
+            log.warn("입찰 상태 브로드캐스트 지연 - 제한 시간: {}ms, 미완료 경매 수: {}", deadlineMillis,
+                pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("입찰 상태 브로드캐스트 작업 실패", e);
+        } finally {
+            meterRegistry.timer("bid.broadcast.tick.duration", "mode", broadcastMode)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void skipAuction(Long auctionId, boolean advanceWindow, String reason) {
+        meterRegistry.counter("bid.broadcast.auction.skipped", "mode", broadcastMode).increment();
+        log.warn("경매 {} 브로드캐스트 건너뜀 - {}", auctionId, reason);
+        if (!advanceWindow) {
+            bidUpdateTracker.markDirty(auctionId);
+        }
+    }
+
+    /**
+     * 경매 하나의 입찰 상태(TOP 10)를 조회하여 룸에 브로드캐스트
+     *
+     * @param advanceWindow true면 현재 최고가+1 을 다음 구간 최소 입찰가로 저장 (poll 모드)
+     */
+    private void broadcastAuction(Long auctionId, Long roomId, boolean advanceWindow) {
+        try {
+            // 1. 현재 경매의 입찰 상태 조회 (TOP 10)
+            BidStatusDto bidStatus = bidService.getBidStatus(auctionId, 10);
+
+            // 2. 다음 최소 입찰가(현재 최고가+1)를 다음 3초 구간의 최소 입찰가로 Redis에 저장
+            Long currentHighestPrice = bidStatus.getCurrentHighestPrice();
+            // 이번 구간을 이미 다른 서버가 갱신했으면 건너뜀 (poll 모드는 매번 Redis 최고가를 다시 읽으므로 넘길 것 없음)
+            if (advanceWindow) {
+                bidRedisRepositorySupport.tryAdvanceBidWindow(auctionId,
+                    auctionShardRing.getNodeId(), Duration.ofMillis(windowLockMillis),
+                    currentHighestPrice + 1);
+            }
+
+            // 3. 해당 룸의 모든 참가자에게 브로드캐스트
+            signalingHandler.broadcastBidStatusToRoom(roomId, bidStatus);
+
+            log.debug("경매 상태 브로드캐스트 완료 - 경매 ID: {}, 룸 ID: {}, 현재 최고가: {}",
+                auctionId, roomId, currentHighestPrice);
+
+        } catch (NotFoundException e) {
+            // 경매가 존재하지 않는 경우 Redis에서 관련 데이터 정리
+            log.warn("존재하지 않는 경매 {} (룸 {}) - Redis 데이터 정리 중", auctionId, roomId);
+            bidRedisRepositorySupport.removeActiveAuction(auctionId);
+            bidRedisRepositorySupport.removeCurrentMinBidPrice(auctionId);
+            bidRedisRepositorySupport.deleteByAuctionId(auctionId);
+            bidUpdateTracker.clear(auctionId);
+            log.info("경매 {} Redis 데이터 정리 완료", auctionId);
+        } catch (Exception e) {
+            log.error("경매 {} (룸 {}) 상태 브로드캐스트 실패", auctionId, roomId, e);
+        }
+    }
+
+    private boolean isPushMode() {
+        return MODE_PUSH.equalsIgnoreCase(broadcastMode);
+    }
+}
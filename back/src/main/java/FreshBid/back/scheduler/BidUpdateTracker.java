@@ -0,0 +1,96 @@
+package FreshBid.back.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입찰이 발생한 경매(dirty)를 기록하는 트래커
+ * - 브로드캐스트 대상: 마지막 전송 이후 입찰이 들어온 경매
+ * - 구간 갱신 대상: 현재 3초 구간 동안 입찰이 들어온 경매와 그 구간의 최고가
+ */
+@Component
+public class BidUpdateTracker {
+
+    private final Set<Long> dirtyAuctions = ConcurrentHashMap.newKeySet();
+
+    // auctionId → 현재 구간 중 관측된 최고 입찰가
+    private final ConcurrentHashMap<Long, Long> windowHighestPrices = new ConcurrentHashMap<>();
+
+    /**
+     * 입찰 수락 시 호출
+     *
+     * @param auctionId    경매 ID
+     * @param highestPrice 입찰 저장 직후 최고가 (모르면 null)
+     */
+    public void markBidAccepted(Long auctionId, Long highestPrice) {
+        dirtyAuctions.add(auctionId);
+        if (highestPrice != null) {
+            windowHighestPrices.merge(auctionId, highestPrice, Math::max);
+        }
+    }
+
+    /**
+     * 입찰 없이 현재 상태 전송만 필요한 경우 (예: 신규 참가자 입장)
+     */
+    public void markDirty(Long auctionId) {
+        dirtyAuctions.add(auctionId);
+    }
+
+    /**
+     * 브로드캐스트 대상 경매를 꺼내고 비움
+     */
+    public List<Long> drainDirtyAuctions() {
+        List<Long> drained = new ArrayList<>();
+        for (Long auctionId : dirtyAuctions) {
+            if (dirtyAuctions.remove(auctionId)) {
+                drained.add(auctionId);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 구간 갱신 대상 경매와 구간 최고가를 꺼내고 비움
+     */
+    public Map<Long, Long> drainWindowHighestPrices() {
+        return drainWindowHighestPrices(auctionId -> true);
+    }
+
+    /**
+     * 조건에 맞는 경매의 구간 최고가만 꺼내고 비움
+     */
+    public Map<Long, Long> drainWindowHighestPrices(Predicate<Long> filter) {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long auctionId : windowHighestPrices.keySet()) {
+            if (!filter.test(auctionId)) {
+                continue;
+            }
+            Long price = windowHighestPrices.remove(auctionId);
+            if (price != null) {
+                drained.put(auctionId, price);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 다른 서버에서 넘겨받은 구간 최고가 반영 (브로드캐스트 대상은 따로 전달됨)
+     */
+    public void mergeWindowHighestPrice(Long auctionId, Long highestPrice) {
+        windowHighestPrices.merge(auctionId, highestPrice, Math::max);
+    }
+
+    /**
+     * 경매 종료 시 추적 정보 삭제
+     */
+    public void clear(Long auctionId) {
+        dirtyAuctions.remove(auctionId);
+        windowHighestPrices.remove(auctionId);
+    }
+}
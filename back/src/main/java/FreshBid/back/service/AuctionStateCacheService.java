@@ -0,0 +1,29 @@
+package FreshBid.back.service;
+
+import FreshBid.back.dto.auction.AuctionStateDto;
+
+public interface AuctionStateCacheService {
+
+    /**
+     * 경매 상태 조회 (로컬 캐시 우선, 없으면 DB 조회 후 캐싱)
+     *
+     * @param auctionId 조회할 경매 ID
+     * @return 경매 상태 스냅샷
+     */
+    AuctionStateDto getAuctionState(Long auctionId);
+
+    /**
+     * DB에서 경매 상태를 다시 읽어 캐시에 저장 (경매 시작 시 사용)
+     *
+     * @param auctionId 경매 ID
+     * @return 최신 경매 상태 스냅샷
+     */
+    AuctionStateDto refreshAuctionState(Long auctionId);
+
+    /**
+     * 경매 상태 캐시 무효화 (상태 변경/경매 종료 시 사용)
+     *
+     * @param auctionId 경매 ID
+     */
+    void evictAuctionState(Long auctionId);
+}
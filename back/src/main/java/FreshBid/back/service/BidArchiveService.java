@@ -0,0 +1,26 @@
+package FreshBid.back.service;
+
+public interface BidArchiveService {
+
+    /**
+     * 종료된 경매의 이관 대기 입찰을 auction_history로 옮기는 작업을 백그라운드 실행기에 제출
+     * 이미 실행 중이거나 실행기가 가득 찬 경우 이관 대기 목록에 남겨두고 재시도 주기에 처리한다.
+     *
+     * @param auctionId 경매 ID
+     */
+    void archiveAsync(Long auctionId);
+
+    /**
+     * 이관 대기 목록에 남아 있는 경매(서버 재시작/실패로 중단된 작업)를 다시 제출
+     */
+    void resumePendingArchives();
+
+    /**
+     * 경매의 남은 입찰 이관을 호출 스레드에서 끝냄 (차순위 입찰자 조회 전, auction_history에 모든 입찰이 있어야 할 때)
+     * 다른 작업이 이관 중이면 bid.archive.sync-timeout-ms 까지 끝나기를 기다린다.
+     * 각 페이지는 자체 트랜잭션으로 커밋되므로 호출자 트랜잭션 밖에서 호출해야 한다.
+     *
+     * @return 이관할 입찰이 남아 있지 않으면 true, 제한 시간 안에 끝내지 못했으면 false
+     */
+    boolean archiveNow(Long auctionId);
+}
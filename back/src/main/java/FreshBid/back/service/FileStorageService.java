@@ -1,15 +1,102 @@
 package FreshBid.back.service;
 
+import FreshBid.back.dto.image.ImageUploadResultDto;
+import FreshBid.back.dto.image.ImageVariant;
+import FreshBid.back.dto.image.StoredImageDto;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface FileStorageService {
 
-    //특정 bucket에 file을 올리는 method
-    public String uploadImage(String prefix, MultipartFile file);
+    // 목록/상세 응답의 이미지 필드 전달 방식
+    enum ImageDeliveryMode {
+        PROXY,      // 이미지 엔드포인트 경로 (/images/{key}), 캐시/CDN 친화적
+        PRESIGNED,  // MinIO presigned URL
+        BASE64      // 이미지 본문을 base64로 포함 (구버전 클라이언트용, 요청 시에만)
+    }
+
+    /**
+     * 이미지를 스토리지에 스트리밍 업로드 (MultipartFile 크기 사용)
+     * 업로드 전에 로컬에서 내용 해시(SHA-256)를 먼저 계산하고, 같은 prefix에 같은 내용이 있으면 업로드 없이 재사용한다.
+     * 트랜잭션 안에서 호출하면, 롤백 시 재사용/등록한 참조를 해제한다.
+     * 빈 파일이면 IllegalArgumentException, 스토리지 저장에 실패하면 IllegalStateException
+     *
+     * @param prefix object key 앞에 붙일 경로 (live, product, profile-image 등)
+     */
+    public ImageUploadResultDto uploadImage(String prefix, MultipartFile file);
+
+    /**
+     * 업로드 1단계: 내용 해시 계산 후 같은 prefix에 같은 내용이 있으면 기존 key 재사용(참조 수 증가, deduplicated), 없으면 새 key 발급
+     * 인증 사용자 정보로 key를 만들므로 요청 스레드에서 호출해야 한다.
+     * 트랜잭션 안에서 기존 key를 재사용한 경우, 롤백되면 늘린 참조 수를 다시 해제한다.
+     */
+    public ImageUploadResultDto prepareUpload(String prefix, InputStreamSource source,
+        String originalFilename, String contentType, long size);
+
+    /**
+     * 업로드 2단계: prepareUpload로 발급한 key에 실제 저장 + 참조 등록 + 썸네일 생성
+     * 트랜잭션 안에서 호출하면, 롤백 시 등록한 참조를 해제한다. (마지막 참조면 object도 삭제)
+     * 저장에 실패하면 IllegalStateException (같은 key로 다시 시도 가능)
+     */
+    public void storeImage(ImageUploadResultDto prepared, InputStreamSource source);
 
     public String getUrl(String filePath);
 
+    /**
+     * 참조 하나 해제, 마지막 참조면 원본과 썸네일 삭제
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 해제한다. (롤백되면 그대로 유지)
+     */
     public void deleteImage(String filePath);
 
     public String convertImageUrlToBlob(String url);
+
+    /**
+     * 응답 DTO에 넣을 이미지 값으로 변환
+     * 기본은 image.delivery.mode 설정을 따르며, 요청에 imageFormat=base64 파라미터 또는
+     * X-Image-Format: base64 헤더가 있으면 base64로 변환한다.
+     *
+     * @param filePath 스토리지 object key (null이면 null 반환)
+     */
+    public String resolveImageSrc(String filePath);
+
+    /**
+     * 목록 화면용: resolveImageSrc와 같지만 원본 대신 지정한 크기의 썸네일을 가리킨다.
+     */
+    public String resolveImageSrc(String filePath, ImageVariant variant);
+
+    /**
+     * 목록 응답용 일괄 변환: 같은 key는 한 번만 변환하고, base64 모드에서는 제한된 실행기에서 병렬로 가져온다.
+     * 제한 시간 안에 가져오지 못한 이미지는 null로 매핑된다.
+     *
+     * @param filePaths 스토리지 object key 목록 (null, 중복 허용)
+     * @return object key → 이미지 값
+     */
+    public Map<String, String> resolveImages(Collection<String> filePaths);
+
+    public Map<String, String> resolveImages(Collection<String> filePaths, ImageVariant variant);
+
+    /**
+     * 이미지 메타데이터 조회 (없으면 NotFoundException)
+     */
+    public StoredImageDto getImageInfo(String filePath);
+
+    /**
+     * 이미지 본문 스트림 열기 (호출자가 닫아야 함)
+     */
+    public InputStream openImage(String filePath);
+
+    /**
+     * 이미지 본문 중 offset부터 length 바이트만 스트림으로 열기 (Range 요청용, 호출자가 닫아야 함)
+     */
+    public InputStream openImage(String filePath, long offset, long length);
+
+    /**
+     * 로컬 디스크 캐시의 이미지 파일 경로 (캐시에 없으면 받아서 저장)
+     * 디스크 캐시를 사용하지 않거나 저장에 실패하면 null이며, 이때는 openImage로 스토리지에서 직접 전달한다.
+     */
+    public Path getLocalImage(String filePath);
 }
@@ -0,0 +1,30 @@
+package FreshBid.back.service;
+
+import java.util.Optional;
+
+/**
+ * 이미지 내용 해시 기준 중복 제거 / 참조 수 관리 (같은 경로(prefix) 안에서만 공유)
+ */
+public interface ImageBlobService {
+
+    /**
+     * 같은 경로에 같은 내용의 이미지가 이미 있으면 참조 수를 늘리고 그 object key 반환
+     * 참조 수는 바로 커밋되므로, 호출자 트랜잭션이 롤백되면 호출자가 release로 되돌려야 한다.
+     *
+     * @param prefix object key 앞 경로 (live, product, profile-image 등)
+     */
+    Optional<String> acquire(String prefix, String contentHash);
+
+    /**
+     * 새로 업로드한 object 등록 (참조 수 1, 경로는 key의 첫 경로)
+     * 같은 경로에 같은 내용이 동시에 업로드되어 먼저 등록된 경우 DataIntegrityViolationException (이때는 acquire로 재사용)
+     */
+    void register(String contentHash, String filePath, long size);
+
+    /**
+     * 참조 하나 해제
+     *
+     * @return 스토리지에서 object를 삭제해도 되면 true (참조가 남아 있으면 false, 등록 정보가 없는 이전 이미지는 true)
+     */
+    boolean release(String filePath);
+}
@@ -0,0 +1,34 @@
+package FreshBid.back.service;
+
+import FreshBid.back.dto.image.StoredImageDto;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 자주 요청되는 스토리지 이미지를 로컬 디스크에 보관하는 캐시 계층
+ * 파일은 내용(ETag) 기준 주소로 저장되어, 같은 key에 다른 내용이 올라와도 이전 파일이 전달되지 않는다.
+ */
+public interface ImageDiskCacheService {
+
+    /**
+     * image.disk-cache.enabled 설정값
+     */
+    boolean isEnabled();
+
+    /**
+     * 이미지 메타데이터 조회 (캐시 미스 시 loader로 조회 후 보관)
+     */
+    StoredImageDto getMetadata(String filePath, Function<String, StoredImageDto> loader);
+
+    /**
+     * 로컬 파일 경로 조회 (없으면 loader의 스트림을 디스크에 저장 후 반환, 저장 실패 시 null)
+     */
+    Path getOrLoad(StoredImageDto image, Supplier<InputStream> loader);
+
+    /**
+     * 해당 key의 메타데이터와 로컬 파일 삭제
+     */
+    void invalidate(String filePath);
+}
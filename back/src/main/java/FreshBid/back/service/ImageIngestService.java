@@ -0,0 +1,24 @@
+package FreshBid.back.service;
+
+import FreshBid.back.dto.image.ImageIngestStatusDto;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 요청 스레드와 분리된 비동기 이미지 업로드
+ * 업로드 파일을 로컬 임시 파일로 받은 뒤 바로 key를 돌려주고, 스토리지 업로드/썸네일/검증은 작업 스레드에서 재시도와 함께 처리한다.
+ */
+public interface ImageIngestService {
+
+    /**
+     * 업로드 접수
+     * 트랜잭션 안에서 호출하면 커밋 후에 작업을 시작하고, 롤백되면 접수를 취소한다.
+     *
+     * @return 엔티티에 바로 저장할 object key (완료 전까지 이미지 조회는 404, 상태는 getStatus로 확인)
+     */
+    String submit(String prefix, MultipartFile file);
+
+    /**
+     * 업로드 진행 상태 조회 (상태 정보가 없으면 NotFoundException)
+     */
+    ImageIngestStatusDto getStatus(String filePath);
+}
@@ -0,0 +1,13 @@
+package FreshBid.back.service;
+
+/**
+ * 응답 객체의 @ImageKey 필드를 이미지 값으로 일괄 변환
+ * 같은 key는 한 번만 변환하므로, 한 페이지의 변환 비용은 행 수가 아니라 서로 다른 이미지 수에 비례한다.
+ */
+public interface ImageKeyResolveService {
+
+    /**
+     * CommonResponse, Page, 컬렉션과 그 안의 DTO를 따라가며 @ImageKey 필드 값을 바꿔 넣음 (요청 스레드에서 호출)
+     */
+    void resolve(Object body);
+}
@@ -0,0 +1,28 @@
+package FreshBid.back.service;
+
+import FreshBid.back.dto.image.ImageVariant;
+import java.io.InputStream;
+
+public interface ThumbnailService {
+
+    /**
+     * 원본 이미지로 모든 썸네일을 생성하여 저장 (업로드 직후 호출)
+     * 지원하지 않는 형식이면 생성하지 않고 넘어간다. (조회 시 원본 사용)
+     *
+     * @param filePath 원본 object key
+     * @param original 원본 이미지 스트림 (호출자가 닫음)
+     */
+    void createThumbnails(String filePath, InputStream original);
+
+    /**
+     * 썸네일 object key 조회, 없으면 원본으로 생성 후 반환 (기존 업로드 이미지용 지연 생성)
+     *
+     * @return 썸네일 key, ORIGINAL이거나 생성할 수 없는 이미지면 원본 key
+     */
+    String ensureThumbnail(String filePath, ImageVariant variant);
+
+    /**
+     * 원본 삭제 시 썸네일 삭제
+     */
+    void deleteThumbnails(String filePath);
+}
@@ -17,6 +17,7 @@ import FreshBid.back.repository.LiveRepository;
 import FreshBid.back.repository.ProductRepository;
 import FreshBid.back.repository.ProductRepositorySupport;
 import FreshBid.back.service.AuctionService;
+import FreshBid.back.service.AuctionStateCacheService;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +35,7 @@ public class AuctionServiceImpl implements AuctionService {
     private final ProductRepository productRepository;
     private final AuctionRepositorySupport auctionRepositorySupport;
     private final ProductRepositorySupport productRepositorySupport;
+    private final AuctionStateCacheService auctionStateCacheService;
 
     @Override
     @Transactional(readOnly = true)
@@ -101,6 +103,7 @@ public class AuctionServiceImpl implements AuctionService {
         Optional.ofNullable(request.getStatus()).ifPresent(auction::setStatus);
 
         auctionRepository.save(auction);
+        auctionStateCacheService.evictAuctionState(auction.getId());
 
         log.info("경매 수정 완료 - 경매 ID: {}", auction.getId());
     }
@@ -129,6 +132,7 @@ public class AuctionServiceImpl implements AuctionService {
 
         // 3. 삭제
         auctionRepository.delete(auction);
+        auctionStateCacheService.evictAuctionState(auction.getId());
 
         log.info("경매 삭제 완료 - 경매 ID: {}", auction.getId());
     }
@@ -259,6 +263,8 @@ public class AuctionServiceImpl implements AuctionService {
         auction.setStatus(toBe);
 
         auctionRepository.save(auction);
+        // 입찰 검증용 경매 상태 캐시 무효화
+        auctionStateCacheService.evictAuctionState(auction.getId());
 
         log.info("경매 상태 변경 완료 - 경매 ID: {}", auction.getId());
     }
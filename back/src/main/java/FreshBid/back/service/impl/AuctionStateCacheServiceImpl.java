@@ -0,0 +1,116 @@
+package FreshBid.back.service.impl;
+
+import FreshBid.back.dto.auction.AuctionStateDto;
+import FreshBid.back.entity.Auction;
+import FreshBid.back.exception.NotFoundException;
+import FreshBid.back.repository.AuctionRepository;
+import FreshBid.back.service.AuctionStateCacheService;
+import FreshBid.back.socket.RoomEvent;
+import FreshBid.back.socket.RoomEventBus;
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 입찰 검증용 경매 상태(상태, 시작가)를 프로세스 로컬에 보관하는 캐시
+ * 입찰마다 MySQL에서 Auction 엔티티를 읽지 않도록 하며, 상태 변경 시 명시적으로 무효화한다.
+ * 무효화는 룸 이벤트 버스로 다른 서버에도 전달되어, 종료된 경매의 입찰을 다른 서버가 TTL 동안 받지 않도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionStateCacheServiceImpl implements AuctionStateCacheService {
+
+    // 무효화 경로를 타지 않은 변경이 있더라도 일정 시간 후에는 DB 값으로 갱신되도록 함
+    private static final long ENTRY_TTL_MILLIS = 10 * 60 * 1000L; // 10분
+
+    private final AuctionRepository auctionRepository;
+    private final RoomEventBus roomEventBus;
+
+    // auctionId → 캐시 항목
+    private final ConcurrentHashMap<Long, CachedState> states = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribeEvictions() {
+        roomEventBus.addHandler(event -> {
+            if (event.type() == RoomEvent.Type.AUCTION_STATE_EVICTED) {
+                evictLocal(Long.valueOf(event.payload()));
+            }
+        });
+    }
+
+    @Override
+    public AuctionStateDto getAuctionState(Long auctionId) {
+        if (auctionId == null) {
+            throw new IllegalArgumentException("경매 ID는 null일 수 없습니다.");
+        }
+
+        CachedState cached = states.get(auctionId);
+        if (cached != null && !cached.isExpired()) {
+            return cached.state();
+        }
+
+        log.debug("경매 상태 캐시 미스 - 경매 ID: {}", auctionId);
+        return refreshAuctionState(auctionId);
+    }
+
+    @Override
+    public AuctionStateDto refreshAuctionState(Long auctionId) {
+        if (auctionId == null) {
+            throw new IllegalArgumentException("경매 ID는 null일 수 없습니다.");
+        }
+
+        Auction auction = auctionRepository.findById(auctionId)
+            .orElseThrow(() -> {
+                states.remove(auctionId);
+                return new NotFoundException("존재하지 않는 경매입니다.");
+            });
+
+        AuctionStateDto state = AuctionStateDto.from(auction);
+        states.put(auctionId, new CachedState(state, System.currentTimeMillis() + ENTRY_TTL_MILLIS));
+        log.debug("경매 상태 캐싱 - 경매 ID: {}, 상태: {}", auctionId, state.getStatus());
+        return state;
+    }
+
+    @Override
+    public void evictAuctionState(Long auctionId) {
+        if (auctionId == null) {
+            return;
+        }
+        evictLocal(auctionId);
+
+        // 상태 변경 트랜잭션 안에서 호출되면, 커밋 전에 다시 읽힌 이전 상태도 버리도록 커밋 후 한 번 더 무효화 + 다른 서버에 전달
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocal(auctionId);
+                    publishEviction(auctionId);
+                }
+            });
+        } else {
+            publishEviction(auctionId);
+        }
+    }
+
+    private void evictLocal(Long auctionId) {
+        states.remove(auctionId);
+        log.debug("경매 상태 캐시 무효화 - 경매 ID: {}", auctionId);
+    }
+
+    private void publishEviction(Long auctionId) {
+        roomEventBus.publish(null, RoomEvent.Type.AUCTION_STATE_EVICTED, null,
+            auctionId.toString());
+    }
+
+    private record CachedState(AuctionStateDto state, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
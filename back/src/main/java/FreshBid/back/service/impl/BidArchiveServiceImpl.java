@@ -0,0 +1,169 @@
+package FreshBid.back.service.impl;
+
+import FreshBid.back.entity.AuctionHistory;
+import FreshBid.back.entity.BidRecord;
+import FreshBid.back.repository.AuctionHistoryJdbcRepository;
+import FreshBid.back.repository.AuctionHistoryRepository;
+import FreshBid.back.repository.BidRedisRepositorySupport;
+import FreshBid.back.service.BidArchiveService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 종료 경매 입찰 이관 (Redis 이관 대기 키 → auction_history)
+ * <p>
+ * 이관 대기 키는 bidPrice 내림차순이며 낙찰 입찰(낙찰 처리 시 '낙찰'로 저장)은 옮길 때 제외된다.
+ * 페이지 단위로 읽어 JDBC batch로 저장하고, 각 페이지는 하나의 트랜잭션으로 커밋된다.
+ * 경매의 '입찰' 행 수(이관 완료 입찰 수)가 곧 다음에 읽을 순위이므로
+ * 중간에 중단되어도 별도 진행 상태 없이 중복/누락 없이 이어서 처리할 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BidArchiveServiceImpl implements BidArchiveService {
+
+    // 한 경매의 이관이 이 시간 안에 끝나지 않으면 다른 서버가 이어받을 수 있음
+    private static final Duration ARCHIVE_LOCK_TTL = Duration.ofMinutes(10);
+
+    // archiveNow 에서 다른 작업의 이관이 끝나기를 기다리는 간격
+    private static final long SYNC_RETRY_INTERVAL_MILLIS = 500;
+
+    private final BidRedisRepositorySupport bidRedisRepositorySupport;
+    private final AuctionHistoryRepository auctionHistoryRepository;
+    private final AuctionHistoryJdbcRepository auctionHistoryJdbcRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("bidArchiveExecutor")
+    private final ThreadPoolTaskExecutor bidArchiveExecutor;
+
+    // 이 서버에서 실행 중인 이관 작업
+    private final Set<Long> inFlightArchives = ConcurrentHashMap.newKeySet();
+
+    @Value("${bid.archive.page-size:1000}")
+    private int pageSize;
+
+    @Value("${bid.archive.sync-timeout-ms:30000}")
+    private long syncTimeoutMillis;
+
+    @Override
+    public void archiveAsync(Long auctionId) {
+        if (!inFlightArchives.add(auctionId)) {
+            return;
+        }
+
+        try {
+            bidArchiveExecutor.execute(() -> {
+                try {
+                    archive(auctionId);
+                } finally {
+                    inFlightArchives.remove(auctionId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightArchives.remove(auctionId);
+            log.warn("입찰 이관 실행기 포화 - 경매 ID: {}, 재시도 주기에 처리", auctionId);
+        }
+    }
+
+    @Override
+    public void resumePendingArchives() {
+        List<Long> pendingAuctions = bidRedisRepositorySupport.getPendingArchiveAuctions();
+        if (pendingAuctions.isEmpty()) {
+            return;
+        }
+
+        log.debug("이관 대기 경매 수: {}", pendingAuctions.size());
+        pendingAuctions.forEach(this::archiveAsync);
+    }
+
+    @Override
+    public boolean archiveNow(Long auctionId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(syncTimeoutMillis);
+        while (bidRedisRepositorySupport.isArchivePending(auctionId)) {
+            // 다른 작업이 잠금을 잡고 있으면 바로 반환되므로, 끝날 때까지 다시 확인
+            archive(auctionId);
+            if (!bidRedisRepositorySupport.isArchivePending(auctionId)) {
+                return true;
+            }
+            if (System.nanoTime() >= deadline) {
+                log.warn("입찰 이관 대기 시간 초과 - 경매 ID: {}", auctionId);
+                return false;
+            }
+            try {
+                Thread.sleep(SYNC_RETRY_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 경매 하나의 입찰 이관 (실행기 스레드 또는 archiveNow 호출 스레드에서 실행)
+     */
+    void archive(Long auctionId) {
+        String lockToken = bidRedisRepositorySupport.tryAcquireArchiveLock(auctionId,
+            ARCHIVE_LOCK_TTL);
+        if (lockToken == null) {
+            log.debug("다른 서버에서 이관 중인 경매 - 경매 ID: {}", auctionId);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            // 1. 낙찰 기록이 커밋된 경매만 이관, 이미 저장된 '입찰' 행 수 = 다음에 이관할 순위
+            if (!auctionHistoryRepository.existsByAuctionIdAndAction(auctionId,
+                AuctionHistory.Action.낙찰)) {
+                log.warn("낙찰 기록이 없는 이관 대기 경매 - 경매 ID: {}, 이관 보류", auctionId);
+                return;
+            }
+            long nextRank = auctionHistoryRepository.countByAuctionIdAndAction(auctionId,
+                AuctionHistory.Action.입찰);
+
+            log.info("입찰 이관 시작 - 경매 ID: {}, 시작 순위: {}", auctionId, nextRank);
+
+            // 2. 페이지 단위로 읽어 일괄 저장
+            long archived = 0;
+            while (true) {
+                List<BidRecord> page = bidRedisRepositorySupport.getArchivedBids(auctionId,
+                    nextRank, pageSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                List<AuctionHistory> histories = page.stream()
+                    .map(AuctionHistory::fromBidRecord)
+                    .toList();
+                auctionHistoryJdbcRepository.batchInsert(histories);
+
+                nextRank += page.size();
+                archived += page.size();
+                meterRegistry.counter("bid.archive.rows").increment(page.size());
+            }
+
+            // 3. Redis 이관 대기 데이터 정리
+            bidRedisRepositorySupport.completeArchive(auctionId);
+
+            log.info("입찰 이관 완료 - 경매 ID: {}, 이관 입찰 수: {}", auctionId, archived);
+
+        } catch (Exception e) {
+            log.error("입찰 이관 실패 - 경매 ID: {}, 재시도 주기에 이어서 처리", auctionId, e);
+        } finally {
+            bidRedisRepositorySupport.releaseArchiveLock(auctionId, lockToken);
+            meterRegistry.timer("bid.archive.duration")
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
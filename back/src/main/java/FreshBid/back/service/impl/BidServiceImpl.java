@@ -1,5 +1,7 @@
 package FreshBid.back.service.impl;
 
+import FreshBid.back.dto.auction.AuctionStateDto;
+import FreshBid.back.dto.bid.BidPlacementResultDto;
 import FreshBid.back.dto.bid.BidRequestDto;
 import FreshBid.back.dto.bid.BidResponseDto;
 import FreshBid.back.dto.bid.BidStatusDto;
@@ -8,17 +10,22 @@ import FreshBid.back.entity.AuctionHistory;
 import FreshBid.back.entity.BidRecord;
 import FreshBid.back.entity.User;
 import FreshBid.back.entity.User.Role;
+import FreshBid.back.event.AuctionFinalizedEvent;
 import FreshBid.back.exception.ForbiddenException;
 import FreshBid.back.exception.NotFoundException;
 import FreshBid.back.repository.AuctionHistoryRepository;
 import FreshBid.back.repository.AuctionRepository;
 import FreshBid.back.repository.BidRedisRepositorySupport;
+import FreshBid.back.repository.BidRedisRepositorySupport.WinningBid;
 import FreshBid.back.repository.UserRepository;
+import FreshBid.back.scheduler.BidUpdateTracker;
+import FreshBid.back.service.AuctionStateCacheService;
 import FreshBid.back.service.BidService;
 import FreshBid.back.service.OrderService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,53 +39,55 @@ public class BidServiceImpl implements BidService {
     private final AuctionRepository auctionRepository;
     private final AuctionHistoryRepository auctionHistoryRepository;
     private final UserRepository userRepository;
+    private final AuctionStateCacheService auctionStateCacheService;
+    private final BidUpdateTracker bidUpdateTracker;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    @Transactional
     public void createBid(Long auctionId, User user, Long bidPrice) {
         BidRequestDto bidRequestDto = new BidRequestDto(bidPrice);
         createBid(auctionId, user, bidRequestDto);
     }
 
     @Override
-    @Transactional
     public void createBid(Long auctionId, User user, BidRequestDto bidRequestDto) {
         log.info("입찰 생성 시작 - 경매 ID: {}, 사용자 ID: {}, 입찰가: {}",
             auctionId, user.getId(), bidRequestDto.getBidPrice());
 
-        // 1. 경매 존재 및 상태 확인
-        Auction auction = auctionRepository.findById(auctionId)
-            .orElseThrow(() -> new NotFoundException("존재하지 않는 경매입니다."));
+        // 1. 경매 존재 및 상태 확인 (로컬 캐시, 미스 시 DB 조회)
+        AuctionStateDto auctionState = auctionStateCacheService.getAuctionState(auctionId);
 
-        if (auction.getStatus() != Auction.Status.IN_PROGRESS) {
+        if (!auctionState.isInProgress()) {
             throw new ForbiddenException("진행 중인 경매가 아닙니다.");
         }
 
-        // 2. 현재 3초 구간의 최소 입찰가 확인
-        Long currentMinBidPrice = getCurrentValidMinPrice(auctionId, auction.getStartPrice());
+        // 2. 현재 3초 구간 최소 입찰가 검증 + 저장을 Redis 스크립트로 원자적으로 처리
+        BidRecord bidRecord = BidRecord.createBid(auctionId, user.getId(), user.getNickname(),
+            bidRequestDto.getBidPrice());
+        BidPlacementResultDto result = bidRedisRepositorySupport.tryPlaceBid(bidRecord,
+            auctionState.getStartPrice());
 
-        if (bidRequestDto.getBidPrice() < currentMinBidPrice) {
+        if (result.getResult() == BidPlacementResultDto.Result.NOT_ACTIVE) {
+            throw new ForbiddenException("진행 중인 경매가 아닙니다.");
+        }
+        if (!result.isAccepted()) {
             throw new IllegalArgumentException(
-                "입찰가가 현재 최소 입찰가보다 높아야 합니다. 현재 최소 입찰가: " + currentMinBidPrice);
+                "입찰가가 현재 최소 입찰가보다 높아야 합니다. 현재 최소 입찰가: " + result.getMinBidPrice());
         }
-
-        // 3. 입찰 레코드 생성 및 저장
-        BidRecord bidRecord = BidRecord.createBid(auctionId, user.getId(), user.getNickname(),
-            bidRequestDto.getBidPrice());
-        bidRedisRepositorySupport.saveBid(bidRecord);
         String bidId = bidRecord.getBidId();
 
-        log.info("입찰 생성 완료 - 입찰 ID: {}", bidId);
+        // 3. 브로드캐스트/구간 갱신 대상으로 표시
+        bidUpdateTracker.markBidAccepted(auctionId, result.getHighestPrice());
+
+        log.info("입찰 생성 완료 - 입찰 ID: {}, 현재 최고가: {}", bidId, result.getHighestPrice());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public BidStatusDto getBidStatus(Long auctionId, int limit) {
         log.info("입찰 현황 조회 시작 - 경매 ID: {}, 제한: {}", auctionId, limit);
 
-        // 1. 경매 존재 확인
-        Auction auction = auctionRepository.findById(auctionId)
-            .orElseThrow(() -> new NotFoundException("존재하지 않는 경매입니다."));
+        // 1. 경매 존재 확인 (로컬 캐시, 미스 시 DB 조회)
+        AuctionStateDto auctionState = auctionStateCacheService.getAuctionState(auctionId);
 
         // 2. Redis에서 입찰 목록 조회
         List<BidRecord> bidRecords;
@@ -94,11 +103,11 @@ public class BidServiceImpl implements BidService {
 
         BidResponseDto highestBid = !bidList.isEmpty() ? bidList.get(0) : null;
         Long currentHighestPrice =
-            highestBid != null ? highestBid.getBidPrice() : auction.getStartPrice();
+            highestBid != null ? highestBid.getBidPrice() : auctionState.getStartPrice();
 
         BidStatusDto response = BidStatusDto.builder()
             .auctionId(auctionId)
-            .status(auction.getStatus().name())
+            .status(auctionState.getStatus().name())
             .currentHighestPrice(currentHighestPrice)
             .bidList(bidList)
             .highestBid(highestBid)
@@ -117,27 +126,18 @@ public class BidServiceImpl implements BidService {
         Auction auction = auctionRepository.findById(auctionId)
             .orElseThrow(() -> new NotFoundException("존재하지 않는 경매입니다."));
 
-        // 2. Redis에서 모든 입찰 데이터 조회
-        List<BidRecord> bidRecords = bidRedisRepositorySupport.getAllBidsByAuctionId(auctionId);
-
-        if (bidRecords.isEmpty()) {
+        // 2. 최고가 입찰자 식별 (상위 1건만 조회)
+        // 신규 입찰 차단과 이관 대기 키 이동은 Redis 작업이라 롤백되지 않으므로 커밋 후 처리 (AuctionFinalizedEventListener)
+        WinningBid winning = bidRedisRepositorySupport.getWinningBid(auctionId);
+        if (winning == null) {
             log.info("입찰이 없는 경매 - 경매 ID: {}", auctionId);
+            eventPublisher.publishEvent(new AuctionFinalizedEvent(auctionId, null));
             return null;
         }
+        BidRecord highestBid = winning.bid();
+        long bidCount = bidRedisRepositorySupport.getBidCount(auctionId);
 
-        // 3. 최고가 입찰자 식별
-        BidRecord highestBid = bidRecords.get(0);
-        
-        // 4. 최고가 입찰자를 제외한 나머지 입찰 기록을 MySQL로 이관
-        List<AuctionHistory> regularBids = bidRecords.stream()
-            .skip(1) // 최고가 입찰자(첫 번째) 제외
-            .map(AuctionHistory::fromBidRecord)
-            .toList();
-        if (!regularBids.isEmpty()) {
-            auctionHistoryRepository.saveAll(regularBids);
-        }
-
-        // 5. 최고가 입찰자는 '낙찰' 액션으로 저장
+        // 3. 최고가 입찰자는 '낙찰' 액션으로 저장
         AuctionHistory winningBid = AuctionHistory.builder()
             .auctionId(auctionId)
             .userId(highestBid.getUserId())
@@ -147,19 +147,13 @@ public class BidServiceImpl implements BidService {
             .build();
         auctionHistoryRepository.save(winningBid);
 
-        // 6. Redis 데이터 정리
-        bidRedisRepositorySupport.deleteByAuctionId(auctionId);
-        // Redis에서 경매-룸 매핑 및 최소 입찰가 삭제
-        bidRedisRepositorySupport.removeActiveAuction(auctionId);
-        bidRedisRepositorySupport.removeCurrentMinBidPrice(auctionId);
-
-        // 7. 응답 생성
+        // 4. 응답 생성
         BidResponseDto response = convertToBidResponseDto(highestBid);
 
-        log.info("경매 낙찰 처리 완료 - 낙찰자: {}, 낙찰가: {}", highestBid.getUserNickName(),
-            highestBid.getBidPrice());
+        log.info("경매 낙찰 처리 완료 - 낙찰자: {}, 낙찰가: {}, 전체 입찰 수: {}",
+            highestBid.getUserNickName(), highestBid.getBidPrice(), bidCount);
 
-        // 7. 주문 생성
+        // 5. 주문 생성
         try {
             orderService.createOrder(winningBid);
             log.info("낙찰 경매 주문 생성 성공");
@@ -167,6 +161,9 @@ public class BidServiceImpl implements BidService {
             throw new RuntimeException("경매 주문 생성에 실패했습니다. " + e.getMessage());
         }
 
+        // 6. 커밋 후 입찰 차단 + 이관 대기 키 이동, 나머지 입찰 기록은 백그라운드에서 MySQL로 이관
+        eventPublisher.publishEvent(new AuctionFinalizedEvent(auctionId, winning));
+
         return response;
     }
 
@@ -180,12 +177,4 @@ public class BidServiceImpl implements BidService {
             .bidTime(bidRecord.getBidTime())
             .build();
     }
-
-    /**
-     * 현재 3초 구간의 유효한 최소 입찰가 조회 Redis에 저장된 값이 없으면 경매 시작가를 반환
-     */
-    private Long getCurrentValidMinPrice(Long auctionId, Long startPrice) {
-        Long currentMinBidPrice = bidRedisRepositorySupport.getCurrentMinBidPrice(auctionId);
-        return currentMinBidPrice != null ? currentMinBidPrice : startPrice;
-    }
 }
\ No newline at end of file
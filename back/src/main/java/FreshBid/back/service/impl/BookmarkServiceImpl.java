@@ -7,7 +7,6 @@ import FreshBid.back.entity.*;
 import FreshBid.back.exception.NotFoundException;
 import FreshBid.back.repository.*;
 import FreshBid.back.service.BookmarkService;
-import FreshBid.back.service.FileStorageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,7 +29,6 @@ public class BookmarkServiceImpl implements BookmarkService {
 
     private final UserRepository userRepository;
 
-    private final FileStorageService fileStorageService;
     @Override
     @Transactional
     public void addLiveBookmark(Long liveId, User user) {
@@ -47,14 +45,8 @@ public class BookmarkServiceImpl implements BookmarkService {
     @Override
     @Transactional(readOnly = true)
     public List<LiveBasicResponseDto> getLiveBookmarks(Long userId) {
-        List<LiveBasicResponseDto> bookmarkedLives = liveBookmarkRepositorySupport.findByUserId(userId);
-
-        //라이브 이미지 매핑
-        for(LiveBasicResponseDto dto: bookmarkedLives) {
-            String url = fileStorageService.getUrl(dto.getReprImgSrc());
-            dto.setReprImgSrc(fileStorageService.convertImageUrlToBlob(url));
-        }
-        return bookmarkedLives;
+        // 라이브 이미지는 응답 시 일괄 변환 (@ImageKey)
+        return liveBookmarkRepositorySupport.findByUserId(userId);
     }
 
     @Override
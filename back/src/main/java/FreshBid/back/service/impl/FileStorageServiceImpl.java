@@ -1,25 +1,72 @@
 package FreshBid.back.service.impl;
 
+import FreshBid.back.dto.image.ImageUploadResultDto;
+import FreshBid.back.dto.image.ImageVariant;
+import FreshBid.back.dto.image.StoredImageDto;
 import FreshBid.back.dto.user.FreshBidUserDetails;
+import FreshBid.back.exception.NotFoundException;
 import FreshBid.back.service.FileStorageService;
+import FreshBid.back.service.ImageBlobService;
+import FreshBid.back.service.ImageDiskCacheService;
+import FreshBid.back.service.ThumbnailService;
 import io.minio.*;
+import io.minio.errors.ErrorResponseException;
 import io.minio.http.Method;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -27,49 +74,198 @@ import java.util.concurrent.TimeUnit;
 public class FileStorageServiceImpl implements FileStorageService {
 
     private final MinioClient minioClient;
+    private final MeterRegistry meterRegistry;
+    private final ThumbnailService thumbnailService;
+    private final ImageDiskCacheService imageDiskCacheService;
+    private final ImageBlobService imageBlobService;
+
+    @Qualifier("imageRestTemplate")
+    private final RestTemplate imageRestTemplate;
+
+    @Qualifier("imageFetchExecutor")
+    private final ThreadPoolTaskExecutor imageFetchExecutor;
+
+    private static final String IMAGE_FORMAT_PARAM = "imageFormat";
+    private static final String IMAGE_FORMAT_HEADER = "X-Image-Format";
 
     @Value("${minio.bucket-name}")
     private String bucket;
 
+    @Value("${image.delivery.mode:proxy}")
+    private String deliveryMode;
+
+    // 이미지 엔드포인트 앞에 붙일 주소 (비우면 /images/{key} 상대 경로, CDN 사용 시 CDN 주소)
+    @Value("${image.public-base-url:}")
+    private String publicBaseUrl;
+
+    // presigned URL 유효 시간
+    @Value("${image.presign.expiry-hours:12}")
+    private int presignExpiryHours;
+
+    // 캐시 보관 시간: 캐시에서 꺼낸 URL도 클라이언트가 충분히 쓸 수 있도록 유효 시간보다 짧게 유지
+    @Value("${image.presign.cache.ttl-minutes:360}")
+    private long presignCacheTtlMinutes;
+
+    @Value("${image.presign.cache.max-size:10000}")
+    private long presignCacheMaxSize;
+
+    // 업로드 part 크기 (MinIO 최소 5MB), 이보다 큰 파일은 part 단위로 나눠 전송
+    @Value("${image.upload.part-size-mb:5}")
+    private long uploadPartSizeMb;
+
+    // 목록 일괄 변환 전체 제한 시간 (넘으면 남은 이미지는 null)
+    @Value("${image.fetch.batch-timeout-ms:5000}")
+    private long batchTimeoutMillis;
+
+    // object key → presigned URL
+    private Cache<String, String> presignedUrlCache;
+
+    @PostConstruct
+    void initPresignedUrlCache() {
+        if (Duration.ofMinutes(presignCacheTtlMinutes).compareTo(Duration.ofHours(presignExpiryHours)) >= 0) {
+            throw new IllegalStateException("presigned URL 캐시 시간은 URL 유효 시간보다 짧아야 합니다.");
+        }
+        presignedUrlCache = Caffeine.newBuilder()
+                .maximumSize(presignCacheMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(presignCacheTtlMinutes))
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.size, cache.evictions 등 (cache=presignedUrl)
+        CaffeineCacheMetrics.monitor(meterRegistry, presignedUrlCache, "presignedUrl");
+    }
+
     @Override
-    public String uploadImage(String prefix, MultipartFile file) {
-        String fileName = "";
-        try {
+    public ImageUploadResultDto uploadImage(String prefix, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 이미지 파일이 비어 있습니다.");
+        }
 
-            //1. 파일명 설정
-            fileName = generateFileName(prefix, file.getOriginalFilename());
-            log.info("이미지 저장. 파일 명: {}", bucket, fileName);
+        ImageUploadResultDto prepared = prepareUpload(prefix, file, file.getOriginalFilename(),
+                file.getContentType(), file.getSize());
+        if (!prepared.isDeduplicated()) {
+            storeImage(prepared, file);
+        }
+        return prepared;
+    }
+
+    @Override
+    public ImageUploadResultDto prepareUpload(String prefix, InputStreamSource source,
+                                              String originalFilename, String contentType,
+                                              long size) {
+        //1. 내용 해시 (업로드 전 로컬 파일에서 계산), 같은 경로에 같은 내용이 이미 있으면 업로드 없이 재사용
+        String contentHash = hashOf(source);
+        Optional<String> existing = imageBlobService.acquire(prefix, contentHash);
+        if (existing.isPresent()) {
+            meterRegistry.counter("image.upload.deduplicated").increment();
+            releaseOnRollback(existing.get());
+            return uploadResult(existing.get(), contentType, size, contentHash, true);
+        }
 
-            //2. 이미지 업로드
-            InputStream inputStream = file.getInputStream();
-            String contentType = file.getContentType();
+        //2. 파일명 설정
+        String fileName = generateFileName(prefix, originalFilename);
+        return uploadResult(fileName, contentType, size, contentHash, false);
+    }
+
+    @Override
+    public void storeImage(ImageUploadResultDto prepared, InputStreamSource source) {
+        String fileName = prepared.getFilePath();
+        long size = prepared.getSize();
+        log.info("이미지 저장. 파일 명: {}, 크기: {}", fileName, size);
+
+        //3. 이미지 업로드 (실제 크기로 스트리밍)
+        try (InputStream inputStream = source.getInputStream()) {
             PutObjectArgs args = PutObjectArgs.builder()
                     .bucket(bucket)
                     .object(fileName)
-                    .stream(inputStream, inputStream.available(), -1)
-                    .contentType(contentType)
+                    .stream(inputStream, size, uploadPartSizeMb * 1024 * 1024)
+                    .contentType(prepared.getContentType())
                     .build();
             minioClient.putObject(args);
+        } catch (Exception e) {
+            log.warn("이미지 업로드 실패 - 파일 명: {}, {}", fileName, e.getMessage(), e);
+            throw new IllegalStateException("이미지 업로드에 실패했습니다.", e);
+        }
+        // 같은 key로 다시 올린 경우 이전 내용이 로컬 캐시에서 전달되지 않도록
+        imageDiskCacheService.invalidate(fileName);
 
+        //4. 참조 정보 등록 (별도 트랜잭션으로 바로 커밋되므로 호출자 트랜잭션이 롤백되면 해제)
+        // 같은 경로에 같은 내용이 동시에 먼저 등록된 경우: 먼저 등록된 object를 재사용하지 않는다.
+        // key가 이미 호출자에게 전달되어 엔티티에 저장되었을 수 있으므로 이 object를 그대로 두고 (저장 공간 중복)
+        // 참조 정보 없이 유지한다. 참조 정보가 없는 object는 deleteImage에서 바로 삭제된다.
+        try {
+            imageBlobService.register(prepared.getContentHash(), fileName, size);
+            releaseOnRollback(fileName);
+        } catch (DataIntegrityViolationException e) {
+            meterRegistry.counter("image.upload.duplicate.kept").increment();
+            log.info("동시 업로드된 중복 이미지, 참조 정보 없이 별도 object로 유지 - 파일 명: {}", fileName);
+        }
+
+        //5. 목록용 썸네일 생성 (실패해도 원본 업로드는 유지, 조회 시 지연 생성)
+        try (InputStream original = source.getInputStream()) {
+            thumbnailService.createThumbnails(fileName, original);
         } catch (Exception e) {
-            log.warn("Exception occurred while saving contents : {}", e.getMessage(), e);
+            log.warn("썸네일 생성 실패 - 파일 명: {}, {}", fileName, e.getMessage());
+        }
+    }
+
+    /**
+     * 참조 등록/증가는 별도 트랜잭션으로 바로 커밋되므로, 호출자 트랜잭션이 롤백되면 (엔티티에 key가 저장되지 않음) 다시 해제
+     * 새로 올린 object의 마지막 참조면 object와 썸네일도 삭제된다. (트랜잭션 밖에서 호출되면 아무것도 하지 않음)
+     */
+    private void releaseOnRollback(String filePath) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    log.info("이미지 참조 해제 (트랜잭션 롤백) - filePath: {}", filePath);
+                    releaseImage(filePath);
+                }
+            }
+        });
+    }
+
+    private ImageUploadResultDto uploadResult(String filePath, String contentType, long size,
+                                              String contentHash, boolean deduplicated) {
+        return ImageUploadResultDto.builder()
+                .filePath(filePath)
+                .contentType(contentType)
+                .size(size)
+                .contentHash(contentHash)
+                .deduplicated(deduplicated)
+                .build();
+    }
+
+    private String hashOf(InputStreamSource source) {
+        try (DigestInputStream inputStream = new DigestInputStream(source.getInputStream(),
+                MessageDigest.getInstance("SHA-256"))) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(inputStream.getMessageDigest().digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("이미지 해시 계산에 실패했습니다.", e);
         }
-        return fileName;
     }
 
     @Override
     public String getUrl(String filePath) {
         if(filePath == null) return null;
+        // presign 실패(null)는 캐시하지 않음
+        return presignedUrlCache.get(filePath, this::presign);
+    }
+
+    private String presign(String filePath) {
         String url = null;
         try {
-            log.info("filePath: {}", filePath);
+            log.debug("presigned URL 생성 - filePath: {}", filePath);
 
             url = minioClient.getPresignedObjectUrl(
                     GetPresignedObjectUrlArgs.builder()
                             .method(Method.GET)
                             .bucket(bucket)
                             .object(filePath)
-                            .expiry(12, TimeUnit.HOURS)
+                            .expiry(presignExpiryHours, TimeUnit.HOURS)
                             .build());
 
         } catch (Exception e) {
@@ -78,8 +274,45 @@ public class FileStorageServiceImpl implements FileStorageService {
         return url;
     }
 
+    /**
+     * 참조 수 감소는 별도 트랜잭션으로 바로 커밋되므로, 호출자 트랜잭션 안에서는 커밋된 뒤에 해제
+     * (롤백되면 엔티티는 기존 key를 그대로 가리키므로 참조와 object를 유지해야 함)
+     */
     @Override
     public void deleteImage(String filePath) {
+        if (filePath == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseImage(filePath);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseImage(filePath);
+            }
+        });
+    }
+
+    private void releaseImage(String filePath) {
+        // 같은 내용을 쓰는 다른 라이브/상품/프로필이 남아 있으면 object 유지
+        if (!imageBlobService.release(filePath)) {
+            return;
+        }
+
+        removeObject(filePath);
+        // 삭제 이후 캐시된 URL이 내려가지 않도록 무효화
+        thumbnailService.deleteThumbnails(filePath);
+        presignedUrlCache.invalidate(filePath);
+        imageDiskCacheService.invalidate(filePath);
+        for (ImageVariant variant : ImageVariant.thumbnails()) {
+            presignedUrlCache.invalidate(variant.keyOf(filePath));
+            imageDiskCacheService.invalidate(variant.keyOf(filePath));
+        }
+    }
+
+    private void removeObject(String filePath) {
         try{
             minioClient.removeObject(RemoveObjectArgs.builder()
                     .bucket(bucket)
@@ -104,7 +337,7 @@ public class FileStorageServiceImpl implements FileStorageService {
 
         //확장자 가져오기
         String ext = "";
-        int dotIndex = originalFileName.lastIndexOf(".");
+        int dotIndex = originalFileName != null ? originalFileName.lastIndexOf(".") : -1;
         if (dotIndex > 0) {
             ext = originalFileName.substring(dotIndex); // .png, .jpg 등 확장자 추출
         }
@@ -115,19 +348,207 @@ public class FileStorageServiceImpl implements FileStorageService {
     @Override
     public String convertImageUrlToBlob(String url)  {
         if(url == null) return null;
-        log.info("current image url: {}", url);
-        RestTemplate restTemplate = new RestTemplate();
+        log.debug("current image url: {}", url);
         try{
-            ResponseEntity<byte[]> response = restTemplate.exchange(
+            ResponseEntity<byte[]> response = imageRestTemplate.exchange(
                     new URI(url),
                     HttpMethod.GET,
                     null,
                     byte[].class
             );
-            return Base64.getEncoder().encodeToString(response.getBody());
+            byte[] body = response.getBody();
+            return body != null ? Base64.getEncoder().encodeToString(body) : null;
         } catch (URISyntaxException e) {
             log.warn("URI syntax exception: {}", e.getMessage());
+        } catch (RestClientException e) {
+            log.warn("이미지 다운로드 실패 - url: {}, {}", url, e.getMessage());
         }
         return null;
     }
+
+    @Override
+    public String resolveImageSrc(String filePath) {
+        return resolveImageSrc(filePath, ImageVariant.ORIGINAL, currentDeliveryMode());
+    }
+
+    @Override
+    public String resolveImageSrc(String filePath, ImageVariant variant) {
+        return resolveImageSrc(filePath, variant, currentDeliveryMode());
+    }
+
+    @Override
+    public Map<String, String> resolveImages(Collection<String> filePaths) {
+        return resolveImages(filePaths, ImageVariant.ORIGINAL);
+    }
+
+    @Override
+    public Map<String, String> resolveImages(Collection<String> filePaths, ImageVariant variant) {
+        // 요청 정보는 요청 스레드에서만 읽을 수 있으므로 전달 방식을 먼저 결정
+        ImageDeliveryMode mode = currentDeliveryMode();
+        Set<String> keys = filePaths.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<String, String> resolved = new HashMap<>();
+        // proxy/presigned는 프로세스 내 계산(캐시)이라 병렬화 이득이 없음
+        if (mode != ImageDeliveryMode.BASE64 || keys.size() <= 1) {
+            keys.forEach(key -> resolved.put(key, resolveImageSrc(key, variant, mode)));
+            return resolved;
+        }
+
+        long startedAt = System.nanoTime();
+        Map<String, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        for (String key : keys) {
+            try {
+                futures.put(key, CompletableFuture.supplyAsync(
+                    () -> resolveImageSrc(key, variant, mode), imageFetchExecutor));
+            } catch (RejectedExecutionException e) {
+                // 실행기 포화 시 요청 스레드에서 직접 처리 (다른 요청과 함께 자연스럽게 속도 조절)
+                resolved.put(key, resolveImageSrc(key, variant, mode));
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .get(batchTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            long pending = futures.values().stream().filter(future -> !future.isDone()).count();
+            meterRegistry.counter("image.resolve.timeout").increment(pending);
+            log.warn("목록 이미지 변환 제한 시간 초과 - 제한 시간: {}ms, 미완료 이미지 수: {}",
+                batchTimeoutMillis, pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("목록 이미지 변환 실패: {}", e.getMessage());
+        } finally {
+            meterRegistry.timer("image.resolve.batch.duration")
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        futures.forEach((key, future) -> {
+            // 실패했거나 아직 끝나지 않은 이미지는 null
+            String src = future.isDone() && !future.isCompletedExceptionally()
+                ? future.join() : null;
+            resolved.put(key, src);
+        });
+        return resolved;
+    }
+
+    /**
+     * @param variant null 또는 ORIGINAL이면 원본
+     */
+    private String resolveImageSrc(String filePath, ImageVariant variant, ImageDeliveryMode mode) {
+        if (filePath == null) return null;
+
+        if (variant == null || variant.isOriginal()) {
+            return switch (mode) {
+                case BASE64 -> convertImageUrlToBlob(getUrl(filePath));
+                case PRESIGNED -> getUrl(filePath);
+                case PROXY -> proxyUrl(filePath);
+            };
+        }
+
+        return switch (mode) {
+            // 썸네일이 없는 기존 이미지는 이미지 엔드포인트가 첫 요청 때 생성
+            case PROXY -> proxyUrl(filePath) + "?w=" + variant.getWidth();
+            case PRESIGNED -> getUrl(thumbnailService.ensureThumbnail(filePath, variant));
+            case BASE64 -> convertImageUrlToBlob(
+                getUrl(thumbnailService.ensureThumbnail(filePath, variant)));
+        };
+    }
+
+    private String proxyUrl(String filePath) {
+        return publicBaseUrl + "/images/" + UriUtils.encodePath(filePath, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 요청에서 base64를 명시한 경우에만 base64, 그 외에는 설정값
+     */
+    private ImageDeliveryMode currentDeliveryMode() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            String requested = request.getParameter(IMAGE_FORMAT_PARAM);
+            if (requested == null) {
+                requested = request.getHeader(IMAGE_FORMAT_HEADER);
+            }
+            if ("base64".equalsIgnoreCase(requested)) {
+                return ImageDeliveryMode.BASE64;
+            }
+        }
+        return ImageDeliveryMode.valueOf(deliveryMode.trim().toUpperCase());
+    }
+
+    @Override
+    public StoredImageDto getImageInfo(String filePath) {
+        if (imageDiskCacheService.isEnabled()) {
+            return imageDiskCacheService.getMetadata(filePath, this::statImage);
+        }
+        return statImage(filePath);
+    }
+
+    private StoredImageDto statImage(String filePath) {
+        try {
+            StatObjectResponse stat = minioClient.statObject(StatObjectArgs.builder()
+                    .bucket(bucket)
+                    .object(filePath)
+                    .build());
+
+            return StoredImageDto.builder()
+                    .filePath(filePath)
+                    .contentType(stat.contentType())
+                    .size(stat.size())
+                    .etag(stat.etag())
+                    .lastModified(stat.lastModified())
+                    .build();
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                throw new NotFoundException("존재하지 않는 이미지입니다: " + filePath);
+            }
+            throw new IllegalStateException("이미지 정보 조회에 실패했습니다.", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("이미지 정보 조회에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public InputStream openImage(String filePath) {
+        return getObject(GetObjectArgs.builder()
+                .bucket(bucket)
+                .object(filePath)
+                .build());
+    }
+
+    @Override
+    public InputStream openImage(String filePath, long offset, long length) {
+        // 요청한 구간만 MinIO에서 받아옴
+        return getObject(GetObjectArgs.builder()
+                .bucket(bucket)
+                .object(filePath)
+                .offset(offset)
+                .length(length)
+                .build());
+    }
+
+    @Override
+    public Path getLocalImage(String filePath) {
+        if (!imageDiskCacheService.isEnabled()) {
+            return null;
+        }
+        return imageDiskCacheService.getOrLoad(getImageInfo(filePath), () -> openImage(filePath));
+    }
+
+    private InputStream getObject(GetObjectArgs args) {
+        String filePath = args.object();
+        try {
+            return minioClient.getObject(args);
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                throw new NotFoundException("존재하지 않는 이미지입니다: " + filePath);
+            }
+            throw new IllegalStateException("이미지 조회에 실패했습니다.", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("이미지 조회에 실패했습니다.", e);
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package FreshBid.back.service.impl;
+
+import FreshBid.back.entity.ImageBlob;
+import FreshBid.back.repository.ImageBlobRepository;
+import FreshBid.back.service.ImageBlobService;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 참조 수 변경은 스토리지 작업과 짝을 이루므로 호출한 트랜잭션과 분리하여 바로 커밋 (REQUIRES_NEW)
+ * 중복 등록 충돌로 호출자(라이브/상품 생성) 트랜잭션이 롤백 전용이 되지 않도록 하기 위함이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageBlobServiceImpl implements ImageBlobService {
+
+    private final ImageBlobRepository imageBlobRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<String> acquire(String prefix, String contentHash) {
+        return imageBlobRepository.findByPrefixAndContentHash(prefix, contentHash)
+            .map(imageBlob -> {
+                imageBlob.retain();
+                log.info("중복 이미지 재사용 - filePath: {}, 참조 수: {}", imageBlob.getFilePath(),
+                    imageBlob.getRefCount());
+                return imageBlob.getFilePath();
+            });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void register(String contentHash, String filePath, long size) {
+        // (prefix, content_hash) 유니크 제약으로 동시 등록 충돌 감지
+        imageBlobRepository.saveAndFlush(
+            ImageBlob.of(contentHash, prefixOf(filePath), filePath, size));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean release(String filePath) {
+        Optional<ImageBlob> found = imageBlobRepository.findByFilePath(filePath);
+        if (found.isEmpty()) {
+            return true;
+        }
+
+        ImageBlob imageBlob = found.get();
+        if (!imageBlob.release()) {
+            log.info("이미지 참조 해제 - filePath: {}, 남은 참조 수: {}", filePath,
+                imageBlob.getRefCount());
+            return false;
+        }
+        imageBlobRepository.delete(imageBlob);
+        return true;
+    }
+
+    private static String prefixOf(String filePath) {
+        int slash = filePath.indexOf('/');
+        return slash > 0 ? filePath.substring(0, slash) : "";
+    }
+}
@@ -0,0 +1,218 @@
+package FreshBid.back.service.impl;
+
+import FreshBid.back.dto.image.StoredImageDto;
+import FreshBid.back.service.ImageDiskCacheService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDiskCacheServiceImpl implements ImageDiskCacheService {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${image.disk-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${image.disk-cache.dir:${java.io.tmpdir}/freshbid-image-cache}")
+    private String directory;
+
+    // 디스크 사용량 상한 (넘으면 오래 쓰이지 않은 파일부터 삭제)
+    @Value("${image.disk-cache.max-size-mb:1024}")
+    private long maxSizeMb;
+
+    // key → 메타데이터 보관 시간 (지나면 스토리지에서 다시 조회해 내용 변경 여부 확인)
+    @Value("${image.disk-cache.metadata-ttl-minutes:60}")
+    private long metadataTtlMinutes;
+
+    private Path root;
+
+    // object key → 메타데이터 (ETag로 파일 주소 결정)
+    private Cache<String, StoredImageDto> metadata;
+
+    // 내용 주소 → 로컬 파일 (KB 단위 가중치)
+    private Cache<String, Path> files;
+
+    // 같은 내용을 동시에 여러 번 내려받지 않도록 진행 중인 다운로드 공유
+    private final ConcurrentHashMap<String, CompletableFuture<Path>> loading = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        root = Paths.get(directory).toAbsolutePath();
+        Files.createDirectories(root);
+
+        metadata = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(metadataTtlMinutes))
+            .build();
+
+        files = Caffeine.newBuilder()
+            .maximumWeight(maxSizeMb * 1024)
+            .weigher((String contentId, Path path) -> weightOf(path))
+            .removalListener((String contentId, Path path, RemovalCause cause) -> {
+                if (cause != RemovalCause.REPLACED) {
+                    deleteQuietly(path);
+                }
+            })
+            .recordStats()
+            .build();
+        // cache.gets{result=hit|miss}, cache.evictions 등 (cache=imageDiskCache)
+        CaffeineCacheMetrics.monitor(meterRegistry, files, "imageDiskCache");
+
+        restore();
+        log.info("이미지 디스크 캐시 사용 - 경로: {}, 최대 크기: {}MB, 기존 파일: {}개", root, maxSizeMb,
+            files.estimatedSize());
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public StoredImageDto getMetadata(String filePath, Function<String, StoredImageDto> loader) {
+        return metadata.get(filePath, loader);
+    }
+
+    @Override
+    public Path getOrLoad(StoredImageDto image, Supplier<InputStream> loader) {
+        String contentId = contentIdOf(image);
+        Path cached = files.getIfPresent(contentId);
+        if (cached != null && Files.exists(cached)) {
+            return cached;
+        }
+
+        CompletableFuture<Path> download = new CompletableFuture<>();
+        CompletableFuture<Path> inFlight = loading.putIfAbsent(contentId, download);
+        if (inFlight != null) {
+            return inFlight.join();
+        }
+
+        try {
+            Path path = store(contentId, loader);
+            files.put(contentId, path);
+            download.complete(path);
+            return path;
+        } catch (RuntimeException | IOException e) {
+            // 캐시 실패는 스토리지 직접 전달로 대체
+            log.warn("이미지 디스크 캐시 저장 실패 - filePath: {}, {}", image.getFilePath(), e.getMessage());
+            download.complete(null);
+            return null;
+        } finally {
+            loading.remove(contentId, download);
+        }
+    }
+
+    @Override
+    public void invalidate(String filePath) {
+        if (!enabled || filePath == null) {
+            return;
+        }
+        StoredImageDto image = metadata.getIfPresent(filePath);
+        metadata.invalidate(filePath);
+        if (image != null) {
+            files.invalidate(contentIdOf(image));
+        }
+    }
+
+    /**
+     * 임시 파일에 받은 뒤 이동하여, 다른 요청이 쓰는 중인 파일을 읽지 않도록 함
+     */
+    private Path store(String contentId, Supplier<InputStream> loader) throws IOException {
+        Path dir = root.resolve(contentId.substring(0, 2));
+        Files.createDirectories(dir);
+
+        // 제거 알림이 나중에 도착해도 새로 받은 파일을 지우지 않도록 파일명은 매번 다르게
+        String fileName = contentId + "_" + UUID.randomUUID();
+        Path temp = dir.resolve(fileName + TEMP_SUFFIX);
+        Path target = dir.resolve(fileName);
+        try (InputStream inputStream = loader.get()) {
+            Files.copy(inputStream, temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 재시작 시 남아 있는 파일을 다시 등록 (내려받다 중단된 임시 파일은 삭제)
+     */
+    private void restore() throws IOException {
+        try (Stream<Path> paths = Files.walk(root, 2)) {
+            paths.filter(Files::isRegularFile).forEach(path -> {
+                String name = path.getFileName().toString();
+                int separator = name.indexOf('_');
+                String contentId = separator > 0 ? name.substring(0, separator) : null;
+                if (name.endsWith(TEMP_SUFFIX) || contentId == null
+                    || files.getIfPresent(contentId) != null) {
+                    deleteQuietly(path);
+                    return;
+                }
+                files.put(contentId, path);
+            });
+        }
+    }
+
+    /**
+     * 내용 주소: ETag(내용 해시)와 크기 기준, 파일명에 쓸 수 있도록 SHA-256 hex로 변환
+     */
+    private String contentIdOf(StoredImageDto image) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(
+                (image.getEtag() + ":" + image.getSize()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int weightOf(Path path) {
+        try {
+            return (int) Math.min(Integer.MAX_VALUE, Files.size(path) / 1024 + 1);
+        } catch (IOException e) {
+            return 1;
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("이미지 디스크 캐시 파일 삭제 실패 - {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package FreshBid.back.service.impl;
+
+import FreshBid.back.dto.image.ImageIngestStatusDto;
+import FreshBid.back.dto.image.ImageIngestStatusDto.Status;
+import FreshBid.back.dto.image.ImageUploadResultDto;
+import FreshBid.back.dto.image.StoredImageDto;
+import FreshBid.back.exception.NotFoundException;
+import FreshBid.back.repository.ImageIngestRedisRepository;
+import FreshBid.back.service.FileStorageService;
+import FreshBid.back.service.ImageIngestService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageIngestServiceImpl implements ImageIngestService {
+
+    // key 발급 전 수신 중인 파일 (재시작 시 이어서 처리할 수 없으므로 삭제)
+    private static final String RECEIVING_SUFFIX = ".receiving";
+    // key 발급 후 업로드 대기 파일, 파일명 = key (Base64 URL), 재시작 시 Redis 작업 정보로 이어서 처리
+    private static final String TEMP_SUFFIX = ".upload";
+    // 상태 조회 응답에 내부 예외 메시지(스토리지 주소 등)가 드러나지 않도록 고정된 사유만 기록, 상세 내용은 로그로 확인
+    private static final String FAILURE_REASON = "이미지 저장에 실패했습니다.";
+
+    private final FileStorageService fileStorageService;
+    private final ImageIngestRedisRepository imageIngestRedisRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("imageIngestExecutor")
+    private final ThreadPoolTaskExecutor imageIngestExecutor;
+
+    @Value("${image.ingest.temp-dir:${java.io.tmpdir}/freshbid-image-ingest}")
+    private String tempDir;
+
+    @Value("${image.ingest.max-attempts:3}")
+    private int maxAttempts;
+
+    // n번째 재시도는 retry-backoff-ms * 2^(n-1) 뒤에 실행
+    @Value("${image.ingest.retry-backoff-ms:1000}")
+    private long retryBackoffMillis;
+
+    private Path tempRoot;
+
+    // 재시도 대기 전용 (대기 중에 작업 스레드나 공용 ForkJoinPool을 점유하지 않도록)
+    private ScheduledExecutorService retryScheduler;
+
+    private record IngestJob(ImageUploadResultDto prepared, Path tempFile) {
+
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        tempRoot = Paths.get(tempDir).toAbsolutePath();
+        Files.createDirectories(tempRoot);
+
+        // key 발급 전에 중단된 요청은 호출자에게 key가 전달되지 않았으므로 이어서 처리하지 않음
+        try (Stream<Path> paths = Files.list(tempRoot)) {
+            long removed = paths.filter(path -> path.toString().endsWith(RECEIVING_SUFFIX))
+                .filter(this::deleteTemp)
+                .count();
+            if (removed > 0) {
+                log.warn("key 발급 전 중단된 이미지 업로드 임시 파일 정리 - {}개", removed);
+            }
+        }
+
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "image-ingest-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 대기 중인 재시도는 임시 파일과 Redis 작업 정보가 남아 있으므로 다음 실행에서 이어서 처리됨
+        retryScheduler.shutdownNow();
+    }
+
+    /**
+     * 이전 실행에서 끝나지 않은 업로드 이어서 처리
+     * 작업 정보가 없으면 (커밋 전 중단 → 호출자 트랜잭션 결과를 알 수 없음) 업로드하지 않고 임시 파일만 삭제한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingJobs() {
+        List<Path> tempFiles;
+        try (Stream<Path> paths = Files.list(tempRoot)) {
+            tempFiles = paths.filter(path -> path.toString().endsWith(TEMP_SUFFIX)).toList();
+        } catch (IOException e) {
+            log.warn("이미지 업로드 임시 디렉터리 조회 실패 - {}", tempRoot, e);
+            return;
+        }
+
+        int resumed = 0;
+        for (Path tempFile : tempFiles) {
+            try {
+                if (resume(tempFile)) {
+                    resumed++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("이미지 업로드 재개 실패 - {}, {}", tempFile, e.getMessage());
+            }
+        }
+        if (!tempFiles.isEmpty()) {
+            log.info("이전 실행의 이미지 업로드 재개 - {}개 중 {}개", tempFiles.size(), resumed);
+        }
+    }
+
+    private boolean resume(Path tempFile) {
+        String fileName = tempFile.getFileName().toString();
+        String filePath = fromTempName(fileName.substring(0, fileName.length() - TEMP_SUFFIX.length()));
+
+        ImageIngestStatusDto status = imageIngestRedisRepository.find(filePath);
+        ImageUploadResultDto prepared = imageIngestRedisRepository.findJob(filePath);
+        if (status == null || prepared == null
+            || status.getStatus() == Status.DONE || status.getStatus() == Status.FAILED) {
+            deleteTemp(tempFile);
+            return false;
+        }
+
+        // 처리 중 중단된 시도는 다시 같은 회차로, 재시도 대기 중이던 작업은 다음 회차로
+        int attempt = status.getStatus() == Status.PROCESSING
+            ? Math.max(1, status.getAttempts())
+            : status.getAttempts() + 1;
+        enqueue(new IngestJob(prepared, tempFile), attempt);
+        return true;
+    }
+
+    @Override
+    public String submit(String prefix, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 이미지 파일이 비어 있습니다.");
+        }
+
+        //1. 로컬 임시 파일로 받기 (스토리지 지연과 무관)
+        Path receivingFile = tempRoot.resolve(UUID.randomUUID() + RECEIVING_SUFFIX);
+        try {
+            file.transferTo(receivingFile);
+        } catch (IOException e) {
+            deleteTemp(receivingFile);
+            throw new IllegalStateException("이미지 임시 저장에 실패했습니다.", e);
+        }
+
+        //2. key 발급 (같은 내용이 이미 있으면 업로드 없이 기존 key)
+        ImageUploadResultDto prepared;
+        try {
+            prepared = fileStorageService.prepareUpload(prefix,
+                new FileSystemResource(receivingFile), file.getOriginalFilename(),
+                file.getContentType(), file.getSize());
+        } catch (RuntimeException e) {
+            deleteTemp(receivingFile);
+            throw e;
+        }
+
+        String filePath = prepared.getFilePath();
+        if (prepared.isDeduplicated()) {
+            // 기존 object 참조는 prepareUpload에서 등록 (호출자 트랜잭션이 롤백되면 해제)
+            deleteTemp(receivingFile);
+            imageIngestRedisRepository.save(filePath, Status.DONE, 0, null);
+            return filePath;
+        }
+
+        // 재시작 후에도 어떤 key의 파일인지 알 수 있도록 key 이름으로 변경
+        Path tempFile = tempRoot.resolve(toTempName(filePath) + TEMP_SUFFIX);
+        try {
+            Files.move(receivingFile, tempFile, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteTemp(receivingFile);
+            throw new IllegalStateException("이미지 임시 저장에 실패했습니다.", e);
+        }
+
+        imageIngestRedisRepository.save(filePath, Status.PENDING, 0, null);
+        IngestJob job = new IngestJob(prepared, tempFile);
+
+        //3. 호출한 트랜잭션이 커밋된 뒤 작업 시작 (롤백되면 업로드하지 않음)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        start(job);
+                    } else {
+                        cancel(job);
+                    }
+                }
+            });
+        } else {
+            start(job);
+        }
+
+        log.info("이미지 업로드 접수 - filePath: {}, 크기: {}", filePath, prepared.getSize());
+        return filePath;
+    }
+
+    @Override
+    public ImageIngestStatusDto getStatus(String filePath) {
+        ImageIngestStatusDto status = imageIngestRedisRepository.find(filePath);
+        if (status == null) {
+            throw new NotFoundException("업로드 상태 정보가 없습니다: " + filePath);
+        }
+        return status;
+    }
+
+    /**
+     * 작업 정보를 남긴 뒤 첫 시도 제출 (작업 정보가 있는 임시 파일만 재시작 후 이어서 처리)
+     */
+    private void start(IngestJob job) {
+        imageIngestRedisRepository.saveJob(job.prepared());
+        enqueue(job, 1);
+    }
+
+    /**
+     * 실행기가 가득 차면 호출 스레드에서 처리됨 (CallerRunsPolicy)
+     */
+    private void enqueue(IngestJob job, int attempt) {
+        imageIngestExecutor.execute(() -> process(job, attempt));
+    }
+
+    private void process(IngestJob job, int attempt) {
+        String filePath = job.prepared().getFilePath();
+        imageIngestRedisRepository.save(filePath, Status.PROCESSING, attempt, null);
+
+        try {
+            // 업로드 + 참조 등록 + 썸네일, 이후 스토리지에 실제로 저장되었는지 확인
+            fileStorageService.storeImage(job.prepared(), new FileSystemResource(job.tempFile()));
+            verify(job.prepared());
+
+            imageIngestRedisRepository.save(filePath, Status.DONE, attempt, null);
+            deleteTemp(job.tempFile());
+            meterRegistry.counter("image.ingest.completed").increment();
+            log.info("이미지 업로드 완료 - filePath: {}, 시도: {}", filePath, attempt);
+
+        } catch (RuntimeException e) {
+            if (attempt >= maxAttempts) {
+                imageIngestRedisRepository.save(filePath, Status.FAILED, attempt, FAILURE_REASON);
+                deleteTemp(job.tempFile());
+                meterRegistry.counter("image.ingest.failed").increment();
+                log.error("이미지 업로드 최종 실패 - filePath: {}, 시도: {}", filePath, attempt, e);
+                return;
+            }
+
+            long delayMillis = retryBackoffMillis * (1L << (attempt - 1));
+            imageIngestRedisRepository.save(filePath, Status.PENDING, attempt, FAILURE_REASON);
+            meterRegistry.counter("image.ingest.retried").increment();
+            log.warn("이미지 업로드 실패, {}ms 후 재시도 - filePath: {}, 시도: {}, {}", delayMillis, filePath,
+                attempt, e.getMessage());
+
+            // 대기 중에 작업 스레드를 점유하지 않도록 지연 후 다시 제출
+            try {
+                retryScheduler.schedule(() -> enqueue(job, attempt + 1), delayMillis,
+                    TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ex) {
+                // 종료 중: 임시 파일과 작업 정보가 남아 있으므로 다음 실행에서 이어서 처리
+                log.info("종료 중이라 재시도를 다음 실행으로 미룸 - filePath: {}", filePath);
+            }
+        }
+    }
+
+    private void verify(ImageUploadResultDto prepared) {
+        StoredImageDto stored = fileStorageService.getImageInfo(prepared.getFilePath());
+        if (stored.getSize() != prepared.getSize()) {
+            throw new IllegalStateException(
+                "업로드된 이미지 크기가 다릅니다. 예상: " + prepared.getSize() + ", 실제: " + stored.getSize());
+        }
+    }
+
+    private void cancel(IngestJob job) {
+        deleteTemp(job.tempFile());
+        imageIngestRedisRepository.save(job.prepared().getFilePath(), Status.FAILED, 0,
+            "요청이 취소되었습니다.");
+        log.info("이미지 업로드 취소 (트랜잭션 롤백) - filePath: {}", job.prepared().getFilePath());
+    }
+
+    private String toTempName(String filePath) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(filePath.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String fromTempName(String tempName) {
+        return new String(Base64.getUrlDecoder().decode(tempName), StandardCharsets.UTF_8);
+    }
+
+    private boolean deleteTemp(Path tempFile) {
+        try {
+            return Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("이미지 업로드 임시 파일 삭제 실패 - {}", tempFile, e);
+            return false;
+        }
+    }
+}
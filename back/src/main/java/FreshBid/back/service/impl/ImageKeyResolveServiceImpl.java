@@ -0,0 +1,146 @@
+package FreshBid.back.service.impl;
+
+import FreshBid.back.dto.image.ImageKey;
+import FreshBid.back.dto.image.ImageVariant;
+import FreshBid.back.service.FileStorageService;
+import FreshBid.back.service.ImageKeyResolveService;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ReflectionUtils;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageKeyResolveServiceImpl implements ImageKeyResolveService {
+
+    // 이 패키지의 객체만 필드를 따라감 (엔티티 지연 로딩 등을 건드리지 않도록)
+    private static final String DTO_PACKAGE = "FreshBid.back.dto.";
+
+    private final FileStorageService fileStorageService;
+
+    // DTO 클래스 → 이미지 필드 / 하위 객체 필드 (리플렉션은 클래스당 한 번)
+    private final Map<Class<?>, FieldPlan> plans = new ConcurrentHashMap<>();
+
+    private record FieldPlan(List<Field> imageFields, List<Field> nestedFields) {
+
+        boolean isEmpty() {
+            return imageFields.isEmpty() && nestedFields.isEmpty();
+        }
+    }
+
+    // 값을 바꿔 넣을 위치
+    private record ImageSlot(Object target, Field field, String filePath) {
+
+    }
+
+    @Override
+    public void resolve(Object body) {
+        if (body == null) {
+            return;
+        }
+
+        //1. 응답 전체에서 이미지 필드 수집 (크기별)
+        Map<ImageVariant, List<ImageSlot>> slots = new HashMap<>();
+        collect(body, slots, Collections.newSetFromMap(new IdentityHashMap<>()));
+        if (slots.isEmpty()) {
+            return;
+        }
+
+        //2. 크기별로 중복 없이 한 번에 변환 후 바꿔 넣기
+        slots.forEach((variant, targets) -> {
+            Map<String, String> images = fileStorageService.resolveImages(
+                targets.stream().map(ImageSlot::filePath).toList(), variant);
+            for (ImageSlot slot : targets) {
+                ReflectionUtils.setField(slot.field(), slot.target(), images.get(slot.filePath()));
+            }
+        });
+    }
+
+    private void collect(Object value, Map<ImageVariant, List<ImageSlot>> slots, Set<Object> visited) {
+        if (value == null || !visited.add(value)) {
+            return;
+        }
+
+        // Page, List 등
+        if (value instanceof Iterable<?> iterable) {
+            for (Object element : iterable) {
+                collect(element, slots, visited);
+            }
+            return;
+        }
+        if (value instanceof Map<?, ?> map) {
+            for (Object element : map.values()) {
+                collect(element, slots, visited);
+            }
+            return;
+        }
+
+        FieldPlan plan = planOf(value.getClass());
+        for (Field field : plan.imageFields()) {
+            String filePath = (String) ReflectionUtils.getField(field, value);
+            if (filePath == null) {
+                continue;
+            }
+            ImageVariant variant = field.getAnnotation(ImageKey.class).value();
+            slots.computeIfAbsent(variant, key -> new ArrayList<>())
+                .add(new ImageSlot(value, field, filePath));
+        }
+        for (Field field : plan.nestedFields()) {
+            collect(ReflectionUtils.getField(field, value), slots, visited);
+        }
+    }
+
+    private FieldPlan planOf(Class<?> type) {
+        return plans.computeIfAbsent(type, this::buildPlan);
+    }
+
+    private FieldPlan buildPlan(Class<?> type) {
+        // DTO 패키지 밖 객체(엔티티, 프록시 등)와 enum은 따라가지 않음
+        if (!type.getName().startsWith(DTO_PACKAGE) || type.isEnum()) {
+            return new FieldPlan(List.of(), List.of());
+        }
+
+        List<Field> imageFields = new ArrayList<>();
+        List<Field> nestedFields = new ArrayList<>();
+        ReflectionUtils.doWithFields(type, field -> {
+            ReflectionUtils.makeAccessible(field);
+            if (field.isAnnotationPresent(ImageKey.class)) {
+                if (field.getType() != String.class) {
+                    throw new IllegalStateException(
+                        "@ImageKey는 String 필드에만 사용할 수 있습니다: " + field);
+                }
+                imageFields.add(field);
+            } else if (isNested(field.getType())) {
+                nestedFields.add(field);
+            }
+        }, field -> !Modifier.isStatic(field.getModifiers()));
+
+        FieldPlan plan = new FieldPlan(List.copyOf(imageFields), List.copyOf(nestedFields));
+        if (!plan.isEmpty()) {
+            log.debug("이미지 필드 변환 대상 등록 - {}: 이미지 필드 {}개", type.getSimpleName(),
+                imageFields.size());
+        }
+        return plan;
+    }
+
+    /**
+     * 하위에 DTO가 있을 수 있는 필드 (제네릭 data 필드, 컬렉션, 다른 DTO)
+     */
+    private boolean isNested(Class<?> fieldType) {
+        return fieldType == Object.class
+            || Iterable.class.isAssignableFrom(fieldType)
+            || Map.class.isAssignableFrom(fieldType)
+            || (fieldType.getName().startsWith(DTO_PACKAGE) && !fieldType.isEnum());
+    }
+}
@@ -13,7 +13,7 @@ import FreshBid.back.exception.NotFoundException;
 import FreshBid.back.repository.LiveRepository;
 import FreshBid.back.repository.LiveRepositorySupport;
 import FreshBid.back.service.AuctionService;
-import FreshBid.back.service.FileStorageService;
+import FreshBid.back.service.ImageIngestService;
 import FreshBid.back.service.LiveService;
 
 import java.time.LocalDateTime;
@@ -38,7 +38,7 @@ public class LiveServiceImpl implements LiveService {
     private final LiveRepository liveRepository;
     private final LiveRepositorySupport liveRepositorySupport;
     private final AuctionService auctionService;
-    private final FileStorageService fileStorageService;
+    private final ImageIngestService imageIngestService;
     private static final String MINIO_PREFIX = "live";
     @Override
     @Transactional
@@ -70,9 +70,12 @@ public class LiveServiceImpl implements LiveService {
         Live live = Live.of(liveCreateRequestDto);
         live.setSeller(seller);
 
-        //라이브 이미지 저장
-        String filePath = fileStorageService.uploadImage(MINIO_PREFIX, liveCreateRequestDto.getImgFile());
-        live.setReprImgSrc(filePath);
+        //라이브 이미지 저장 (key만 먼저 발급, 스토리지 업로드는 커밋 후 비동기 처리)
+        if (liveCreateRequestDto.getImgFile() != null && !liveCreateRequestDto.getImgFile().isEmpty()) {
+            String filePath = imageIngestService.submit(MINIO_PREFIX,
+                liveCreateRequestDto.getImgFile());
+            live.setReprImgSrc(filePath);
+        }
 
         liveRepository.save(live);
         log.info("Live 생성 완료 - Live ID: {}", live.getId());
@@ -115,12 +118,6 @@ public class LiveServiceImpl implements LiveService {
         // Live 엔티티를 LiveSearchResponseDto로 변환
         Page<LiveResponseDto> result = livePage.map(LiveResponseDto::from);
 
-        //blob 이미지 추가
-        for(LiveResponseDto dto: result.getContent()) {
-            String base64img = fileStorageService.convertImageUrlToBlob(fileStorageService.getUrl(dto.getReprImgSrc()));
-            dto.setReprImgSrc(base64img);
-        }
-
         log.info("Live 검색 완료 - 총 {}개 중 {}개 조회", livePage.getTotalElements(),
             livePage.getNumberOfElements());
         return result;
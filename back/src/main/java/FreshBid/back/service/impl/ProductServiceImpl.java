@@ -67,7 +67,7 @@ public class ProductServiceImpl implements ProductService {
         //상품 이미지 minio 저장
         String imgFilePath = null;
         if(dto.getReprImgSrc() != null) {
-            imgFilePath = fileStorageService.uploadImage(MINIO_PREFIX, dto.getReprImgSrc());
+            imgFilePath = fileStorageService.uploadImage(MINIO_PREFIX, dto.getReprImgSrc()).getFilePath();
         }
         Product product = Product.of(dto, imgFilePath, seller, category);
         productRepository.save(product);
@@ -13,7 +13,6 @@ import FreshBid.back.dto.user.UserSearchResponseDto;
 import FreshBid.back.entity.SellerReview;
 import FreshBid.back.exception.NotFoundException;
 import FreshBid.back.repository.*;
-import FreshBid.back.service.FileStorageService;
 import FreshBid.back.service.SellerInfoService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -35,7 +34,6 @@ public class SellerInfoServiceImpl implements SellerInfoService {
     private final SellerReviewRepositorySupport sellerReviewRepositorySupport;
     private final SellerQnaRepositorySupport sellerQnaRepositorySupport;
     private final SellerBookmarkRepositorySupport sellerBookmarkRepositorySupport;
-    private final FileStorageService fileStorageService;
 
     @Override
     public SellerBasicInfoDto getBasicInfo(Long userId){
@@ -54,12 +52,7 @@ public class SellerInfoServiceImpl implements SellerInfoService {
             throw new NotFoundException("해당 판매자가 존재하지 않습니다.");
         }
 
-        Page<LiveBasicResponseDto> lives = liveRepositorySupport.searchSellerLives(sellerLiveFilterRequestDto);
-        for(LiveBasicResponseDto dto: lives.getContent()) {
-            String base64Image = fileStorageService.convertImageUrlToBlob(fileStorageService.getUrl(dto.getReprImgSrc()));
-            dto.setReprImgSrc(base64Image);
-        }
-        return lives;
+        return liveRepositorySupport.searchSellerLives(sellerLiveFilterRequestDto);
     }
 
     @Override
@@ -99,13 +92,7 @@ public class SellerInfoServiceImpl implements SellerInfoService {
     @Override
     public List<UserSearchResponseDto> searchSellerByQuery(String searchQuery) {
 
-        List<UserSearchResponseDto> searchedSellers =  userRepositorySupport.searchSellerByQuery(searchQuery);
-        //profileImage -> minio URL -> base64 image 형태로 변환
-        for(UserSearchResponseDto dto: searchedSellers) {
-            String base64Image = fileStorageService.convertImageUrlToBlob(fileStorageService.getUrl(dto.getProfileImage()));
-            dto.setProfileImage(base64Image);
-        }
-
-        return searchedSellers;
+        // profileImage는 응답 시 이미지 URL (요청 시 base64)로 일괄 변환 (@ImageKey)
+        return userRepositorySupport.searchSellerByQuery(searchQuery);
     }
 }
@@ -0,0 +1,306 @@
+package FreshBid.back.service.impl;
+
+import FreshBid.back.dto.image.ImageVariant;
+import FreshBid.back.exception.NotFoundException;
+import FreshBid.back.service.ThumbnailService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.minio.GetObjectArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import jakarta.annotation.PostConstruct;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailServiceImpl implements ThumbnailService {
+
+    private static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
+
+    private final MinioClient minioClient;
+
+    @Value("${minio.bucket-name}")
+    private String bucket;
+
+    // 원본 디코딩은 이미지 크기만큼 힙을 사용하므로 동시 생성 수 제한
+    @Value("${image.thumbnail.max-concurrent:2}")
+    private int maxConcurrent;
+
+    // 대기 시간 안에 생성 슬롯을 얻지 못하면 원본으로 응답 (요청 스레드가 쌓이지 않도록)
+    @Value("${image.thumbnail.permit-timeout-ms:2000}")
+    private long permitTimeoutMillis;
+
+    // 헤더의 가로x세로가 이보다 크면 디코딩하지 않음 (작은 파일이 거대한 비트맵으로 풀리는 압축 폭탄 방지)
+    @Value("${image.thumbnail.max-pixels:40000000}")
+    private long maxPixels;
+
+    private Semaphore generationPermits;
+
+    // 생성 슬롯을 얻지 못한 경우 (캐시에 남기지 않고 이번 요청만 원본 사용)
+    private static class ThumbnailBusyException extends RuntimeException {
+
+    }
+
+    // 썸네일 key → 실제로 내려줄 key (생성할 수 없는 이미지는 원본 key)
+    private final Cache<String, String> resolvedKeys = Caffeine.newBuilder()
+        .maximumSize(10_000)
+        .build();
+
+    @PostConstruct
+    void init() {
+        generationPermits = new Semaphore(maxConcurrent);
+    }
+
+    @Override
+    public void createThumbnails(String filePath, InputStream original) {
+        Set<ImageVariant> stored;
+        try {
+            stored = generateAndStore(filePath, original);
+        } catch (ThumbnailBusyException e) {
+            // 조회 시 지연 생성
+            log.info("썸네일 생성 대기 시간 초과, 조회 시 생성 - filePath: {}", filePath);
+            return;
+        }
+        for (ImageVariant variant : stored) {
+            String variantKey = variant.keyOf(filePath);
+            resolvedKeys.put(variantKey, variantKey);
+        }
+    }
+
+    /**
+     * 썸네일 생성 + 저장 (캐시는 건드리지 않음)
+     *
+     * @return 저장한 썸네일 크기 목록
+     */
+    private Set<ImageVariant> generateAndStore(String filePath, InputStream original) {
+        Map<ImageVariant, byte[]> thumbnails = generate(original);
+        if (thumbnails.isEmpty()) {
+            log.info("썸네일 생성 불가 이미지 (원본 사용) - filePath: {}", filePath);
+            return Set.of();
+        }
+
+        thumbnails.forEach((variant, bytes) -> store(variant.keyOf(filePath), bytes));
+        log.debug("썸네일 생성 완료 - filePath: {}, 개수: {}", filePath, thumbnails.size());
+        return thumbnails.keySet();
+    }
+
+    @Override
+    public String ensureThumbnail(String filePath, ImageVariant variant) {
+        if (variant.isOriginal()) {
+            return filePath;
+        }
+        String variantKey = variant.keyOf(filePath);
+        try {
+            return resolvedKeys.get(variantKey, key -> resolveThumbnail(filePath, variant, key));
+        } catch (ThumbnailBusyException e) {
+            log.debug("썸네일 생성 대기 시간 초과, 원본 사용 - filePath: {}", filePath);
+            return filePath;
+        }
+    }
+
+    /**
+     * 캐시 미스 시 실행 (Caffeine 계산 함수 안이므로 캐시에 직접 쓰지 않음)
+     */
+    private String resolveThumbnail(String filePath, ImageVariant variant, String variantKey) {
+        if (exists(variantKey)) {
+            return variantKey;
+        }
+
+        // 썸네일이 없는 기존 이미지: 원본으로 모든 크기를 한 번에 생성
+        Set<ImageVariant> stored;
+        try (InputStream original = minioClient.getObject(GetObjectArgs.builder()
+            .bucket(bucket)
+            .object(filePath)
+            .build())) {
+            stored = generateAndStore(filePath, original);
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                throw new NotFoundException("존재하지 않는 이미지입니다: " + filePath);
+            }
+            throw new IllegalStateException("썸네일 생성을 위한 원본 조회에 실패했습니다.", e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("썸네일 생성을 위한 원본 조회에 실패했습니다.", e);
+        }
+
+        return stored.contains(variant) ? variantKey : filePath;
+    }
+
+    @Override
+    public void deleteThumbnails(String filePath) {
+        for (ImageVariant variant : ImageVariant.thumbnails()) {
+            String variantKey = variant.keyOf(filePath);
+            resolvedKeys.invalidate(variantKey);
+            try {
+                minioClient.removeObject(RemoveObjectArgs.builder()
+                    .bucket(bucket)
+                    .object(variantKey)
+                    .build());
+            } catch (Exception e) {
+                log.warn("썸네일 삭제 실패 - key: {}, {}", variantKey, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 원본을 한 번 디코딩하여 모든 크기의 JPEG 썸네일 생성 (지원하지 않는 형식, 허용 픽셀 수 초과면 빈 Map)
+     *
+     * @throws ThumbnailBusyException 대기 시간 안에 생성 슬롯을 얻지 못한 경우
+     */
+    private Map<ImageVariant, byte[]> generate(InputStream original) {
+        Map<ImageVariant, byte[]> thumbnails = new EnumMap<>(ImageVariant.class);
+        try {
+            if (!generationPermits.tryAcquire(permitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ThumbnailBusyException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("썸네일 생성이 중단되었습니다.", e);
+        }
+
+        try {
+            BufferedImage source = decode(original);
+            if (source == null) {
+                return thumbnails;
+            }
+            for (ImageVariant variant : ImageVariant.thumbnails()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                if (ImageIO.write(resize(source, variant.getWidth()), "jpg", out)) {
+                    thumbnails.put(variant, out.toByteArray());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("썸네일 생성 실패: {}", e.getMessage());
+        } finally {
+            generationPermits.release();
+        }
+        return thumbnails;
+    }
+
+    /**
+     * 헤더로 크기를 먼저 확인한 뒤 디코딩
+     * 가장 큰 썸네일 폭의 2배 이상인 이미지는 건너뛰며 읽어(subsampling) 디코딩 메모리를 줄인다.
+     *
+     * @return 지원하지 않는 형식이거나 허용 픽셀 수를 넘으면 null
+     */
+    private BufferedImage decode(InputStream original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("썸네일 생성 거부 (허용 픽셀 수 초과) - {}x{}", width, height);
+                    return null;
+                }
+
+                int maxVariantWidth = ImageVariant.thumbnails().stream()
+                    .mapToInt(ImageVariant::getWidth)
+                    .max()
+                    .orElse(width);
+                int step = Math.max(1, width / (maxVariantWidth * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 폭 기준 비율 유지 축소 (원본보다 크게 늘리지 않음)
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소하고, 투명 배경은 흰색으로 채운다.
+     */
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        int width = Math.min(targetWidth, source.getWidth());
+        int height = Math.max(1,
+            (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight,
+                BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, currentWidth, currentHeight);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            graphics.dispose();
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+
+        return current;
+    }
+
+    private void store(String variantKey, byte[] bytes) {
+        try {
+            minioClient.putObject(PutObjectArgs.builder()
+                .bucket(bucket)
+                .object(variantKey)
+                .stream(new ByteArrayInputStream(bytes), bytes.length, -1)
+                .contentType(THUMBNAIL_CONTENT_TYPE)
+                .build());
+        } catch (Exception e) {
+            throw new IllegalStateException("썸네일 저장에 실패했습니다: " + variantKey, e);
+        }
+    }
+
+    private boolean exists(String key) {
+        try {
+            minioClient.statObject(StatObjectArgs.builder()
+                .bucket(bucket)
+                .object(key)
+                .build());
+            return true;
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return false;
+            }
+            throw new IllegalStateException("이미지 정보 조회에 실패했습니다.", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("이미지 정보 조회에 실패했습니다.", e);
+        }
+    }
+}
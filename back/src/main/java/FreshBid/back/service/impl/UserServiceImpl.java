@@ -1,5 +1,6 @@
 package FreshBid.back.service.impl;
 
+import FreshBid.back.dto.image.ImageVariant;
 import FreshBid.back.dto.user.UserBasicResponseDto;
 import FreshBid.back.dto.user.UserInfoUpdateRequestDto;
 import FreshBid.back.entity.User;
@@ -8,6 +9,7 @@ import FreshBid.back.exception.UserNotFoundException;
 import FreshBid.back.repository.UserRepository;
 import FreshBid.back.repository.UserRepositorySupport;
 import FreshBid.back.service.FileStorageService;
+import FreshBid.back.service.ImageIngestService;
 import FreshBid.back.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +28,7 @@ public class UserServiceImpl implements UserService {
 	private final FreshBid.back.util.JwtTokenProvider jwtTokenProvider;
 	public static final String MINIO_PREFIX = "profile-image";
 	private final FileStorageService fileStorageService;
+	private final ImageIngestService imageIngestService;
 	@Transactional
 	public void updateUserInfo(Long userId, UserInfoUpdateRequestDto dto) {
 
@@ -48,8 +51,8 @@ public class UserServiceImpl implements UserService {
 				 fileStorageService.deleteImage(user.getProfileImage());
 			 }
 
-			 //새 프로필 업로드 후 저장
-			 String fileName = fileStorageService.uploadImage(MINIO_PREFIX, dto.getProfileImageFile());
+			 //새 프로필 업로드 후 저장 (key만 먼저 발급, 스토리지 업로드는 커밋 후 비동기 처리)
+			 String fileName = imageIngestService.submit(MINIO_PREFIX, dto.getProfileImageFile());
 			 log.info("newFileName: {}", fileName);
 			 user.setProfileImage(fileName);
 		 }
@@ -74,13 +77,11 @@ public class UserServiceImpl implements UserService {
 		User user = userRepository.findById(userId)
 				.orElseThrow(() -> new UserNotFoundException(userId));
 
-		String profileImageUrl = fileStorageService.getUrl(user.getProfileImage());
-
         return UserBasicResponseDto.builder()
 				.username(user.getUsername())
 				.nickname(user.getNickname())
 				.role(user.getRole())
-				.profileImage(fileStorageService.convertImageUrlToBlob(profileImageUrl))
+				.profileImage(fileStorageService.resolveImageSrc(user.getProfileImage(), ImageVariant.SMALL))
 				.build();
 	}
 }
@@ -7,6 +7,7 @@ import FreshBid.back.entity.Auction.Status;
 import FreshBid.back.entity.User;
 import FreshBid.back.repository.BidRedisRepositorySupport;
 import FreshBid.back.service.AuctionService;
+import FreshBid.back.service.AuctionStateCacheService;
 import FreshBid.back.service.BidService;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -32,6 +33,9 @@ public class BidHandler {
     @Autowired
     private BidRedisRepositorySupport bidRedisRepositorySupport;
 
+    @Autowired
+    private AuctionStateCacheService auctionStateCacheService;
+
     private static final Gson gson = new GsonBuilder()
         .registerTypeAdapter(LocalDateTime.class, (com.google.gson.JsonSerializer<LocalDateTime>)
             (src, typeOfSrc, context) -> context.serialize(
@@ -63,6 +67,8 @@ public class BidHandler {
 
             auctionService.validateAndChangeAuctionStatus(Status.SCHEDULED, Status.IN_PROGRESS,
                 sellerId, auctionId);
+            // 입찰 검증용 경매 상태 캐싱
+            auctionStateCacheService.refreshAuctionState(auctionId);
             // Redis에 경매-룸 매핑 저장
             bidRedisRepositorySupport.addActiveAuction(auctionId, roomId);
 
@@ -89,6 +95,8 @@ public class BidHandler {
             // Redis에서 경매-룸 매핑 삭제
             bidRedisRepositorySupport.removeActiveAuction(auctionId);
             bidRedisRepositorySupport.removeCurrentMinBidPrice(auctionId);
+            // 입찰 검증용 경매 상태 캐시 무효화
+            auctionStateCacheService.evictAuctionState(auctionId);
 
             List<JsonObject> response = new ArrayList<>();
             StringBuilder message = new StringBuilder("경매 종료에 성공했습니다.");
@@ -113,6 +121,33 @@ public class BidHandler {
         }
     }
 
+    /**
+     * 입찰 현황 전체 스냅샷 메시지 (신규/동기화가 깨진 클라이언트용)
+     */
+    public JsonObject bidStatus(BidStatusDto bidStatus, long seq) {
+        JsonObject message = bidStatus(bidStatus);
+        message.addProperty("seq", seq);
+        return message;
+    }
+
+    /**
+     * 입찰 현황 변경분 메시지: baseSeq 이후 새로 목록에 들어온 입찰만 포함
+     * 클라이언트는 보유한 시퀀스가 baseSeq와 같을 때만 적용하고, 다르면 bidStatusSync로 스냅샷을 요청한다.
+     */
+    public JsonObject bidStatusDelta(BidStatusDto bidStatus, List<BidResponseDto> newBids,
+        long seq, long baseSeq) {
+        JsonObject message = new JsonObject();
+        message.addProperty("type", "bidStatusDelta");
+        message.addProperty("auctionId", bidStatus.getAuctionId());
+        message.addProperty("seq", seq);
+        message.addProperty("baseSeq", baseSeq);
+        message.addProperty("status", bidStatus.getStatus());
+        message.addProperty("currentHighestPrice", bidStatus.getCurrentHighestPrice());
+        message.add("bids", gson.toJsonTree(maskBidList(newBids)));
+        message.add("highestBid", gson.toJsonTree(maskBidResponse(bidStatus.getHighestBid())));
+        return message;
+    }
+
     public JsonObject bidStatus(BidStatusDto bidStatus) {
 
         JsonObject message = new JsonObject();
@@ -120,9 +155,9 @@ public class BidHandler {
         message.addProperty("auctionId", bidStatus.getAuctionId());
         message.addProperty("status", bidStatus.getStatus());
         message.addProperty("currentHighestPrice", bidStatus.getCurrentHighestPrice());
-        message.addProperty("bidListJson", gson.toJson(maskBidList(bidStatus.getBidList())));
-        message.addProperty("highestBidJson",
-            gson.toJson(maskBidResponse(bidStatus.getHighestBid())));
+        // JSON 문자열로 한 번 더 감싸지 않고 중첩 객체로 포함
+        message.add("bidList", gson.toJsonTree(maskBidList(bidStatus.getBidList())));
+        message.add("highestBid", gson.toJsonTree(maskBidResponse(bidStatus.getHighestBid())));
 
         return message;
     }
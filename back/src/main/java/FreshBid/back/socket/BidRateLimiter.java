@@ -0,0 +1,150 @@
+package FreshBid.back.socket;
+
+import FreshBid.back.repository.RateLimitRedisRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별/룸별 입찰 요청 토큰 버킷
+ * 입찰 한 건마다 DB 조회와 Redis 쓰기가 일어나므로, 과도한 submitBid 는 처리 전에 거절한다.
+ * - local: 서버 메모리 버킷 (서버마다 따로 계산, 추가 I/O 없음)
+ * - redis: 모든 서버가 같은 버킷 사용 (Redis 오류 시 local 로 판단)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidRateLimiter {
+
+    private static final String STORE_REDIS = "redis";
+
+    public enum Scope {
+        USER, ROOM
+    }
+
+    public record Decision(boolean allowed, Scope scope, long retryAfterMillis) {
+
+        static final Decision ALLOWED = new Decision(true, null, 0);
+    }
+
+    private final RateLimitRedisRepository rateLimitRedisRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${bid.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bid.rate-limit.store:local}")
+    private String store;
+
+    @Value("${bid.rate-limit.user.burst:5}")
+    private int userBurst;
+
+    @Value("${bid.rate-limit.user.refill-per-second:2}")
+    private double userRefillPerSecond;
+
+    @Value("${bid.rate-limit.room.burst:200}")
+    private int roomBurst;
+
+    @Value("${bid.rate-limit.room.refill-per-second:100}")
+    private double roomRefillPerSecond;
+
+    // 한동안 입찰이 없던 버킷은 가득 찬 상태와 같으므로 버림
+    private final Cache<Long, TokenBucket> userBuckets = Caffeine.newBuilder()
+        .expireAfterAccess(Duration.ofMinutes(10))
+        .build();
+    private final Cache<Long, TokenBucket> roomBuckets = Caffeine.newBuilder()
+        .expireAfterAccess(Duration.ofMinutes(10))
+        .build();
+
+    /**
+     * 입찰 요청 허용 여부 (허용되면 사용자/룸 버킷에서 토큰 하나씩 소비)
+     */
+    public Decision tryAcquire(Long userId, Long roomId) {
+        if (!enabled) {
+            return Decision.ALLOWED;
+        }
+
+        Decision decision = STORE_REDIS.equalsIgnoreCase(store)
+            ? tryAcquireShared(userId, roomId)
+            : tryAcquireLocal(userId, roomId);
+        if (!decision.allowed()) {
+            meterRegistry.counter("bid.rate.limited", "scope",
+                decision.scope().name().toLowerCase()).increment();
+        }
+        return decision;
+    }
+
+    private Decision tryAcquireShared(Long userId, Long roomId) {
+        try {
+            long[] result = rateLimitRedisRepository.tryConsumeBidTokens(userId, roomId,
+                userBurst, userRefillPerSecond, roomBurst, roomRefillPerSecond);
+            if (result[0] == 0) {
+                return Decision.ALLOWED;
+            }
+            return new Decision(false, result[0] == 1 ? Scope.USER : Scope.ROOM, result[1]);
+        } catch (Exception e) {
+            log.warn("입찰 요청 제한 Redis 확인 실패, 서버 메모리 버킷으로 판단 - {}", e.getMessage());
+            return tryAcquireLocal(userId, roomId);
+        }
+    }
+
+    private Decision tryAcquireLocal(Long userId, Long roomId) {
+        long now = System.nanoTime();
+        TokenBucket userBucket = userBuckets.get(userId,
+            key -> new TokenBucket(userBurst, userRefillPerSecond, now));
+        long userWait = userBucket.tryConsume(now);
+        if (userWait > 0) {
+            return new Decision(false, Scope.USER, userWait);
+        }
+
+        TokenBucket roomBucket = roomBuckets.get(roomId,
+            key -> new TokenBucket(roomBurst, roomRefillPerSecond, now));
+        long roomWait = roomBucket.tryConsume(now);
+        if (roomWait > 0) {
+            // 룸 제한으로 거절된 요청은 사용자 토큰을 쓰지 않은 것으로 처리
+            userBucket.refund();
+            return new Decision(false, Scope.ROOM, roomWait);
+        }
+        return Decision.ALLOWED;
+    }
+
+    /**
+     * 최대 burst 개까지 쌓이고 초당 refillPerSecond 개씩 채워지는 버킷
+     */
+    static final class TokenBucket {
+
+        private final double capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(int burst, double refillPerSecond, long now) {
+            this.capacity = burst;
+            this.refillPerNano = refillPerSecond / 1_000_000_000d;
+            this.tokens = burst;
+            this.refilledAt = now;
+        }
+
+        /**
+         * @return 소비했으면 0, 아니면 토큰 하나가 채워질 때까지 남은 ms
+         */
+        synchronized long tryConsume(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerNano / 1_000_000d));
+        }
+
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+    }
+}
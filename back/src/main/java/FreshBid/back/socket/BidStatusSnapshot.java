@@ -0,0 +1,16 @@
+package FreshBid.back.socket;
+
+import java.util.Set;
+
+/**
+ * 룸에 마지막으로 브로드캐스트한 경매별 입찰 현황 (delta 계산용)
+ *
+ * @param seq                 룸 단위 입찰 현황 시퀀스
+ * @param bidKeys             브로드캐스트한 입찰 목록의 식별자 (userId:bidId)
+ * @param status              경매 상태
+ * @param currentHighestPrice 현재 최고가
+ */
+public record BidStatusSnapshot(long seq, Set<String> bidKeys, String status,
+                                Long currentHighestPrice) {
+
+}
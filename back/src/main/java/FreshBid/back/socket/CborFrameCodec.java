@@ -0,0 +1,67 @@
+package FreshBid.back.socket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 바이너리(CBOR) 서브 프로토콜 인코딩/디코딩
+ * 핸드셰이크에서 PROTOCOL을 협상한 세션에만 입찰 관련 메시지를 CBOR 바이너리 프레임으로 보낸다.
+ * 메시지 구조는 텍스트(JSON)와 같고 인코딩만 다르다. (그 외 메시지와 협상하지 않은 세션은 기존 텍스트 프레임)
+ */
+public final class CborFrameCodec {
+
+    public static final String PROTOCOL = "freshbid.cbor.v1";
+
+    // 바이너리로 보내는 메시지 종류 (입찰 현황, 입찰 결과, 낙찰 결과)
+    private static final Set<String> BINARY_TYPES = Set.of(
+        "bidStatusUpdate", "bidStatusDelta", "submitBidResult", "winningBidResult");
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper CBOR_MAPPER = new ObjectMapper(new CBORFactory());
+
+    private CborFrameCodec() {
+    }
+
+    /**
+     * 세션이 핸드셰이크에서 바이너리 서브 프로토콜을 선택했는지 여부
+     */
+    public static boolean isBinary(WebSocketSession session) {
+        return PROTOCOL.equals(session.getAcceptedProtocol());
+    }
+
+    /**
+     * JSON 메시지를 CBOR로 변환
+     *
+     * @return 바이너리로 보내지 않는 종류의 메시지면 null
+     */
+    public static byte[] encode(String json) {
+        try {
+            JsonNode message = JSON_MAPPER.readTree(json);
+            if (!BINARY_TYPES.contains(message.path("type").asText())) {
+                return null;
+            }
+            return CBOR_MAPPER.writeValueAsBytes(message);
+        } catch (IOException e) {
+            throw new UncheckedIOException("CBOR 인코딩 실패", e);
+        }
+    }
+
+    /**
+     * 클라이언트가 보낸 CBOR 메시지를 JSON 문자열로 변환 (텍스트 메시지와 같은 경로로 처리)
+     */
+    public static String decode(ByteBuffer payload) {
+        try {
+            byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+            return JSON_MAPPER.writeValueAsString(CBOR_MAPPER.readTree(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException("CBOR 디코딩 실패", e);
+        }
+    }
+}
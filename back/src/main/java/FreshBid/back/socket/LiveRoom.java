@@ -3,6 +3,7 @@ package FreshBid.back.socket;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Data;
 import org.kurento.client.Composite;
 import org.kurento.client.HubPort;
@@ -20,4 +21,18 @@ public class LiveRoom {
     private Composite composite;
     private Map<WebSocketSession, UserSession> participants = new ConcurrentHashMap<>();
     private Map<Long, WebSocketSession> userIdMap = new ConcurrentHashMap<>();
+    // 입찰 현황 시퀀스 및 auctionId → 마지막 브로드캐스트 입찰 현황 (bidStatusDelta 계산용)
+    private AtomicLong bidStatusSequence = new AtomicLong();
+    private Map<Long, BidStatusSnapshot> bidStatusSnapshots = new ConcurrentHashMap<>();
+    // 브로드캐스트 스레드와 룸 이벤트 리스너 스레드의 입찰 현황 전송 직렬화 (시퀀스 증가 ~ 세션별 전송)
+    private final Object bidStatusLock = new Object();
+    // 호스트가 다른 서버에 연결된 룸 (이 서버의 참가자용, 미디어 객체는 ID로 참조)
+    private boolean remote;
+
+    /**
+     * 호스트가 이 서버 또는 다른 서버에 연결되어 있는지 여부
+     */
+    public boolean hasHost() {
+        return hostSession != null || remote;
+    }
 }
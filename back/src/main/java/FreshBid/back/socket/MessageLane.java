@@ -0,0 +1,151 @@
+package FreshBid.back.socket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 수신 메시지 종류별 처리 실행기 (입찰 / 시그널링 / 경매 관리)
+ * <p>
+ * WebSocket 컨테이너 스레드는 메시지를 넣고 바로 반환하며, 처리 시간이 긴 종류가 다른 종류를 막지 않도록 실행기를 나눈다.
+ * 같은 key(세션)의 메시지는 들어온 순서대로 하나씩 처리한다. (예: host 이후 onIceCandidate)
+ * 대기 중인 메시지가 capacity를 넘으면 받지 않고 false를 반환한다. (호출한 쪽에서 busy 응답)
+ * 연결이 끊긴 key는 close로 대기 메시지를 버리고, 처리 중인 메시지가 끝난 뒤 정리 작업을 실행한다.
+ */
+@Slf4j
+public class MessageLane {
+
+    private final String name;
+    private final ThreadPoolTaskExecutor executor;
+    private final int capacity;
+
+    // 대기 + 실행 중인 메시지 수
+    private final AtomicInteger pending = new AtomicInteger();
+
+    // key → 앞선 메시지가 처리 중일 때 뒤에 들어온 메시지 (처리 중인 key만 존재)
+    private final ConcurrentHashMap<String, ArrayDeque<Runnable>> backlogs = new ConcurrentHashMap<>();
+
+    private final Counter rejectedCounter;
+    private final Timer waitTimer;
+
+    public MessageLane(String name, ThreadPoolTaskExecutor executor, int capacity,
+        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.executor = executor;
+        this.capacity = capacity;
+
+        Gauge.builder("socket.lane.pending", pending, AtomicInteger::get)
+            .tag("lane", name)
+            .register(meterRegistry);
+        Gauge.builder("socket.lane.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+            .tag("lane", name)
+            .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("socket.lane.rejected", "lane", name);
+        this.waitTimer = meterRegistry.timer("socket.lane.wait", "lane", name);
+    }
+
+    /**
+     * 메시지 처리 예약
+     *
+     * @return 대기 메시지가 가득 차 받지 못했으면 false
+     */
+    public boolean submit(String key, Runnable task) {
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            rejectedCounter.increment();
+            return false;
+        }
+
+        long submittedAt = System.nanoTime();
+        Runnable timedTask = () -> {
+            waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            task.run();
+        };
+
+        // 같은 key가 처리 중이면 뒤에 붙이고, 아니면 바로 실행
+        boolean[] idle = {false};
+        backlogs.compute(key, (k, backlog) -> {
+            if (backlog == null) {
+                idle[0] = true;
+                return new ArrayDeque<>();
+            }
+            backlog.add(timedTask);
+            return backlog;
+        });
+        if (idle[0]) {
+            dispatch(key, timedTask);
+        }
+        return true;
+    }
+
+    /**
+     * key의 대기 메시지를 버리고, 처리 중인 메시지가 있으면 그 뒤에 (없으면 바로) cleanup 실행 (capacity와 무관)
+     *
+     * @return 버린 메시지 수
+     */
+    public int close(String key, Runnable cleanup) {
+        int[] dropped = {0};
+        boolean[] idle = {false};
+        backlogs.compute(key, (k, backlog) -> {
+            if (backlog == null) {
+                idle[0] = true;
+                return new ArrayDeque<>();
+            }
+            dropped[0] = backlog.size();
+            backlog.clear();
+            backlog.add(cleanup);
+            return backlog;
+        });
+
+        pending.addAndGet(1 - dropped[0]);
+        if (idle[0]) {
+            dispatch(key, cleanup);
+        }
+        return dropped[0];
+    }
+
+    public int getPending() {
+        return pending.get();
+    }
+
+    private void dispatch(String key, Runnable task) {
+        try {
+            executor.execute(() -> run(key, task));
+        } catch (RejectedExecutionException e) {
+            // 종료 중인 실행기
+            log.warn("메시지 처리 실행기 종료됨 - lane: {}, key: {}", name, key);
+            pending.decrementAndGet();
+            runNext(key);
+        }
+    }
+
+    private void run(String key, Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.error("메시지 처리 중 오류 - lane: {}, key: {}", name, key, e);
+        } finally {
+            pending.decrementAndGet();
+            runNext(key);
+        }
+    }
+
+    private void runNext(String key) {
+        Runnable[] next = {null};
+        backlogs.computeIfPresent(key, (k, backlog) -> {
+            next[0] = backlog.poll();
+            return next[0] == null ? null : backlog;
+        });
+        if (next[0] != null) {
+            dispatch(key, next[0]);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package FreshBid.back.socket;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.standard.StandardWebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * 세션별 송신 큐를 가진 WebSocketSession 데코레이터
+ * <p>
+ * sendMessage는 큐에 넣고 바로 반환하며, 실제 전송은 세션마다 하나씩만 실행되는 송신 펌프가 공용 실행기에서 처리한다.
+ * 느린 클라이언트 하나가 스케줄러/다른 세션 전송 스레드를 붙잡지 않도록 하기 위함이다.
+ * 큐가 가득 차면 OverflowPolicy에 따라 오래된 입찰 현황 프레임을 버리거나 연결을 끊는다.
+ * 전송 하나가 sendTimeLimit 을 넘기면(TCP 윈도우가 막힌 클라이언트) 연결을 끊어 펌프 스레드를 돌려받는다.
+ */
+@Slf4j
+public class QueuedWebSocketSession extends WebSocketSessionDecorator {
+
+    public enum OverflowPolicy {
+        DROP_STALE, // 가장 오래된 폐기 가능 프레임(입찰 현황)부터 버림, 버릴 프레임이 없으면 연결 종료
+        DISCONNECT; // 즉시 연결 종료
+
+        public static OverflowPolicy from(String value) {
+            return valueOf(value.trim().replace('-', '_').toUpperCase());
+        }
+    }
+
+    private record OutboundFrame(WebSocketMessage<?> message, boolean droppable) {
+
+    }
+
+    // 입찰 현황 동기화 지점: 마지막으로 보낸 시퀀스와 그 시점의 누적 폐기 프레임 수
+    private record BidStatusSyncPoint(long seq, int droppedFrames) {
+
+    }
+
+    private final ConcurrentLinkedDeque<OutboundFrame> queue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicBoolean pumping = new AtomicBoolean(false);
+    private final AtomicInteger droppedFrames = new AtomicInteger();
+
+    // auctionId → 이 세션에 마지막으로 보낸 입찰 현황 동기화 지점
+    private final ConcurrentHashMap<Long, BidStatusSyncPoint> bidStatusSyncPoints = new ConcurrentHashMap<>();
+
+    // Tomcat 블로킹 전송 제한 시간 (이 시간이 지나면 sendMessage가 예외로 반환됨)
+    private static final String TOMCAT_BLOCKING_SEND_TIMEOUT = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    private final Executor pumpExecutor;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long sendTimeLimitNanos;
+
+    // 진행 중인 전송 시작 시각 (nanoTime, 전송 중이 아니면 0)
+    private volatile long sendStartedAt;
+
+    public QueuedWebSocketSession(WebSocketSession delegate, Executor pumpExecutor, int capacity,
+        OverflowPolicy overflowPolicy, long sendTimeLimitMillis) {
+        super(delegate);
+        this.pumpExecutor = pumpExecutor;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+        applyBlockingSendTimeout(delegate, sendTimeLimitMillis);
+    }
+
+    /**
+     * 컨테이너 전송 자체에도 제한 시간 설정 (막힌 전송이 펌프 스레드를 계속 붙잡지 않도록)
+     */
+    private static void applyBlockingSendTimeout(WebSocketSession delegate, long sendTimeLimitMillis) {
+        if (delegate instanceof StandardWebSocketSession standardSession) {
+            jakarta.websocket.Session nativeSession =
+                standardSession.getNativeSession(jakarta.websocket.Session.class);
+            if (nativeSession != null) {
+                nativeSession.getUserProperties()
+                    .put(TOMCAT_BLOCKING_SEND_TIMEOUT, sendTimeLimitMillis);
+            }
+        }
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        enqueue(message, false);
+    }
+
+    /**
+     * 최신 상태로 대체 가능한 프레임 전송 (큐 포화 시 먼저 버려짐)
+     */
+    public void sendDroppableMessage(WebSocketMessage<?> message) {
+        enqueue(message, true);
+    }
+
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    public int getDroppedFrames() {
+        return droppedFrames.get();
+    }
+
+    /**
+     * 이 세션이 seq 시점의 입찰 현황을 빠짐없이 받았는지 여부
+     * 그 이후 폐기된 프레임이 있으면 동기화가 깨진 것으로 본다.
+     */
+    public boolean isBidStatusInSync(Long auctionId, long seq) {
+        BidStatusSyncPoint syncPoint = bidStatusSyncPoints.get(auctionId);
+        return syncPoint != null && syncPoint.seq() == seq
+            && syncPoint.droppedFrames() == droppedFrames.get();
+    }
+
+    public void markBidStatusSent(Long auctionId, long seq) {
+        bidStatusSyncPoints.put(auctionId, new BidStatusSyncPoint(seq, droppedFrames.get()));
+    }
+
+    /**
+     * 다음 브로드캐스트에서 전체 스냅샷을 받도록 동기화 정보 초기화
+     */
+    public void resetBidStatusSync(Long auctionId) {
+        bidStatusSyncPoints.remove(auctionId);
+    }
+
+    private void enqueue(WebSocketMessage<?> message, boolean droppable) {
+        if (!isOpen()) {
+            return;
+        }
+        if (isSendStalled()) {
+            closeUnreliable("전송 제한 시간 초과");
+            return;
+        }
+
+        queue.offer(new OutboundFrame(message, droppable));
+        if (queueSize.incrementAndGet() > capacity && !handleOverflow()) {
+            return;
+        }
+        schedulePump();
+    }
+
+    /**
+     * @return 계속 전송해도 되면 true, 연결을 종료했으면 false
+     */
+    private boolean handleOverflow() {
+        if (overflowPolicy == OverflowPolicy.DROP_STALE && dropOldestDroppable()) {
+            return true;
+        }
+
+        closeUnreliable("송신 큐 포화 (정책: " + overflowPolicy + ")");
+        return false;
+    }
+
+    /**
+     * 진행 중인 전송이 제한 시간을 넘겼는지 여부
+     */
+    public boolean isSendStalled() {
+        long startedAt = sendStartedAt;
+        return startedAt != 0 && System.nanoTime() - startedAt > sendTimeLimitNanos;
+    }
+
+    private void closeUnreliable(String reason) {
+        log.warn("WebSocket 연결 종료 - 세션 ID: {}, 큐 크기: {}, 사유: {}", getId(), queueSize.get(),
+            reason);
+        queue.clear();
+        queueSize.set(0);
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException | RuntimeException e) {
+            log.debug("WebSocket 세션 종료 실패 - 세션 ID: {}", getId(), e);
+        }
+    }
+
+    private boolean dropOldestDroppable() {
+        Iterator<OutboundFrame> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            OutboundFrame frame = iterator.next();
+            if (frame.droppable() && queue.removeFirstOccurrence(frame)) {
+                queueSize.decrementAndGet();
+                int dropped = droppedFrames.incrementAndGet();
+                log.debug("오래된 입찰 현황 프레임 폐기 - 세션 ID: {}, 누적 폐기: {}", getId(), dropped);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void schedulePump() {
+        if (!pumping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            pumpExecutor.execute(this::pump);
+        } catch (RejectedExecutionException e) {
+            pumping.set(false);
+            log.error("WebSocket 송신 펌프 실행 실패 - 세션 ID: {}", getId(), e);
+        }
+    }
+
+    private void pump() {
+        try {
+            OutboundFrame frame;
+            while ((frame = queue.poll()) != null) {
+                queueSize.decrementAndGet();
+                if (!isOpen()) {
+                    queue.clear();
+                    queueSize.set(0);
+                    return;
+                }
+                sendStartedAt = System.nanoTime();
+                try {
+                    getDelegate().sendMessage(frame.message());
+                } finally {
+                    sendStartedAt = 0;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // 제한 시간 초과 등 전송 실패 세션은 남은 프레임을 보내지 않고 종료
+            log.error("Error sending message - 세션 ID: {}", getId(), e);
+            closeUnreliable("전송 실패");
+        } finally {
+            pumping.set(false);
+            // 펌프 종료 직전에 들어온 프레임 처리
+            if (!queue.isEmpty() && isOpen()) {
+                schedulePump();
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package FreshBid.back.socket;
+
+/**
+ * 서버 간에 전달되는 라이브 룸 이벤트 (Redis pub/sub)
+ * 각 서버는 받은 이벤트를 자기 서버에 연결된 룸 세션에만 전송한다.
+ *
+ * @param origin  발행한 서버 식별자 (자기 서버 이벤트는 발행 시 직접 전송했으므로 무시)
+ * @param roomId  라이브 ID (룸과 무관한 이벤트는 null)
+ * @param type    전달 대상
+ * @param userId  TO_USER일 때 받는 사용자 ID
+ * @param payload 전송할 JSON (BID_STATUS는 BidStatusDto)
+ */
+public record RoomEvent(String origin, Long roomId, Type type, Long userId, String payload) {
+
+    public enum Type {
+        BID_STATUS,       // 입찰 현황 (서버마다 자기 세션 기준으로 변경분/스냅샷 결정)
+        TO_HOST,          // 호스트에게 (참가자 입장/퇴장, 입찰 결과, 신선도 요청)
+        TO_PARTICIPANTS,  // 룸 전체 참가자에게 (경매 시작/종료, 신선도 결과)
+        TO_USER,          // 특정 참가자에게 (낙찰 정보)
+        ROOM_CLOSED,      // 호스트 종료, 다른 서버의 참가자 정리
+        AUCTION_STATE_EVICTED // 경매 상태 변경, 서버마다 입찰 검증용 상태 캐시 무효화 (roomId 없음, payload: 경매 ID)
+    }
+}
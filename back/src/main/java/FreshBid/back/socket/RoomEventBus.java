@@ -0,0 +1,107 @@
+package FreshBid.back.socket;
+
+import FreshBid.back.dto.bid.BidStatusDto;
+import FreshBid.back.socket.RoomEvent.Type;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 라이브 룸 이벤트를 모든 backend 서버에 전달하는 Redis pub/sub 버스
+ * 룸의 세션이 여러 서버에 나뉘어 연결되어 있어도, 이벤트는 한 번만 발행되고 서버마다 자기 세션에 전송한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomEventBus implements MessageListener {
+
+    private static final String CHANNEL = "live:room:events";
+
+    private static final Gson gson = new GsonBuilder()
+        .registerTypeAdapter(LocalDateTime.class, (JsonSerializer<LocalDateTime>)
+            (src, typeOfSrc, context) -> new JsonPrimitive(src.toString()))
+        .registerTypeAdapter(LocalDateTime.class, (JsonDeserializer<LocalDateTime>)
+            (json, typeOfT, context) -> LocalDateTime.parse(json.getAsString()))
+        .create();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("clusterNodeId")
+    private final String nodeId;
+
+    // 받은 이벤트 처리기 (SignalingHandler: 룸 세션 전송, AuctionStateCacheService: 상태 캐시 무효화)
+    private final List<Consumer<RoomEvent>> handlers = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public void addHandler(Consumer<RoomEvent> handler) {
+        handlers.add(handler);
+    }
+
+    public void publish(Long roomId, Type type, Long userId, String payload) {
+        RoomEvent event = new RoomEvent(nodeId, roomId, type, userId, payload);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, gson.toJson(event));
+            meterRegistry.counter("room.event.published", "type", type.name()).increment();
+        } catch (RuntimeException e) {
+            // 다른 서버 전달 실패는 이 서버 세션 전송에 영향 없음
+            meterRegistry.counter("room.event.publish.failed", "type", type.name()).increment();
+            log.warn("룸 이벤트 발행 실패 - 룸 ID: {}, 유형: {}, {}", roomId, type, e.getMessage());
+        }
+    }
+
+    public void publishBidStatus(Long roomId, BidStatusDto bidStatus) {
+        publish(roomId, Type.BID_STATUS, null, gson.toJson(bidStatus));
+    }
+
+    public BidStatusDto readBidStatus(RoomEvent event) {
+        return gson.fromJson(event.payload(), BidStatusDto.class);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RoomEvent event;
+        try {
+            event = gson.fromJson(new String(message.getBody(), StandardCharsets.UTF_8),
+                RoomEvent.class);
+        } catch (RuntimeException e) {
+            log.warn("룸 이벤트 해석 실패 - {}", e.getMessage());
+            return;
+        }
+
+        if (event == null || nodeId.equals(event.origin())) {
+            return;
+        }
+
+        for (Consumer<RoomEvent> handler : handlers) {
+            try {
+                handler.accept(event);
+            } catch (RuntimeException e) {
+                log.error("룸 이벤트 처리 실패 - 룸 ID: {}, 유형: {}", event.roomId(), event.type(), e);
+            }
+        }
+    }
+}
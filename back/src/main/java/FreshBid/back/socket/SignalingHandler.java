@@ -2,6 +2,7 @@ package FreshBid.back.socket;
 
 import static FreshBid.back.util.SocketUtils.createResponse;
 
+import FreshBid.back.dto.bid.BidResponseDto;
 import FreshBid.back.dto.bid.BidStatusDto;
 import FreshBid.back.dto.live.LiveUpdateRequestDto;
 import FreshBid.back.dto.user.FreshBidUserDetails;
@@ -9,16 +10,26 @@ import FreshBid.back.entity.Live;
 import FreshBid.back.entity.Live.LiveStatus;
 import FreshBid.back.entity.User;
 import FreshBid.back.entity.User.Role;
-import FreshBid.back.exception.NotFoundException;
+import FreshBid.back.repository.BidRedisRepositorySupport;
 import FreshBid.back.repository.LiveRepository;
+import FreshBid.back.repository.LiveRoomRedisRepository;
+import FreshBid.back.repository.LiveRoomRedisRepository.RoomMedia;
+import FreshBid.back.scheduler.BidUpdateTracker;
 import FreshBid.back.service.LiveService;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.kurento.client.Composite;
 import org.kurento.client.HubPort;
@@ -29,6 +40,11 @@ import org.kurento.client.MediaPipeline;
 import org.kurento.client.WebRtcEndpoint;
 import org.kurento.jsonrpc.JsonUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
@@ -50,23 +66,137 @@ public class SignalingHandler extends TextWebSocketHandler {
     @Autowired
     private LiveService liveService;
 
-    // roomId → liveRoom 매핑
+    @Autowired
+    private BidRedisRepositorySupport bidRedisRepositorySupport;
+
+    @Autowired
+    private BidUpdateTracker bidUpdateTracker;
+
+    @Autowired
+    private RoomEventBus roomEventBus;
+
+    @Autowired
+    private BidRateLimiter bidRateLimiter;
+
+    @Autowired
+    private LiveRoomRedisRepository liveRoomRedisRepository;
+
+    @Autowired
+    @Qualifier("socketSendExecutor")
+    private ThreadPoolTaskExecutor socketSendExecutor;
+
+    @Autowired
+    @Qualifier("socketBidExecutor")
+    private ThreadPoolTaskExecutor socketBidExecutor;
+
+    @Autowired
+    @Qualifier("socketSignalingExecutor")
+    private ThreadPoolTaskExecutor socketSignalingExecutor;
+
+    @Autowired
+    @Qualifier("socketAdminExecutor")
+    private ThreadPoolTaskExecutor socketAdminExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${socket.lane.bid.capacity:512}")
+    private int bidLaneCapacity;
+
+    @Value("${socket.lane.signaling.capacity:256}")
+    private int signalingLaneCapacity;
+
+    @Value("${socket.lane.admin.capacity:32}")
+    private int adminLaneCapacity;
+
+    @Value("${socket.outbound.queue-capacity:64}")
+    private int outboundQueueCapacity;
+
+    @Value("${socket.outbound.overflow-policy:drop-stale}")
+    private String outboundOverflowPolicy;
+
+    @Value("${socket.outbound.send-time-limit-ms:5000}")
+    private long outboundSendTimeLimitMillis;
+
+    // roomId → liveRoom 매핑 (이 서버에 연결된 세션이 있는 룸만, 호스트가 다른 서버면 remote 룸)
     private final ConcurrentHashMap<Long, LiveRoom> rooms = new ConcurrentHashMap<>();
 
+    // 원본 세션 ID → 송신 큐 데코레이터 (룸/리스너에는 항상 데코레이터 세션을 저장)
+    private final ConcurrentHashMap<String, QueuedWebSocketSession> outboundSessions = new ConcurrentHashMap<>();
+
+    // 수신 메시지 처리 실행기 (입찰 / WebRTC 시그널링, Kurento, 룸 수명 주기 / 신선도 확인)
+    private MessageLane bidLane;
+    private MessageLane signalingLane;
+    private MessageLane adminLane;
+
+    @PostConstruct
+    void subscribeRoomEvents() {
+        roomEventBus.addHandler(this::onRoomEvent);
+    }
+
+    @PostConstruct
+    void initMessageLanes() {
+        bidLane = new MessageLane("bid", socketBidExecutor, bidLaneCapacity, meterRegistry);
+        signalingLane = new MessageLane("signaling", socketSignalingExecutor,
+            signalingLaneCapacity, meterRegistry);
+        adminLane = new MessageLane("admin", socketAdminExecutor, adminLaneCapacity,
+            meterRegistry);
+    }
+
+    @Override
+    public void handleTextMessage(WebSocketSession rawSession, TextMessage message) throws Exception {
+        handleIncoming(outboundSession(rawSession), message.getPayload());
+    }
+
+    /**
+     * 바이너리(CBOR) 서브 프로토콜 세션의 메시지 (JSON으로 바꿔 텍스트 메시지와 같은 경로로 처리)
+     */
     @Override
-    public void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
-        JsonObject jsonMessage = gson.fromJson(message.getPayload(), JsonObject.class);
+    protected void handleBinaryMessage(WebSocketSession rawSession, BinaryMessage message) {
+        handleIncoming(outboundSession(rawSession), CborFrameCodec.decode(message.getPayload()));
+    }
+
+    private void handleIncoming(WebSocketSession session, String payload) {
+        JsonObject jsonMessage = gson.fromJson(payload, JsonObject.class);
         log.debug("Incoming message from session '{}': {}", session.getId(), jsonMessage);
 
         String type = jsonMessage.get("type").getAsString();
         Long liveId = jsonMessage.get("roomId").getAsLong(); // 방 번호 받기
 
+        // 컨테이너 스레드에서는 종류별 실행기에 넘기기만 함 (라이브 시작/경매 종료가 입찰 처리를 막지 않도록)
+        // 룸 수명 주기 메시지(host, stop, startAuction, stopAuction)는 같은 실행기에서 세션별 순서대로 처리
+        // (예: host 직후 startAuction, stopAuction 직후 stop이 다른 실행기에서 앞질러 처리되지 않도록)
+        MessageLane lane = switch (type) {
+            case "submitBid", "bidStatusSync" -> bidLane;
+            case "freshCheck" -> adminLane;
+            default -> signalingLane;
+        };
+        if (!lane.submit(session.getId(), () -> dispatch(session, type, liveId, jsonMessage))) {
+            log.warn("메시지 처리 대기열 포화 - 종류: {}, 세션 ID: {}, 대기 수: {}", type,
+                session.getId(), lane.getPending());
+            JsonObject busy = createResponse("busy", false, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            busy.addProperty("requestType", type);
+            sendMessage(session, busy);
+        }
+    }
+
+    private void dispatch(WebSocketSession session, String type, Long liveId,
+        JsonObject jsonMessage) {
+        if (!session.isOpen()) {
+            // 처리 대기 중에 연결이 끊긴 세션 (룸 등록 등 이후 처리가 남지 않도록 건너뜀)
+            log.debug("연결 종료된 세션의 메시지 무시 - 종류: {}, 세션 ID: {}", type, session.getId());
+            return;
+        }
         switch (type) {
             case "host":
                 startHost(session, liveId, jsonMessage);
                 break;
             case "participant":
-                startParticipant(session, liveId, jsonMessage);
+                try {
+                    startParticipant(session, liveId, jsonMessage);
+                } catch (IOException e) {
+                    log.error("참가자 연결 실패 - 룸 ID: {}, 세션 ID: {}", liveId, session.getId(), e);
+                }
                 break;
             case "onIceCandidate":
                 JsonObject candidate = jsonMessage.getAsJsonObject("candidate");
@@ -87,6 +217,9 @@ public class SignalingHandler extends TextWebSocketHandler {
             case "freshCheck":
                 freshCheck(session, liveId, jsonMessage);
                 break;
+            case "bidStatusSync":
+                bidStatusSync(session, liveId, jsonMessage);
+                break;
             default:
                 log.warn("Unknown message type: {}", type);
                 break;
@@ -153,6 +286,9 @@ public class SignalingHandler extends TextWebSocketHandler {
         hostEndpoint.gatherCandidates();
 
         rooms.put(liveId, room);
+        // 다른 서버에 접속한 참가자도 같은 파이프라인에 연결할 수 있도록 미디어 객체 ID 공유
+        liveRoomRedisRepository.save(liveId, new RoomMedia(room.getPipeline().getId(),
+            composite.getId(), hostEndpoint.getId()));
 
         LiveUpdateRequestDto liveDto = new LiveUpdateRequestDto();
         liveDto.setStatus(LiveStatus.IN_PROGRESS);
@@ -170,8 +306,8 @@ public class SignalingHandler extends TextWebSocketHandler {
      */
     public void startParticipant(WebSocketSession session, Long liveId, JsonObject jsonMessage)
         throws IOException {
-        LiveRoom room = rooms.get(liveId);
-        if (room == null || room.getHostSession() == null) {
+        LiveRoom room = findOrAttachRoom(liveId);
+        if (room == null || !room.hasHost()) {
             JsonObject response = new JsonObject();
             response.addProperty("type", "error");
             response.addProperty("message", "No host available in room.");
@@ -230,7 +366,11 @@ public class SignalingHandler extends TextWebSocketHandler {
         JsonObject notifyHost = new JsonObject();
         notifyHost.addProperty("type", "newParticipantArrived");
         notifyHost.addProperty("userId", session.getId());
-        sendMessage(room.getHostSession(), notifyHost);
+        sendToHost(liveId, room, notifyHost);
+
+        // 신규 참가자가 다음 전송 주기에 현재 입찰 현황을 받도록 진행 중인 경매 표시
+        bidRedisRepositorySupport.getActiveAuctionIdsByRoom(liveId)
+            .forEach(bidUpdateTracker::markDirty);
     }
 
     /**
@@ -286,6 +426,8 @@ public class SignalingHandler extends TextWebSocketHandler {
             });
             room.getPipeline().release();
             rooms.remove(liveId);
+            liveRoomRedisRepository.delete(liveId);
+            roomEventBus.publish(liveId, RoomEvent.Type.ROOM_CLOSED, null, null);
 
             LiveUpdateRequestDto liveDto = new LiveUpdateRequestDto();
             liveDto.setStatus(LiveStatus.ENDED);
@@ -310,11 +452,16 @@ public class SignalingHandler extends TextWebSocketHandler {
                 JsonObject notifyHost = new JsonObject();
                 notifyHost.addProperty("type", "leaveParticipant");
                 notifyHost.addProperty("userId", ps.getSessionId());
-                sendMessage(room.getHostSession(), notifyHost);
+                sendToHost(liveId, room, notifyHost);
 
                 room.getParticipants().remove(session);
             }
 
+            // 다른 서버의 호스트 룸을 참조하던 경우 마지막 참가자가 나가면 정리
+            if (room.isRemote() && room.getParticipants().isEmpty()) {
+                rooms.remove(liveId, room);
+            }
+
         }
     }
 
@@ -335,7 +482,7 @@ public class SignalingHandler extends TextWebSocketHandler {
         JsonObject result = bidHandler.startAuction(user.getId(), roomId, jsonMessage);
         sendMessage(session, result);       // 호스트에게 처리 정보 전달
         if (result.get("success").getAsBoolean()) {
-            broadcastToParticipants(room, result);
+            broadcastToRoom(roomId, room, result);
         }
     }
 
@@ -360,19 +507,16 @@ public class SignalingHandler extends TextWebSocketHandler {
 
         sendMessage(session, stopAuctionResult);       // 호스트에게 처리 정보 전달
         if (stopAuctionResult.get("success").getAsBoolean()) {
-            broadcastToParticipants(room, stopAuctionResult);      // 전체 참여자에게 정보 전달
+            broadcastToRoom(roomId, room, stopAuctionResult);      // 전체 참여자에게 정보 전달
         }
 
         // 낙찰자 정보 전달
         if (result.size() > 1) {
             JsonObject winningBidResult = result.get(1);
 
-            // 낙찰자에게 전달
+            // 낙찰자에게 전달 (다른 서버에 연결되어 있으면 그 서버가 전송)
             Long winnerId = winningBidResult.get("userId").getAsLong();
-            WebSocketSession winnerSession = room.getUserIdMap().get(winnerId);
-            if (winnerSession != null && winnerSession.isOpen()) {
-                sendMessage(winnerSession, winningBidResult);
-            }
+            sendToUser(roomId, room, winnerId, winningBidResult);
 
             // 호스트에게 전달
             sendMessage(session, winningBidResult);
@@ -381,7 +525,7 @@ public class SignalingHandler extends TextWebSocketHandler {
 
     public void submitBid(WebSocketSession session, Long roomId, JsonObject jsonMessage) {
         LiveRoom room = rooms.get(roomId);
-        if (room == null || room.getHostSession() == null) {
+        if (room == null || !room.hasHost()) {
             JsonObject response = new JsonObject();
             response.addProperty("type", "error");
             response.addProperty("message", "No host available in room.");
@@ -396,17 +540,28 @@ public class SignalingHandler extends TextWebSocketHandler {
             return;
         }
 
+        // DB/Redis 처리 전에 사용자별/룸별 요청 수 제한
+        BidRateLimiter.Decision decision = bidRateLimiter.tryAcquire(user.getId(), roomId);
+        if (!decision.allowed()) {
+            JsonObject response = createResponse("rateLimited", false,
+                "입찰 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            response.addProperty("scope", decision.scope().name().toLowerCase());
+            response.addProperty("retryAfterMs", decision.retryAfterMillis());
+            sendMessage(session, response);
+            return;
+        }
+
         JsonObject result = bidHandler.submitBid(user, jsonMessage);
         sendMessage(session, result);   // 입찰자에게 입찰 처리 정보 전달
         if (result.get("success").getAsBoolean()) {
-            sendMessage(room.getHostSession(), result); // 호스트에게 입찰 처리 정보 전달
+            sendToHost(roomId, room, result); // 호스트에게 입찰 처리 정보 전달
         }
     }
 
     // 신선도 요청/응답을 host/participant에게 전달 (중계기 역할)
     public void freshCheck(WebSocketSession session, Long liveId, JsonObject jsonMessage) {
         LiveRoom room = rooms.get(liveId);
-        if (room == null || room.getHostSession() == null) {
+        if (room == null || !room.hasHost()) {
             JsonObject response = createResponse("error", false, "No host available in room.");
             sendMessage(session, response);
             return;
@@ -428,13 +583,13 @@ public class SignalingHandler extends TextWebSocketHandler {
             String freshNessStr = freshNessState[(freshNess + 4) % 4];      // -1인 경우 3으로 매핑
             JsonObject response = createResponse("freshNessResult", true, freshNessStr);
 
-            broadcastToParticipants(room, response);
+            broadcastToRoom(liveId, room, response);
 
         } else {
             log.info("FreshCheck Message (PARTICIPANT) 수신 : {}", jsonMessage.toString());
             // Participant로부터 freshCheck Message 수신 == 체크 요청 메시지
             JsonObject response = createResponse("freshNessRequest", true, "신선도 체크 요청 수신");
-            sendMessage(room.getHostSession(), response);
+            sendToHost(liveId, room, response);
         }
     }
 
@@ -451,41 +606,296 @@ public class SignalingHandler extends TextWebSocketHandler {
     }
 
     private void sendMessage(WebSocketSession session, JsonObject message) {
+        sendMessage(session, toFrame(message));
+    }
+
+    /**
+     * 이미 직렬화된 프레임 전송 (브로드캐스트 시 같은 형식의 세션끼리 같은 프레임을 공유)
+     */
+    private void sendMessage(WebSocketSession session, SocketFrame frame) {
+        sendMessage(session, frame, false);
+    }
+
+    /**
+     * 세션 송신 큐에 프레임을 넣고 바로 반환 (실제 전송은 세션별 송신 펌프가 처리)
+     *
+     * @param droppable 큐 포화 시 버려도 되는 프레임인지 여부 (입찰 현황처럼 다음 프레임이 대체하는 경우)
+     */
+    private void sendMessage(WebSocketSession session, SocketFrame frame, boolean droppable) {
         try {
-            if (session.isOpen()) {
-                synchronized (session) { // 동기화로 동시에 write 방지
-                    session.sendMessage(new TextMessage(message.toString()));
+            if (!session.isOpen()) {
+                log.warn("❌ WebSocket session already closed, skipping message");
+            } else if (session instanceof QueuedWebSocketSession queuedSession) {
+                if (droppable) {
+                    queuedSession.sendDroppableMessage(frame.messageFor(session));
+                } else {
+                    queuedSession.sendMessage(frame.messageFor(session));
                 }
             } else {
-                log.warn("❌ WebSocket session already closed, skipping message");
+                synchronized (session) { // 동기화로 동시에 write 방지
+                    session.sendMessage(frame.messageFor(session));
+                }
             }
         } catch (IOException e) {
             log.error("Error sending message", e);
         }
     }
 
-    private void broadcastToParticipants(LiveRoom room, JsonObject message) {
+    /**
+     * 원본 세션에 대응하는 송신 큐 데코레이터 조회 (없으면 생성)
+     */
+    private WebSocketSession outboundSession(WebSocketSession rawSession) {
+        if (rawSession instanceof QueuedWebSocketSession) {
+            return rawSession;
+        }
+        return outboundSessions.computeIfAbsent(rawSession.getId(),
+            id -> new QueuedWebSocketSession(rawSession, socketSendExecutor,
+                outboundQueueCapacity,
+                QueuedWebSocketSession.OverflowPolicy.from(outboundOverflowPolicy),
+                outboundSendTimeLimitMillis));
+    }
+
+    /**
+     * 룸 전체 참가자에게 전송 (이 서버 참가자에게는 바로, 다른 서버 참가자에게는 룸 이벤트로)
+     */
+    private void broadcastToRoom(Long roomId, LiveRoom room, JsonObject message) {
+        String payload = message.toString();
+        broadcastToParticipants(room, toFrame(payload));
+        roomEventBus.publish(roomId, RoomEvent.Type.TO_PARTICIPANTS, null, payload);
+    }
+
+    /**
+     * 호스트에게 전송 (호스트가 다른 서버에 연결되어 있으면 룸 이벤트로 전달)
+     */
+    private void sendToHost(Long roomId, LiveRoom room, JsonObject message) {
+        if (room.getHostSession() != null) {
+            sendMessage(room.getHostSession(), message);
+            return;
+        }
+        roomEventBus.publish(roomId, RoomEvent.Type.TO_HOST, null, message.toString());
+    }
+
+    /**
+     * 특정 참가자에게 전송 (이 서버에 없으면 룸 이벤트로 전달)
+     */
+    private void sendToUser(Long roomId, LiveRoom room, Long userId, JsonObject message) {
+        WebSocketSession userSession = room.getUserIdMap().get(userId);
+        if (userSession != null && userSession.isOpen()) {
+            sendMessage(userSession, message);
+            return;
+        }
+        roomEventBus.publish(roomId, RoomEvent.Type.TO_USER, userId, message.toString());
+    }
+
+    private void broadcastToParticipants(LiveRoom room, SocketFrame frame) {
+        broadcastToParticipants(room, frame, false);
+    }
+
+    private void broadcastToParticipants(LiveRoom room, SocketFrame frame, boolean droppable) {
         for (WebSocketSession session : room.getParticipants().keySet()) {
-            sendMessage(session, message);
+            sendMessage(session, frame, droppable);
         }
     }
 
+    /**
+     * JsonObject를 한 번만 직렬화하여 프레임 생성 (텍스트 UTF-8 바이트, CBOR 세션용 바이너리는 필요할 때 생성)
+     */
+    private SocketFrame toFrame(JsonObject message) {
+        return toFrame(message.toString());
+    }
+
+    private SocketFrame toFrame(String payload) {
+        return SocketFrame.of(payload);
+    }
+
     /**
      * 특정 룸에 입찰 상태 브로드캐스트 (스케줄러에서 사용)
+     * 경매당 한 번만 호출되며, 룸 이벤트로 발행하여 모든 서버가 자기 서버에 연결된 세션에 전송한다.
      */
     public void broadcastBidStatusToRoom(Long roomId, BidStatusDto bidStatus) {
+        roomEventBus.publishBidStatus(roomId, bidStatus);
+
+        LiveRoom room = rooms.get(roomId);
+        if (room == null) {
+            log.debug("이 서버에 연결된 룸 세션 없음 - 룸 ID: {}", roomId);
+            return;
+        }
+        deliverBidStatus(roomId, room, bidStatus);
+    }
+
+    /**
+     * 이 서버에 연결된 룸 세션에 입찰 상태 전송
+     * 시퀀스와 직전 스냅샷은 서버별로 관리된다. (클라이언트는 한 서버에만 연결되므로 세션 기준으로 일관됨)
+     * 브로드캐스트 스레드와 룸 이벤트 리스너 스레드에서 모두 호출되므로 룸 단위로 직렬화한다.
+     * 세션 전송은 큐에 넣기만 하므로 락을 잡는 시간은 짧다.
+     */
+    private void deliverBidStatus(Long roomId, LiveRoom room, BidStatusDto bidStatus) {
+        synchronized (room.getBidStatusLock()) {
+            deliverBidStatusLocked(roomId, room, bidStatus);
+        }
+    }
+
+    private void deliverBidStatusLocked(Long roomId, LiveRoom room, BidStatusDto bidStatus) {
+        Long auctionId = bidStatus.getAuctionId();
+        List<BidResponseDto> bids =
+            bidStatus.getBidList() != null ? bidStatus.getBidList() : List.of();
+
+        // 1. 직전 브로드캐스트와 비교하여 변경이 있을 때만 시퀀스 증가
+        Set<String> bidKeys = bids.stream().map(this::bidKey)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        BidStatusSnapshot previous = room.getBidStatusSnapshots().get(auctionId);
+        boolean changed = previous == null
+            || !previous.bidKeys().equals(bidKeys)
+            || !Objects.equals(previous.status(), bidStatus.getStatus())
+            || !Objects.equals(previous.currentHighestPrice(), bidStatus.getCurrentHighestPrice());
+        BidStatusSnapshot current = changed
+            ? new BidStatusSnapshot(room.getBidStatusSequence().incrementAndGet(), bidKeys,
+            bidStatus.getStatus(), bidStatus.getCurrentHighestPrice())
+            : previous;
+        room.getBidStatusSnapshots().put(auctionId, current);
+
+        // 2. 스냅샷/변경분 프레임을 각각 한 번만 직렬화
+        SocketFrame snapshotFrame = toFrame(bidHandler.bidStatus(bidStatus, current.seq()));
+        SocketFrame deltaFrame = null;
+        if (changed && previous != null) {
+            List<BidResponseDto> newBids = bids.stream()
+                .filter(bid -> !previous.bidKeys().contains(bidKey(bid)))
+                .toList();
+            deltaFrame = toFrame(
+                bidHandler.bidStatusDelta(bidStatus, newBids, current.seq(), previous.seq()));
+        }
+
+        // 3. 세션별 동기화 상태에 따라 변경분 또는 스냅샷 전송 (이미 최신이면 전송 생략)
+        sendBidStatus(room.getHostSession(), auctionId, previous, current, snapshotFrame,
+            deltaFrame);
+        for (WebSocketSession participantSession : room.getParticipants().keySet()) {
+            sendBidStatus(participantSession, auctionId, previous, current, snapshotFrame,
+                deltaFrame);
+        }
+
+        log.debug("입찰 상태 브로드캐스트 완료 - 룸 ID: {}, 경매 ID: {}, 시퀀스: {}", roomId,
+            auctionId, current.seq());
+    }
+
+    /**
+     * 세션 하나에 입찰 현황 전송
+     * - 직전 시퀀스까지 빠짐없이 받은 세션: 변경분(bidStatusDelta)
+     * - 신규 참가/프레임 폐기/동기화 요청 세션: 전체 스냅샷(bidStatusUpdate)
+     * 입찰 현황은 다음 프레임이 대체하므로 느린 세션에서는 버려질 수 있음 (버려지면 다음에 스냅샷 전송)
+     */
+    private void sendBidStatus(WebSocketSession session, Long auctionId,
+        BidStatusSnapshot previous, BidStatusSnapshot current, SocketFrame snapshotFrame,
+        SocketFrame deltaFrame) {
+        if (session == null) {
+            return;
+        }
+        if (!(session instanceof QueuedWebSocketSession queuedSession)) {
+            sendMessage(session, snapshotFrame, true);
+            return;
+        }
+        if (queuedSession.isBidStatusInSync(auctionId, current.seq())) {
+            return;
+        }
+
+        if (deltaFrame != null && queuedSession.isBidStatusInSync(auctionId, previous.seq())) {
+            sendMessage(session, deltaFrame, true);
+        } else {
+            sendMessage(session, snapshotFrame, true);
+        }
+        queuedSession.markBidStatusSent(auctionId, current.seq());
+    }
+
+    private String bidKey(BidResponseDto bid) {
+        return bid.getUserId() + ":" + bid.getBidId();
+    }
+
+    /**
+     * 클라이언트가 시퀀스 불일치를 감지했을 때 전체 스냅샷 재요청
+     */
+    public void bidStatusSync(WebSocketSession session, Long roomId, JsonObject jsonMessage) {
         LiveRoom room = rooms.get(roomId);
+        if (room == null || jsonMessage.get("auctionId") == null) {
+            return;
+        }
+        Long auctionId = jsonMessage.get("auctionId").getAsLong();
+        if (session instanceof QueuedWebSocketSession queuedSession) {
+            queuedSession.resetBidStatusSync(auctionId);
+        }
+        bidUpdateTracker.markDirty(auctionId);
+    }
+
+    /**
+     * 다른 서버에서 발행한 룸 이벤트를 이 서버에 연결된 세션에 전송
+     */
+    private void onRoomEvent(RoomEvent event) {
+        if (event.roomId() == null) {
+            return;     // 룸과 무관한 이벤트 (경매 상태 캐시 무효화 등)
+        }
+        LiveRoom room = rooms.get(event.roomId());
         if (room == null) {
-            log.warn("룸을 찾을 수 없습니다 - 룸 ID: {}", roomId);
-            throw new NotFoundException("룸을 찾을 수 없습니다 - 룸 ID: " + roomId);
+            return;     // 이 서버에 연결된 세션 없음
         }
-        JsonObject message = bidHandler.bidStatus(bidStatus);
-        // 호스트와 모든 참가자에게 전송
-        sendMessage(room.getHostSession(), message);
-        broadcastToParticipants(room, message);
 
-        log.debug("입찰 상태 브로드캐스트 완료 - 룸 ID: {}, 경매 ID: {}", roomId,
-            bidStatus.getAuctionId());
+        switch (event.type()) {
+            case BID_STATUS ->
+                deliverBidStatus(event.roomId(), room, roomEventBus.readBidStatus(event));
+            case TO_HOST -> {
+                if (room.getHostSession() != null) {
+                    sendMessage(room.getHostSession(), toFrame(event.payload()));
+                }
+            }
+            case TO_PARTICIPANTS -> broadcastToParticipants(room, toFrame(event.payload()));
+            case TO_USER -> {
+                WebSocketSession userSession = room.getUserIdMap().get(event.userId());
+                if (userSession != null) {
+                    sendMessage(userSession, toFrame(event.payload()));
+                }
+            }
+            case ROOM_CLOSED -> closeRemoteRoom(event.roomId(), room);
+        }
+    }
+
+    /**
+     * 룸 조회, 이 서버에 없으면 다른 서버에서 진행 중인 라이브의 파이프라인을 참조하는 remote 룸 생성
+     */
+    private LiveRoom findOrAttachRoom(Long liveId) {
+        LiveRoom room = rooms.get(liveId);
+        if (room != null) {
+            return room;
+        }
+
+        RoomMedia media = liveRoomRedisRepository.find(liveId);
+        if (media == null) {
+            return null;
+        }
+
+        LiveRoom remoteRoom = new LiveRoom();
+        remoteRoom.setRemote(true);
+        remoteRoom.setPipeline(kurento.getById(media.pipelineId(), MediaPipeline.class));
+        remoteRoom.setComposite(kurento.getById(media.compositeId(), Composite.class));
+        remoteRoom.setHostEndpoint(kurento.getById(media.hostEndpointId(), WebRtcEndpoint.class));
+
+        LiveRoom existing = rooms.putIfAbsent(liveId, remoteRoom);
+        if (existing != null) {
+            return existing;
+        }
+        log.info("다른 서버에서 진행 중인 라이브에 연결 - 룸 ID: {}", liveId);
+        return remoteRoom;
+    }
+
+    /**
+     * 호스트 종료 시 다른 서버의 참가자 정리 (미디어 객체는 호스트 서버가 파이프라인과 함께 해제)
+     */
+    private void closeRemoteRoom(Long liveId, LiveRoom room) {
+        if (!room.isRemote() || !rooms.remove(liveId, room)) {
+            return;
+        }
+        JsonObject stopMsg = new JsonObject();
+        stopMsg.addProperty("type", "leaveParticipant");
+        SocketFrame frame = toFrame(stopMsg);
+        broadcastToParticipants(room, frame);
+        log.info("다른 서버의 라이브 종료 - 룸 ID: {}, 이 서버 참가자 수: {}", liveId,
+            room.getParticipants().size());
     }
 
     /**
@@ -505,7 +915,8 @@ public class SignalingHandler extends TextWebSocketHandler {
      * 연결 설정 완료 후 사용자 인증 정보 확인
      */
     @Override
-    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+    public void afterConnectionEstablished(WebSocketSession rawSession) throws Exception {
+        WebSocketSession session = outboundSession(rawSession);
         FreshBidUserDetails userDetails = getUserFromSession(session);
         if (userDetails != null) {
             log.info("WebSocket 연결 설정 완료 - 사용자: {}, 세션 ID: {}",
@@ -514,6 +925,39 @@ public class SignalingHandler extends TextWebSocketHandler {
             log.warn("인증되지 않은 WebSocket 연결 시도 - 세션 ID: {}", session.getId());
             session.close();
         }
-        super.afterConnectionEstablished(session);
+        super.afterConnectionEstablished(rawSession);
+    }
+
+    /**
+     * 연결 종료 시 송신 큐 데코레이터 정리
+     */
+    @Override
+    public void afterConnectionClosed(WebSocketSession rawSession, CloseStatus status)
+        throws Exception {
+        String sessionId = rawSession.getId();
+
+        // 모든 실행기에서 이 세션의 대기 메시지를 버리고, 처리 중인 메시지가 모두 끝난 뒤 정리
+        List<MessageLane> lanes = List.of(bidLane, signalingLane, adminLane);
+        AtomicInteger remaining = new AtomicInteger(lanes.size());
+        int dropped = 0;
+        for (MessageLane lane : lanes) {
+            dropped += lane.close(sessionId, () -> {
+                if (remaining.decrementAndGet() == 0) {
+                    releaseOutboundSession(sessionId);
+                }
+            });
+        }
+        if (dropped > 0) {
+            log.info("연결 종료로 처리하지 않은 메시지 - 세션 ID: {}, 수: {}", sessionId, dropped);
+        }
+        super.afterConnectionClosed(rawSession, status);
+    }
+
+    private void releaseOutboundSession(String sessionId) {
+        QueuedWebSocketSession queuedSession = outboundSessions.remove(sessionId);
+        if (queuedSession != null && queuedSession.getDroppedFrames() > 0) {
+            log.info("WebSocket 연결 종료 - 세션 ID: {}, 폐기된 입찰 현황 프레임 수: {}",
+                sessionId, queuedSession.getDroppedFrames());
+        }
     }
 }
\ No newline at end of file
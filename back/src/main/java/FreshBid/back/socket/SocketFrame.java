@@ -0,0 +1,51 @@
+package FreshBid.back.socket;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 한 번 직렬화한 메시지를 세션별 형식(텍스트/CBOR)에 맞는 프레임으로 전달
+ * 브로드캐스트 시 형식마다 한 번만 인코딩한다. 텍스트 프레임은 세션끼리 공유하고,
+ * CBOR 바이트는 처음 요청할 때 만들어 공유하되 BinaryMessage는 세션마다 새로 만든다.
+ */
+public final class SocketFrame {
+
+    private final String json;
+    private final TextMessage text;
+
+    // CBOR 인코딩 결과 (바이너리 대상이 아닌 메시지면 빈 배열)
+    // BinaryMessage의 ByteBuffer는 전송하면서 position이 움직이므로 세션마다 새로 감싼다.
+    private volatile byte[] cbor;
+
+    private SocketFrame(String json) {
+        this.json = json;
+        this.text = new TextMessage(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SocketFrame of(String json) {
+        return new SocketFrame(json);
+    }
+
+    public WebSocketMessage<?> messageFor(WebSocketSession session) {
+        if (!CborFrameCodec.isBinary(session)) {
+            return text;
+        }
+        byte[] encoded = cbor();
+        return encoded.length > 0 ? new BinaryMessage(encoded) : text;
+    }
+
+    private byte[] cbor() {
+        byte[] encoded = cbor;
+        if (encoded == null) {
+            encoded = CborFrameCodec.encode(json);
+            if (encoded == null) {
+                encoded = new byte[0];
+            }
+            cbor = encoded;
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,22 @@
+-- 다음 3초 구간 최소 입찰가 갱신 (경매마다 구간당 한 서버만 수행)
+-- 담당 서버가 바뀌는 동안 두 서버가 같은 경매를 자기 담당으로 보더라도 한 서버만 갱신하도록 잠금을 먼저 잡는다.
+-- 최소 입찰가는 낮아지지 않는다. (이전 담당 서버의 늦은 갱신이 더 높은 값을 덮어쓰지 않도록)
+-- KEYS[1] : 구간 갱신 잠금 (auction:window_lock:{auctionId})
+-- KEYS[2] : 현재 구간 최소 입찰가 (auction:current_min_bid:{auctionId})
+-- ARGV[1] : 이 서버 식별자
+-- ARGV[2] : 잠금 유지 시간 (ms, 구간 길이보다 짧게)
+-- ARGV[3] : 다음 구간 최소 입찰가
+-- ARGV[4] : 최소 입찰가 TTL (초)
+-- 반환값 : 갱신했으면 nil, 이번 구간을 이미 다른 서버가 갱신했으면 잠금을 잡은 서버 식별자
+
+if not redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+    return redis.call('GET', KEYS[1])
+end
+
+local current = redis.call('GET', KEYS[2])
+if not current or tonumber(current) < tonumber(ARGV[3]) then
+    redis.call('SET', KEYS[2], ARGV[3], 'EX', ARGV[4])
+else
+    redis.call('EXPIRE', KEYS[2], ARGV[4])
+end
+return false
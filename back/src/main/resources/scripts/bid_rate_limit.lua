@@ -0,0 +1,41 @@
+-- 사용자/룸 입찰 토큰 버킷에서 토큰을 하나씩 소비 (두 버킷 모두 남아 있을 때만 소비)
+-- KEYS[1] : 사용자 버킷 Hash (rate:bid:user:{userId}, field tokens / ts)
+-- KEYS[2] : 룸 버킷 Hash (rate:bid:room:{roomId})
+-- ARGV[1], ARGV[2] : 사용자 버킷 최대 토큰 수, 초당 충전량
+-- ARGV[3], ARGV[4] : 룸 버킷 최대 토큰 수, 초당 충전량
+-- 반환값 : {결과, 다시 시도 가능까지 ms} (결과 0 = 허용, 1 = 사용자 제한, 2 = 룸 제한)
+-- 현재 시각은 Redis 서버 시계(TIME)를 사용 (서버마다 시계가 달라도 같은 버킷을 같은 기준으로 충전,
+-- 스크립트 효과 복제가 기본인 Redis 5 이상 필요)
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local function refill(key, burst, rate)
+    local state = redis.call('HMGET', key, 'tokens', 'ts')
+    local tokens = tonumber(state[1]) or burst
+    local ts = tonumber(state[2]) or now
+    return math.min(burst, tokens + math.max(0, now - ts) * rate / 1000)
+end
+
+local function save(key, tokens, burst, rate)
+    redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', now)
+    -- 가득 찰 때까지 걸리는 시간이 지나면 기본값과 같으므로 삭제
+    redis.call('PEXPIRE', key, math.ceil(burst * 1000 / rate) + 1000)
+end
+
+local userBurst, userRate = tonumber(ARGV[1]), tonumber(ARGV[2])
+local roomBurst, roomRate = tonumber(ARGV[3]), tonumber(ARGV[4])
+
+local userTokens = refill(KEYS[1], userBurst, userRate)
+if userTokens < 1 then
+    return {1, math.ceil((1 - userTokens) * 1000 / userRate)}
+end
+
+local roomTokens = refill(KEYS[2], roomBurst, roomRate)
+if roomTokens < 1 then
+    return {2, math.ceil((1 - roomTokens) * 1000 / roomRate)}
+end
+
+save(KEYS[1], userTokens - 1, userBurst, userRate)
+save(KEYS[2], roomTokens - 1, roomBurst, roomRate)
+return {0, 0}
@@ -0,0 +1,34 @@
+-- 여러 서버 앞으로 넘겨진 입찰 변경 정보를 한 번에 읽고 삭제
+-- (키별로 따로 꺼내면 중간에 실패했을 때 이미 지운 키의 변경분이 유실되므로 모든 키를 한 스크립트에서 처리)
+-- KEYS : 서버마다 브로드캐스트 대상 경매 Set, 구간 최고가 Hash 순서로 두 개씩
+--        (auction:dirty:{서버}, auction:window_high:{서버}, ...)
+-- 반환값 : { 경매 ID 목록, 경매 ID/구간 최고가 교대 목록 } (같은 경매의 구간 최고가는 최댓값으로 합침)
+
+local dirty = {}
+local seen = {}
+local highs = {}
+for i = 1, #KEYS, 2 do
+    for _, auctionId in ipairs(redis.call('SMEMBERS', KEYS[i])) do
+        if not seen[auctionId] then
+            seen[auctionId] = true
+            table.insert(dirty, auctionId)
+        end
+    end
+
+    local fields = redis.call('HGETALL', KEYS[i + 1])
+    for j = 1, #fields, 2 do
+        local current = highs[fields[j]]
+        if not current or tonumber(current) < tonumber(fields[j + 1]) then
+            highs[fields[j]] = fields[j + 1]
+        end
+    end
+
+    redis.call('DEL', KEYS[i], KEYS[i + 1])
+end
+
+local prices = {}
+for auctionId, price in pairs(highs) do
+    table.insert(prices, auctionId)
+    table.insert(prices, price)
+end
+return { dirty, prices }
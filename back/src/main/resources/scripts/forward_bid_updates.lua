@@ -0,0 +1,20 @@
+-- 다른 서버가 담당하는 경매의 입찰 변경 정보를 담당 서버에게 넘기기 위해 모아둠
+-- KEYS[1] : 브로드캐스트 대상 경매 Set (auction:dirty:{담당 서버})
+-- KEYS[2] : 구간 최고가 Hash (auction:window_high:{담당 서버})
+-- ARGV[1] : 브로드캐스트 대상 경매 수 n
+-- ARGV[2 .. n+1] : 경매 ID
+-- ARGV[n+2 ..] : 경매 ID, 구간 최고가 쌍 (기존 값보다 클 때만 저장)
+
+local dirtyCount = tonumber(ARGV[1])
+for i = 2, dirtyCount + 1 do
+    redis.call('SADD', KEYS[1], ARGV[i])
+end
+
+for i = dirtyCount + 2, #ARGV, 2 do
+    local current = redis.call('HGET', KEYS[2], ARGV[i])
+    if not current or tonumber(current) < tonumber(ARGV[i + 1]) then
+        redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1])
+    end
+end
+
+return 1
@@ -0,0 +1,48 @@
+-- 경매 종료 시 입찰 Sorted Set을 이관 대기 키로 옮기고 이관 대기 목록에 등록
+-- KEYS[1] : 입찰 Sorted Set (auction:bids:{auctionId})
+-- KEYS[2] : 이관 대기 Sorted Set (auction:bids:archive:{auctionId})
+-- KEYS[3] : 이관 대기 경매 Set (auction:archive:pending)
+-- ARGV[1] : 경매 ID
+-- ARGV[2] : 이관 대기 키 TTL (초)
+-- ARGV[3] : 낙찰가 (선택, 입찰이 없었으면 생략)
+-- ARGV[4] : 낙찰 입찰 member (낙찰 처리 시 이미 '낙찰'로 저장되었으므로 옮기지 않음)
+-- ARGV[5..] : 낙찰 입찰을 읽을 때 이미 있던 같은 가격 입찰 member
+-- 반환값 : 이관 대기 키의 입찰 수 (0이면 입찰 없음)
+-- 낙찰 입찰을 읽은 뒤 커밋 전까지 들어온 입찰 중 낙찰가보다 높거나 같은 가격의 입찰은 버린다.
+-- (이관 대기 키에는 '입찰'로 저장할 입찰만 남음)
+
+if ARGV[3] then
+    -- score는 -bidPrice 이므로 낙찰가보다 높은 입찰은 score < -낙찰가
+    local winningScore = -tonumber(ARGV[3])
+    redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. winningScore)
+    redis.call('ZREM', KEYS[1], ARGV[4])
+    redis.call('ZREM', KEYS[2], ARGV[4])
+
+    local known = {}
+    for i = 5, #ARGV do
+        known[ARGV[i]] = true
+    end
+    for _, member in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], winningScore, winningScore)) do
+        if not known[member] then
+            redis.call('ZREM', KEYS[1], member)
+        end
+    end
+end
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    if redis.call('EXISTS', KEYS[2]) == 1 then
+        -- 이전 종료 시도에서 옮겨둔 입찰이 있으면 합침
+        redis.call('ZUNIONSTORE', KEYS[2], 2, KEYS[2], KEYS[1], 'AGGREGATE', 'MAX')
+        redis.call('DEL', KEYS[1])
+    else
+        redis.call('RENAME', KEYS[1], KEYS[2])
+    end
+end
+
+local count = redis.call('ZCARD', KEYS[2])
+if count > 0 then
+    redis.call('EXPIRE', KEYS[2], tonumber(ARGV[2]))
+    redis.call('SADD', KEYS[3], ARGV[1])
+end
+
+return count
@@ -0,0 +1,9 @@
+-- 잠금을 잡은 쪽만 해제 (TTL이 지나 다른 서버가 다시 잡은 잠금을 지우지 않도록 값 비교 후 삭제)
+-- KEYS[1] : 잠금 키
+-- ARGV[1] : 잠금 획득 시 저장한 소유자 토큰
+-- 반환값 : 삭제했으면 1, 소유자가 다르거나 이미 만료됐으면 0
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,34 @@
+-- 입찰 검증 + 저장을 하나의 원자적 연산으로 처리
+-- KEYS[1] : 진행 중인 경매 해시 (auction:active:)
+-- KEYS[2] : 현재 구간 최소 입찰가 (auction:current_min_bid:{auctionId})
+-- KEYS[3] : 입찰 Sorted Set (auction:bids:{auctionId})
+-- ARGV[1] : 경매 ID
+-- ARGV[2] : 입찰가
+-- ARGV[3] : 경매 시작가 (구간 최소 입찰가가 없을 때 사용)
+-- ARGV[4] : 입찰 member (직렬화된 BidRecord)
+-- ARGV[5] : 입찰 Sorted Set TTL (초)
+-- 반환값 : { 결과코드(1: 성공, 0: 진행 중 아님, -1: 최소 입찰가 미달), 최소 입찰가, 최고 입찰가(-1: 없음) }
+
+local function highestPrice()
+    local top = redis.call('ZRANGE', KEYS[3], 0, 0, 'WITHSCORES')
+    if #top == 0 then
+        return -1
+    end
+    return -tonumber(top[2])
+end
+
+if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+    return { 0, -1, highestPrice() }
+end
+
+local minPrice = tonumber(redis.call('GET', KEYS[2]) or ARGV[3])
+local bidPrice = tonumber(ARGV[2])
+
+if bidPrice < minPrice then
+    return { -1, minPrice, highestPrice() }
+end
+
+redis.call('ZADD', KEYS[3], -bidPrice, ARGV[4])
+redis.call('EXPIRE', KEYS[3], tonumber(ARGV[5]))
+
+return { 1, minPrice, highestPrice() }
@@ -0,0 +1,168 @@
+package FreshBid.back.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import FreshBid.back.controller.impl.ImageControllerImpl;
+import FreshBid.back.dto.image.StoredImageDto;
+import FreshBid.back.exception.GlobalExceptionHandler;
+import FreshBid.back.service.FileStorageService;
+import FreshBid.back.service.ImageIngestService;
+import FreshBid.back.service.ThumbnailService;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("이미지 컨트롤러 테스트")
+class ImageControllerTest {
+
+    private static final String KEY = "live/seller_1234.png";
+    private static final byte[] BODY = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    @Mock
+    private ImageIngestService imageIngestService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ImageControllerImpl imageController = new ImageControllerImpl(fileStorageService,
+            thumbnailService, imageIngestService);
+        // 버퍼보다 큰 이미지도 나눠서 끝까지 전달되는지 확인
+        ReflectionTestUtils.setField(imageController, "bufferSize", 4);
+        mockMvc = MockMvcBuilders.standaloneSetup(imageController)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+        lenient().when(fileStorageService.getImageInfo(KEY)).thenReturn(StoredImageDto.builder()
+            .filePath(KEY)
+            .contentType("image/png")
+            .size(BODY.length)
+            .etag("abc")
+            .build());
+    }
+
+    @Test
+    @DisplayName("이미지 전체 전달 - 캐시/Range 헤더 포함")
+    void getImage_Whole() throws Exception {
+        // given
+        given(fileStorageService.openImage(KEY)).willReturn(new ByteArrayInputStream(BODY));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/images/" + KEY))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL,
+                "max-age=31536000, public, immutable"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, BODY.length))
+            .andExpect(content().bytes(BODY));
+    }
+
+    @Test
+    @DisplayName("Range 요청 - 요청한 구간만 MinIO에서 받아 206 응답")
+    void getImage_Range() throws Exception {
+        // given
+        given(fileStorageService.openImage(KEY, 2, 4))
+            .willReturn(new ByteArrayInputStream(BODY, 2, 4));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/images/" + KEY)
+                .header(HttpHeaders.RANGE, "bytes=2-5"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+            .andExpect(content().string("2345"));
+    }
+
+    @Test
+    @DisplayName("Range 요청 - 이미지 크기를 벗어나면 416")
+    void getImage_RangeNotSatisfiable() throws Exception {
+        mockMvc.perform(get("/images/" + KEY)
+                .header(HttpHeaders.RANGE, "bytes=20-30"))
+            .andExpect(status().isRequestedRangeNotSatisfiable())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+
+        then(fileStorageService).should(never()).openImage(KEY);
+    }
+
+    @Test
+    @DisplayName("Range 요청 - 형식이 잘못되면 Range를 무시하고 전체 전달")
+    void getImage_MalformedRange_Whole() throws Exception {
+        // given
+        given(fileStorageService.openImage(KEY)).willReturn(new ByteArrayInputStream(BODY));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/images/" + KEY)
+                .header(HttpHeaders.RANGE, "bytes=abc"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, BODY.length))
+            .andExpect(content().bytes(BODY));
+    }
+
+    @Test
+    @DisplayName("조건부 요청 - ETag가 같으면 본문 없이 304")
+    void getImage_NotModified() throws Exception {
+        mockMvc.perform(get("/images/" + KEY)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+            .andExpect(status().isNotModified());
+
+        then(fileStorageService).should(never()).openImage(KEY);
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 경로가 아닌 key는 스토리지 조회 없이 404")
+    void getImage_NotImageKey_NotFound() throws Exception {
+        mockMvc.perform(get("/images/tmp/upload-1234.upload"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/images/live/../secret.txt"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/images/live/nested/seller_1234.png"))
+            .andExpect(status().isNotFound());
+
+        then(fileStorageService).should(never()).getImageInfo(anyString());
+        then(thumbnailService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,64 @@
+package FreshBid.back.repository.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import FreshBid.back.entity.BidRecord;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("입찰 member 코덱 테스트")
+class BidRecordCodecTest {
+
+    private final CompactBidRecordCodec compactCodec = new CompactBidRecordCodec();
+    private final JsonBidRecordCodec jsonCodec = new JsonBidRecordCodec();
+
+    private BidRecord createBidRecord(String nickname) {
+        return BidRecord.builder()
+            .bidId("7:42:1700000000123")
+            .auctionId(7L)
+            .userId(42L)
+            .userNickName(nickname)
+            .bidPrice(125_000L)
+            .bidTime(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 678_000_000))
+            .action("입찰")
+            .build();
+    }
+
+    @Test
+    @DisplayName("compact 코덱 인코딩 후 디코딩하면 원래 입찰 정보가 복원된다")
+    void compactRoundTrip() {
+        BidRecord original = createBidRecord("홍길동");
+
+        String member = compactCodec.encode(original);
+        BidRecord decoded = compactCodec.decode(member, 7L);
+
+        assertThat(decoded).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("닉네임에 구분자가 포함되어도 compact 코덱이 정상 디코딩한다")
+    void compactNicknameWithSeparator() {
+        BidRecord original = createBidRecord("홍|길|동");
+
+        BidRecord decoded = compactCodec.decode(compactCodec.encode(original), 7L);
+
+        assertThat(decoded.getUserNickName()).isEqualTo("홍|길|동");
+        assertThat(decoded.getBidPrice()).isEqualTo(125_000L);
+    }
+
+    @Test
+    @DisplayName("compact member는 JSON member보다 작고 각 코덱은 자신의 형식만 지원한다")
+    void compactIsSmallerAndFormatsAreDistinguishable() {
+        BidRecord original = createBidRecord("홍길동");
+
+        String compact = compactCodec.encode(original);
+        String json = jsonCodec.encode(original);
+
+        assertThat(compact.length()).isLessThan(json.length() / 3);
+        assertThat(compactCodec.supports(compact)).isTrue();
+        assertThat(compactCodec.supports(json)).isFalse();
+        assertThat(jsonCodec.supports(json)).isTrue();
+        assertThat(jsonCodec.supports(compact)).isFalse();
+    }
+}
@@ -0,0 +1,68 @@
+package FreshBid.back.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+import FreshBid.back.repository.ClusterRedisRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionShardRingTest {
+
+    @Mock
+    private ClusterRedisRepository clusterRedisRepository;
+
+    @Test
+    @DisplayName("살아 있는 서버들에 경매를 고르게 나눔")
+    void ownerOf_SpreadsAcrossMembers() {
+        // given
+        AuctionShardRing ring = ringWithMembers("node-a", "node-a", "node-b", "node-c");
+
+        // when
+        long owned = LongStream.rangeClosed(1, 3000).filter(ring::owns).count();
+
+        // then
+        assertThat(owned).isBetween(700L, 1300L);
+    }
+
+    @Test
+    @DisplayName("서버가 빠지면 그 서버 담당 경매만 다른 서버로 옮겨감")
+    void heartbeat_MemberRemoved_OnlyItsAuctionsMove() {
+        // given
+        AuctionShardRing ring = ringWithMembers("node-a", "node-a", "node-b", "node-c");
+        List<String> before = LongStream.rangeClosed(1, 1000).mapToObj(ring::ownerOf).toList();
+        given(clusterRedisRepository.removeExpiredMembers(anyLong())).willReturn(List.of("node-c"));
+        given(clusterRedisRepository.findLiveMembers(anyLong()))
+            .willReturn(new ArrayList<>(List.of("node-a", "node-b")));
+
+        // when
+        ring.heartbeat();
+
+        // then
+        for (int i = 0; i < before.size(); i++) {
+            String owner = ring.ownerOf(i + 1L);
+            if (!before.get(i).equals("node-c")) {
+                assertThat(owner).isEqualTo(before.get(i));
+            } else {
+                assertThat(owner).isIn("node-a", "node-b");
+            }
+        }
+        assertThat(ring.drainDepartedMembers()).containsExactly("node-c");
+    }
+
+    private AuctionShardRing ringWithMembers(String nodeId, String... members) {
+        given(clusterRedisRepository.findLiveMembers(anyLong()))
+            .willReturn(new ArrayList<>(List.of(members)));
+        AuctionShardRing ring = new AuctionShardRing(clusterRedisRepository, nodeId, 5000, 64);
+        ring.heartbeat();
+        return ring;
+    }
+}
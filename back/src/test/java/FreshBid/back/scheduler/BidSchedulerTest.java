@@ -0,0 +1,162 @@
+package FreshBid.back.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+
+import FreshBid.back.repository.BidRedisRepositorySupport;
+import FreshBid.back.repository.BidRedisRepositorySupport.ForwardedBidUpdates;
+import FreshBid.back.service.BidService;
+import FreshBid.back.socket.SignalingHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class BidSchedulerTest {
+
+    @Mock
+    private BidRedisRepositorySupport bidRedisRepositorySupport;
+
+    @Mock
+    private BidService bidService;
+
+    @Mock
+    private SignalingHandler signalingHandler;
+
+    @Mock
+    private AuctionShardRing auctionShardRing;
+
+    @Mock
+    private ThreadPoolTaskExecutor bidBroadcastExecutor;
+
+    private BidUpdateTracker bidUpdateTracker;
+
+    private BidScheduler bidScheduler;
+
+    @BeforeEach
+    void setUp() {
+        bidUpdateTracker = new BidUpdateTracker();
+        bidScheduler = new BidScheduler(bidRedisRepositorySupport, bidService, signalingHandler,
+            bidUpdateTracker, auctionShardRing, new SimpleMeterRegistry(),
+            bidBroadcastExecutor);
+        ReflectionTestUtils.setField(bidScheduler, "broadcastMode", "push");
+        ReflectionTestUtils.setField(bidScheduler, "windowLockMillis", 2500L);
+    }
+
+    @Test
+    @DisplayName("다른 서버 담당 경매의 변경분은 담당 서버에게 넘기고 브로드캐스트하지 않음")
+    void flushDirtyAuctions_ForeignAuction_ForwardsToOwner() {
+        // given
+        givenOwners(Map.of(1L, "node-b"));
+        bidUpdateTracker.markBidAccepted(1L, 5000L);
+
+        // when
+        bidScheduler.flushDirtyAuctions();
+
+        // then
+        then(bidRedisRepositorySupport).should()
+            .forwardBidUpdates("node-b", List.of(1L), Map.of(1L, 5000L));
+        then(bidBroadcastExecutor).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("제거된 서버 앞으로 남은 변경분을 새 담당 서버에게 다시 나눔")
+    void flushDirtyAuctions_DepartedMember_Reassigned() {
+        // given
+        givenOwners(Map.of(1L, "node-c"));
+        given(auctionShardRing.drainDepartedMembers()).willReturn(List.of("node-b"));
+        given(bidRedisRepositorySupport.drainForwardedBidUpdates(List.of("node-a", "node-b")))
+            .willReturn(new ForwardedBidUpdates(List.of(1L), Map.of(1L, 7000L)));
+
+        // when
+        bidScheduler.flushDirtyAuctions();
+
+        // then
+        then(bidRedisRepositorySupport).should()
+            .forwardBidUpdates("node-c", List.of(1L), Map.of(1L, 7000L));
+    }
+
+    @Test
+    @DisplayName("넘겨받은 구간 최고가까지 합쳐 담당 경매의 최소 입찰가만 갱신")
+    void broadcastBidUpdates_MergesForwardedWindows() {
+        // given
+        givenOwners(Map.of(1L, "node-a", 2L, "node-b"));
+        given(bidRedisRepositorySupport.drainForwardedBidUpdates(List.of("node-a")))
+            .willReturn(new ForwardedBidUpdates(List.of(), Map.of(1L, 7000L)));
+        given(bidRedisRepositorySupport.getActiveAuctionRoomId(anyLong())).willReturn(10L);
+        bidUpdateTracker.markBidAccepted(1L, 5000L);
+        bidUpdateTracker.markBidAccepted(2L, 3000L);
+
+        // when
+        bidScheduler.flushDirtyAuctions();
+        bidScheduler.broadcastBidUpdates();
+
+        // then
+        then(bidRedisRepositorySupport).should()
+            .tryAdvanceBidWindow(eq(1L), eq("node-a"), any(Duration.class), eq(7001L));
+        then(bidRedisRepositorySupport).should(never())
+            .tryAdvanceBidWindow(eq(2L), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("제거된 서버 앞 변경분을 꺼내지 못하면 다음 주기에 다시 꺼내도록 되돌림")
+    void flushDirtyAuctions_DrainFailure_RestoresDepartedMembers() {
+        // given
+        given(auctionShardRing.getNodeId()).willReturn("node-a");
+        given(auctionShardRing.drainDepartedMembers()).willReturn(List.of("node-b"));
+        given(bidRedisRepositorySupport.drainForwardedBidUpdates(List.of("node-a", "node-b")))
+            .willThrow(new RedisConnectionFailureException("connection refused"));
+        bidUpdateTracker.markBidAccepted(1L, 5000L);
+
+        // when
+        bidScheduler.flushDirtyAuctions();
+
+        // then
+        then(auctionShardRing).should().restoreDepartedMembers(List.of("node-b"));
+        assertThat(bidUpdateTracker.drainDirtyAuctions()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이번 구간을 다른 서버가 이미 갱신했으면 구간 최고가를 그 서버에게 넘김")
+    void broadcastBidUpdates_WindowLockedByOther_HandsOverHighestPrice() {
+        // given
+        givenOwners(Map.of(1L, "node-a"));
+        given(bidRedisRepositorySupport.getActiveAuctionRoomId(1L)).willReturn(10L);
+        given(bidRedisRepositorySupport.tryAdvanceBidWindow(eq(1L), eq("node-a"),
+            any(Duration.class), eq(5001L))).willReturn("node-b");
+        bidUpdateTracker.markBidAccepted(1L, 5000L);
+
+        // when
+        bidScheduler.broadcastBidUpdates();
+
+        // then
+        then(bidRedisRepositorySupport).should()
+            .forwardBidUpdates("node-b", List.of(), Map.of(1L, 5000L));
+    }
+
+    private void givenOwners(Map<Long, String> owners) {
+        given(auctionShardRing.getNodeId()).willReturn("node-a");
+        lenient().when(bidRedisRepositorySupport.drainForwardedBidUpdates(any()))
+            .thenReturn(new ForwardedBidUpdates(List.of(), Map.of()));
+        lenient().when(auctionShardRing.ownerOf(anyLong()))
+            .thenAnswer(invocation -> owners.get(invocation.<Long>getArgument(0)));
+        lenient().when(auctionShardRing.owns(anyLong()))
+            .thenAnswer(invocation -> "node-a".equals(owners.get(invocation.<Long>getArgument(0))));
+    }
+}
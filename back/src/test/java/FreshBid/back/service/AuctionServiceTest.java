@@ -55,6 +55,9 @@ class AuctionServiceTest {
     @Mock
     private ProductRepositorySupport productRepositorySupport;
 
+    @Mock
+    private AuctionStateCacheService auctionStateCacheService;
+
     @InjectMocks
     private AuctionServiceImpl auctionService;
 
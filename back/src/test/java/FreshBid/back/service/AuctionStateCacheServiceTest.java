@@ -0,0 +1,85 @@
+package FreshBid.back.service;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import FreshBid.back.entity.Auction;
+import FreshBid.back.repository.AuctionRepository;
+import FreshBid.back.service.impl.AuctionStateCacheServiceImpl;
+import FreshBid.back.socket.RoomEvent;
+import FreshBid.back.socket.RoomEventBus;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionStateCacheServiceTest {
+
+    private static final Long AUCTION_ID = 1L;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private RoomEventBus roomEventBus;
+
+    private AuctionStateCacheServiceImpl auctionStateCacheService;
+
+    @BeforeEach
+    void setUp() {
+        auctionStateCacheService = new AuctionStateCacheServiceImpl(auctionRepository,
+            roomEventBus);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다른 서버에도 무효화 이벤트 발행")
+    void evictAuctionState_PublishesEviction() {
+        // when
+        auctionStateCacheService.evictAuctionState(AUCTION_ID);
+
+        // then
+        then(roomEventBus).should()
+            .publish(null, RoomEvent.Type.AUCTION_STATE_EVICTED, null, AUCTION_ID.toString());
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 이벤트를 받으면 다음 조회 때 DB에서 다시 읽음")
+    void remoteEviction_ReloadsFromDatabase() {
+        // given
+        Consumer<RoomEvent> handler = subscribedHandler();
+        given(auctionRepository.findById(AUCTION_ID)).willReturn(Optional.of(auction()));
+        auctionStateCacheService.getAuctionState(AUCTION_ID);
+
+        // when
+        handler.accept(new RoomEvent("node-b", null, RoomEvent.Type.AUCTION_STATE_EVICTED, null,
+            AUCTION_ID.toString()));
+        auctionStateCacheService.getAuctionState(AUCTION_ID);
+
+        // then
+        then(auctionRepository).should(times(2)).findById(AUCTION_ID);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<RoomEvent> subscribedHandler() {
+        ReflectionTestUtils.invokeMethod(auctionStateCacheService, "subscribeEvictions");
+        ArgumentCaptor<Consumer<RoomEvent>> captor = ArgumentCaptor.forClass(Consumer.class);
+        then(roomEventBus).should().addHandler(captor.capture());
+        return captor.getValue();
+    }
+
+    private Auction auction() {
+        Auction auction = new Auction();
+        auction.setId(AUCTION_ID);
+        auction.setStatus(Auction.Status.IN_PROGRESS);
+        auction.setStartPrice(1000L);
+        return auction;
+    }
+}
@@ -0,0 +1,227 @@
+package FreshBid.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import FreshBid.back.entity.AuctionHistory;
+import FreshBid.back.entity.BidRecord;
+import FreshBid.back.repository.AuctionHistoryJdbcRepository;
+import FreshBid.back.repository.AuctionHistoryRepository;
+import FreshBid.back.repository.BidRedisRepositorySupport;
+import FreshBid.back.service.impl.BidArchiveServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class BidArchiveServiceTest {
+
+    private static final Long AUCTION_ID = 1L;
+    private static final String LOCK_TOKEN = "lock-token";
+
+    @Mock
+    private BidRedisRepositorySupport bidRedisRepositorySupport;
+
+    @Mock
+    private AuctionHistoryRepository auctionHistoryRepository;
+
+    @Mock
+    private AuctionHistoryJdbcRepository auctionHistoryJdbcRepository;
+
+    @Mock
+    private ThreadPoolTaskExecutor bidArchiveExecutor;
+
+    private BidArchiveService bidArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        bidArchiveService = new BidArchiveServiceImpl(bidRedisRepositorySupport,
+            auctionHistoryRepository, auctionHistoryJdbcRepository, new SimpleMeterRegistry(),
+            bidArchiveExecutor);
+        ReflectionTestUtils.setField(bidArchiveService, "pageSize", 2);
+
+        // 실행기에 제출된 작업을 호출 스레드에서 바로 실행
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(bidArchiveExecutor).execute(any(Runnable.class));
+    }
+
+    private List<BidRecord> createBids(int count, long startPrice) {
+        List<BidRecord> bids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            bids.add(BidRecord.createBid(AUCTION_ID, 10L + i, "입찰자" + i, startPrice - i));
+        }
+        return bids;
+    }
+
+    @Test
+    @DisplayName("입찰 이관 성공 - 0위부터 페이지 단위로 일괄 저장")
+    void archive_Success() {
+        // given
+        givenWinningRecord(0L);
+        given(bidRedisRepositorySupport.getArchivedBids(AUCTION_ID, 0L, 2))
+            .willReturn(createBids(2, 9000L));
+        given(bidRedisRepositorySupport.getArchivedBids(AUCTION_ID, 2L, 2))
+            .willReturn(createBids(1, 8000L));
+        given(bidRedisRepositorySupport.getArchivedBids(AUCTION_ID, 3L, 2))
+            .willReturn(List.of());
+
+        // when
+        bidArchiveService.archiveAsync(AUCTION_ID);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuctionHistory>> captor = ArgumentCaptor.forClass(List.class);
+        then(auctionHistoryJdbcRepository).should(times(2)).batchInsert(captor.capture());
+        assertThat(captor.getAllValues().get(0)).hasSize(2);
+        assertThat(captor.getAllValues().get(1)).hasSize(1);
+        assertThat(captor.getAllValues().get(0).get(0).getAction())
+            .isEqualTo(AuctionHistory.Action.입찰);
+        then(bidRedisRepositorySupport).should().completeArchive(AUCTION_ID);
+        then(bidRedisRepositorySupport).should().releaseArchiveLock(AUCTION_ID, LOCK_TOKEN);
+    }
+
+    @Test
+    @DisplayName("입찰 이관 재개 - 이미 저장된 입찰 행 수 순위부터 이어서 저장 (낙찰 행은 세지 않음)")
+    void archive_ResumeFromStoredCount() {
+        // given
+        given(bidRedisRepositorySupport.getPendingArchiveAuctions()).willReturn(List.of(AUCTION_ID));
+        givenWinningRecord(4L);
+        given(bidRedisRepositorySupport.getArchivedBids(AUCTION_ID, 4L, 2))
+            .willReturn(createBids(1, 5000L));
+        given(bidRedisRepositorySupport.getArchivedBids(AUCTION_ID, 5L, 2))
+            .willReturn(List.of());
+
+        // when
+        bidArchiveService.resumePendingArchives();
+
+        // then
+        then(bidRedisRepositorySupport).should(never()).getArchivedBids(eq(AUCTION_ID), eq(0L),
+            eq(2));
+        then(auctionHistoryJdbcRepository).should().batchInsert(any());
+        then(bidRedisRepositorySupport).should().completeArchive(AUCTION_ID);
+    }
+
+    @Test
+    @DisplayName("입찰 이관 보류 - 낙찰 기록이 커밋되지 않은 경매")
+    void archive_SkipWithoutWinningRecord() {
+        // given
+        given(bidRedisRepositorySupport.tryAcquireArchiveLock(eq(AUCTION_ID), any()))
+            .willReturn(LOCK_TOKEN);
+        given(auctionHistoryRepository.existsByAuctionIdAndAction(AUCTION_ID,
+            AuctionHistory.Action.낙찰)).willReturn(false);
+
+        // when
+        bidArchiveService.archiveAsync(AUCTION_ID);
+
+        // then
+        then(bidRedisRepositorySupport).should(never()).getArchivedBids(eq(AUCTION_ID), anyLong(),
+            anyInt());
+        then(bidRedisRepositorySupport).should(never()).completeArchive(AUCTION_ID);
+        then(bidRedisRepositorySupport).should().releaseArchiveLock(AUCTION_ID, LOCK_TOKEN);
+    }
+
+    @Test
+    @DisplayName("입찰 이관 - 낙찰가와 같은 가격의 입찰이 0위여도 빠짐없이 입찰로 저장")
+    void archive_TiedWithWinningPrice_ArchivedFromRankZero() {
+        // given
+        givenWinningRecord(0L);
+        List<BidRecord> tied = List.of(
+            BidRecord.createBid(AUCTION_ID, 20L, "동일가 입찰자", 10000L),
+            BidRecord.createBid(AUCTION_ID, 21L, "차순위 입찰자", 9000L));
+        given(bidRedisRepositorySupport.getArchivedBids(AUCTION_ID, 0L, 2)).willReturn(tied);
+        given(bidRedisRepositorySupport.getArchivedBids(AUCTION_ID, 2L, 2))
+            .willReturn(List.of());
+
+        // when
+        bidArchiveService.archiveAsync(AUCTION_ID);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuctionHistory>> captor = ArgumentCaptor.forClass(List.class);
+        then(auctionHistoryJdbcRepository).should().batchInsert(captor.capture());
+        assertThat(captor.getValue()).extracting(AuctionHistory::getUserId)
+            .containsExactly(20L, 21L);
+        assertThat(captor.getValue()).extracting(AuctionHistory::getAction)
+            .containsOnly(AuctionHistory.Action.입찰);
+    }
+
+    @Test
+    @DisplayName("즉시 이관 - 남은 입찰을 호출 스레드에서 모두 저장")
+    void archiveNow_CompletesPendingArchive() {
+        // given
+        given(bidRedisRepositorySupport.isArchivePending(AUCTION_ID)).willReturn(true, false);
+        givenWinningRecord(0L);
+        given(bidRedisRepositorySupport.getArchivedBids(AUCTION_ID, 0L, 2))
+            .willReturn(createBids(1, 9000L));
+        given(bidRedisRepositorySupport.getArchivedBids(AUCTION_ID, 1L, 2))
+            .willReturn(List.of());
+
+        // when
+        boolean completed = bidArchiveService.archiveNow(AUCTION_ID);
+
+        // then
+        assertThat(completed).isTrue();
+        then(auctionHistoryJdbcRepository).should().batchInsert(any());
+        then(bidRedisRepositorySupport).should().completeArchive(AUCTION_ID);
+    }
+
+    @Test
+    @DisplayName("즉시 이관 - 다른 작업이 제한 시간 안에 끝내지 못하면 false")
+    void archiveNow_LockedUntilTimeout() {
+        // given
+        ReflectionTestUtils.setField(bidArchiveService, "syncTimeoutMillis", 0L);
+        given(bidRedisRepositorySupport.isArchivePending(AUCTION_ID)).willReturn(true);
+        given(bidRedisRepositorySupport.tryAcquireArchiveLock(eq(AUCTION_ID), any()))
+            .willReturn(null);
+
+        // when
+        boolean completed = bidArchiveService.archiveNow(AUCTION_ID);
+
+        // then
+        assertThat(completed).isFalse();
+        then(auctionHistoryJdbcRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("입찰 이관 건너뜀 - 다른 서버가 잠금을 보유")
+    void archive_SkipWhenLocked() {
+        // given
+        given(bidRedisRepositorySupport.tryAcquireArchiveLock(eq(AUCTION_ID), any()))
+            .willReturn(null);
+
+        // when
+        bidArchiveService.archiveAsync(AUCTION_ID);
+
+        // then
+        then(auctionHistoryRepository).shouldHaveNoInteractions();
+        then(bidRedisRepositorySupport).should(never()).releaseArchiveLock(eq(AUCTION_ID), any());
+    }
+
+    private void givenWinningRecord(long archivedBidCount) {
+        given(bidRedisRepositorySupport.tryAcquireArchiveLock(eq(AUCTION_ID), any()))
+            .willReturn(LOCK_TOKEN);
+        given(auctionHistoryRepository.existsByAuctionIdAndAction(AUCTION_ID,
+            AuctionHistory.Action.낙찰)).willReturn(true);
+        given(auctionHistoryRepository.countByAuctionIdAndAction(AUCTION_ID,
+            AuctionHistory.Action.입찰)).willReturn(archivedBidCount);
+    }
+}
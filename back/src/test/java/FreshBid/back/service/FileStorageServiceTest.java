@@ -0,0 +1,335 @@
+package FreshBid.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import FreshBid.back.dto.image.ImageUploadResultDto;
+import FreshBid.back.service.impl.FileStorageServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class FileStorageServiceTest {
+
+    @Mock
+    private MinioClient minioClient;
+
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    @Mock
+    private ImageDiskCacheService imageDiskCacheService;
+
+    @Mock
+    private ImageBlobService imageBlobService;
+
+    @Mock
+    private RestTemplate imageRestTemplate;
+
+    private ThreadPoolTaskExecutor imageFetchExecutor;
+
+    private FileStorageServiceImpl fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        imageFetchExecutor = new ThreadPoolTaskExecutor();
+        imageFetchExecutor.setCorePoolSize(4);
+        imageFetchExecutor.setMaxPoolSize(4);
+        imageFetchExecutor.setThreadNamePrefix("image-fetch-test-");
+        imageFetchExecutor.initialize();
+
+        fileStorageService = new FileStorageServiceImpl(minioClient, new SimpleMeterRegistry(),
+            thumbnailService, imageDiskCacheService, imageBlobService, imageRestTemplate,
+            imageFetchExecutor);
+        ReflectionTestUtils.setField(fileStorageService, "bucket", "freshbid");
+        ReflectionTestUtils.setField(fileStorageService, "deliveryMode", "base64");
+        ReflectionTestUtils.setField(fileStorageService, "publicBaseUrl", "");
+        ReflectionTestUtils.setField(fileStorageService, "presignExpiryHours", 12);
+        ReflectionTestUtils.setField(fileStorageService, "presignCacheTtlMinutes", 360L);
+        ReflectionTestUtils.setField(fileStorageService, "presignCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(fileStorageService, "batchTimeoutMillis", 500L);
+        ReflectionTestUtils.setField(fileStorageService, "uploadPartSizeMb", 5L);
+        ReflectionTestUtils.invokeMethod(fileStorageService, "initPresignedUrlCache");
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageFetchExecutor.shutdown();
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 파일 크기로 스트리밍하고 내용 해시 반환")
+    void uploadImage_Success() throws Exception {
+        // given
+        SecurityContextHolder.getContext()
+            .setAuthentication(new TestingAuthenticationToken("seller", null));
+        byte[] body = "product-photo".getBytes(StandardCharsets.UTF_8);
+        MockMultipartFile file = new MockMultipartFile("file", "apple.png", "image/png", body);
+        ArgumentCaptor<PutObjectArgs> captor = ArgumentCaptor.forClass(PutObjectArgs.class);
+        given(minioClient.putObject(captor.capture())).willAnswer(invocation -> {
+            // 스토리지가 스트림을 끝까지 읽는 동안 해시가 계산됨
+            invocation.getArgument(0, PutObjectArgs.class).stream().readAllBytes();
+            return null;
+        });
+
+        // when
+        ImageUploadResultDto result = fileStorageService.uploadImage("product", file);
+
+        // then
+        assertThat(result.getFilePath()).startsWith("product/seller_").endsWith(".png");
+        assertThat(result.getSize()).isEqualTo(body.length);
+        assertThat(result.getContentHash()).isEqualTo(
+            HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body)));
+        assertThat(captor.getValue().objectSize()).isEqualTo(body.length);
+        then(thumbnailService).should().createThumbnails(eq(result.getFilePath()), any());
+        then(imageBlobService).should()
+            .register(result.getContentHash(), result.getFilePath(), body.length);
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 트랜잭션이 롤백되면 새로 등록한 참조 해제")
+    void uploadImage_InTransaction_ReleasedOnRollback() throws Exception {
+        // given
+        SecurityContextHolder.getContext()
+            .setAuthentication(new TestingAuthenticationToken("seller", null));
+        TransactionSynchronizationManager.initSynchronization();
+        MockMultipartFile file = new MockMultipartFile("file", "apple.png", "image/png",
+            "product-photo".getBytes(StandardCharsets.UTF_8));
+        given(imageBlobService.release(any())).willReturn(true);
+
+        // when
+        ImageUploadResultDto result = fileStorageService.uploadImage("product", file);
+        completeTransaction(false);
+
+        // then
+        then(imageBlobService).should().release(result.getFilePath());
+        then(minioClient).should().removeObject(any(RemoveObjectArgs.class));
+        then(thumbnailService).should().deleteThumbnails(result.getFilePath());
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 같은 내용이 이미 있으면 업로드 없이 기존 key 재사용")
+    void uploadImage_Deduplicated() throws Exception {
+        // given
+        byte[] body = "product-photo".getBytes(StandardCharsets.UTF_8);
+        MockMultipartFile file = new MockMultipartFile("file", "apple.png", "image/png", body);
+        String contentHash = HexFormat.of()
+            .formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        given(imageBlobService.acquire("product", contentHash)).willReturn(Optional.of("product/first.png"));
+
+        // when
+        ImageUploadResultDto result = fileStorageService.uploadImage("product", file);
+
+        // then
+        assertThat(result.getFilePath()).isEqualTo("product/first.png");
+        then(minioClient).should(never()).putObject(any(PutObjectArgs.class));
+        then(imageBlobService).should(never()).register(any(), any(), eq((long) body.length));
+    }
+
+    @Test
+    @DisplayName("이미지 삭제 - 다른 곳에서 참조 중이면 object 유지")
+    void deleteImage_StillReferenced() throws Exception {
+        // given
+        given(imageBlobService.release("product/first.png")).willReturn(false);
+
+        // when
+        fileStorageService.deleteImage("product/first.png");
+
+        // then
+        then(minioClient).should(never()).removeObject(any(RemoveObjectArgs.class));
+        then(thumbnailService).should(never()).deleteThumbnails(any());
+    }
+
+    @Test
+    @DisplayName("이미지 삭제 - 마지막 참조면 원본과 썸네일 삭제")
+    void deleteImage_LastReference() throws Exception {
+        // given
+        given(imageBlobService.release("product/first.png")).willReturn(true);
+
+        // when
+        fileStorageService.deleteImage("product/first.png");
+
+        // then
+        then(minioClient).should().removeObject(any(RemoveObjectArgs.class));
+        then(thumbnailService).should().deleteThumbnails("product/first.png");
+    }
+
+    @Test
+    @DisplayName("이미지 삭제 - 트랜잭션 안에서는 커밋된 뒤에 참조 해제")
+    void deleteImage_InTransaction_ReleasedAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        fileStorageService.deleteImage("product/first.png");
+        then(imageBlobService).should(never()).release(any());
+        completeTransaction(true);
+
+        // then
+        then(imageBlobService).should().release("product/first.png");
+    }
+
+    @Test
+    @DisplayName("이미지 삭제 - 트랜잭션이 롤백되면 참조 유지")
+    void deleteImage_InTransaction_KeptOnRollback() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        fileStorageService.deleteImage("product/first.png");
+        completeTransaction(false);
+
+        // then
+        then(imageBlobService).should(never()).release(any());
+        then(minioClient).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 스토리지 저장 실패 시 예외")
+    void uploadImage_Failure() throws Exception {
+        // given
+        SecurityContextHolder.getContext()
+            .setAuthentication(new TestingAuthenticationToken("seller", null));
+        MockMultipartFile file = new MockMultipartFile("file", "apple.png", "image/png",
+            "product-photo".getBytes(StandardCharsets.UTF_8));
+        given(minioClient.putObject(any(PutObjectArgs.class)))
+            .willThrow(new IOException("connection reset"));
+
+        // when & then
+        assertThatThrownBy(() -> fileStorageService.uploadImage("product", file))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("이미지 업로드에 실패했습니다.");
+        then(thumbnailService).should(never()).createThumbnails(any(), any());
+    }
+
+    @Test
+    @DisplayName("base64 일괄 변환 - 중복 key는 한 번만 다운로드")
+    void resolveImages_Base64_Deduplicates() throws Exception {
+        // given
+        givenPresignedUrls();
+        given(imageRestTemplate.exchange(any(URI.class), eq(HttpMethod.GET), any(),
+            eq(byte[].class)))
+            .willAnswer(invocation -> ResponseEntity.ok(
+                invocation.getArgument(0, URI.class).getPath().getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        Map<String, String> result = fileStorageService.resolveImages(
+            Arrays.asList("live/a.png", "live/b.png", "live/a.png", null));
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get("live/a.png")).isEqualTo(base64("/live/a.png"));
+        assertThat(result.get("live/b.png")).isEqualTo(base64("/live/b.png"));
+        then(imageRestTemplate).should(times(2))
+            .exchange(any(URI.class), eq(HttpMethod.GET), any(), eq(byte[].class));
+    }
+
+    @Test
+    @DisplayName("base64 일괄 변환 - 제한 시간을 넘긴 이미지만 null")
+    void resolveImages_Base64_Timeout() throws Exception {
+        // given
+        givenPresignedUrls();
+        CountDownLatch blocked = new CountDownLatch(1);
+        given(imageRestTemplate.exchange(any(URI.class), eq(HttpMethod.GET), any(),
+            eq(byte[].class)))
+            .willAnswer(invocation -> {
+                String path = invocation.getArgument(0, URI.class).getPath();
+                if (path.endsWith("slow.png")) {
+                    blocked.await(5, TimeUnit.SECONDS);
+                }
+                return ResponseEntity.ok(path.getBytes(StandardCharsets.UTF_8));
+            });
+
+        // when
+        long startedAt = System.nanoTime();
+        Map<String, String> result = fileStorageService.resolveImages(
+            Arrays.asList("live/fast.png", "live/slow.png"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        assertThat(result.get("live/fast.png")).isEqualTo(base64("/live/fast.png"));
+        assertThat(result).containsEntry("live/slow.png", null);
+        assertThat(elapsedMillis).isLessThan(2000);
+    }
+
+    @Test
+    @DisplayName("proxy 일괄 변환 - 스토리지 호출 없이 이미지 엔드포인트 경로 반환")
+    void resolveImages_Proxy() {
+        // given
+        ReflectionTestUtils.setField(fileStorageService, "deliveryMode", "proxy");
+
+        // when
+        Map<String, String> result = fileStorageService.resolveImages(
+            Arrays.asList("live/a.png", "live/a.png"));
+
+        // then
+        assertThat(result).containsExactlyEntriesOf(Map.of("live/a.png", "/images/live/a.png"));
+        then(imageRestTemplate).should(never())
+            .exchange(any(URI.class), any(HttpMethod.class), any(), eq(byte[].class));
+    }
+
+    private void givenPresignedUrls() throws Exception {
+        given(minioClient.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class)))
+            .willAnswer(invocation -> "http://minio.local/"
+                + invocation.getArgument(0, GetPresignedObjectUrlArgs.class).object());
+    }
+
+    private String base64(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void completeTransaction(boolean committed) {
+        List<TransactionSynchronization> synchronizations =
+            TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(sync -> sync.afterCompletion(committed
+            ? TransactionSynchronization.STATUS_COMMITTED
+            : TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+}
@@ -0,0 +1,108 @@
+package FreshBid.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import FreshBid.back.dto.image.StoredImageDto;
+import FreshBid.back.service.impl.ImageDiskCacheServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ImageDiskCacheServiceTest {
+
+    private static final byte[] BODY = "image-bytes".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path cacheDir;
+
+    private ImageDiskCacheServiceImpl imageDiskCacheService;
+
+    private final AtomicInteger downloads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        imageDiskCacheService = new ImageDiskCacheServiceImpl(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(imageDiskCacheService, "enabled", true);
+        ReflectionTestUtils.setField(imageDiskCacheService, "directory", cacheDir.toString());
+        ReflectionTestUtils.setField(imageDiskCacheService, "maxSizeMb", 10L);
+        ReflectionTestUtils.setField(imageDiskCacheService, "metadataTtlMinutes", 60L);
+        ReflectionTestUtils.invokeMethod(imageDiskCacheService, "init");
+    }
+
+    @Test
+    @DisplayName("첫 요청만 스토리지에서 받고 이후에는 로컬 파일 재사용")
+    void getOrLoad_ReusesLocalFile() throws Exception {
+        // given
+        StoredImageDto image = cacheMetadata("live/a.png", "etag-a");
+
+        // when
+        Path first = imageDiskCacheService.getOrLoad(image, this::download);
+        Path second = imageDiskCacheService.getOrLoad(image, this::download);
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(Files.readAllBytes(first)).isEqualTo(BODY);
+        assertThat(downloads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 내용(ETag)의 다른 key는 파일 하나를 공유")
+    void getOrLoad_ContentAddressed() {
+        // given
+        StoredImageDto original = cacheMetadata("live/a.png", "etag-same");
+        StoredImageDto copy = cacheMetadata("live/b.png", "etag-same");
+
+        // when
+        Path first = imageDiskCacheService.getOrLoad(original, this::download);
+        Path second = imageDiskCacheService.getOrLoad(copy, this::download);
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(downloads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("invalidate - 메타데이터와 로컬 파일 삭제")
+    void invalidate_DeletesFile() throws Exception {
+        // given
+        StoredImageDto image = cacheMetadata("live/a.png", "etag-a");
+        Path cached = imageDiskCacheService.getOrLoad(image, this::download);
+
+        // when
+        imageDiskCacheService.invalidate("live/a.png");
+
+        // then (파일 삭제는 제거 알림에서 비동기로 처리)
+        for (int i = 0; i < 50 && Files.exists(cached); i++) {
+            Thread.sleep(20);
+        }
+        assertThat(cached).doesNotExist();
+        assertThat(imageDiskCacheService.getMetadata("live/a.png",
+            key -> metadata(key, "etag-new")).getEtag()).isEqualTo("etag-new");
+    }
+
+    private StoredImageDto cacheMetadata(String filePath, String etag) {
+        return imageDiskCacheService.getMetadata(filePath, key -> metadata(key, etag));
+    }
+
+    private StoredImageDto metadata(String filePath, String etag) {
+        return StoredImageDto.builder()
+            .filePath(filePath)
+            .contentType("image/png")
+            .size(BODY.length)
+            .etag(etag)
+            .build();
+    }
+
+    private ByteArrayInputStream download() {
+        downloads.incrementAndGet();
+        return new ByteArrayInputStream(BODY);
+    }
+}
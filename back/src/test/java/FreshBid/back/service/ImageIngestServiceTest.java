@@ -0,0 +1,231 @@
+package FreshBid.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import FreshBid.back.dto.image.ImageIngestStatusDto;
+import FreshBid.back.dto.image.ImageIngestStatusDto.Status;
+import FreshBid.back.dto.image.ImageUploadResultDto;
+import FreshBid.back.dto.image.StoredImageDto;
+import FreshBid.back.exception.NotFoundException;
+import FreshBid.back.repository.ImageIngestRedisRepository;
+import FreshBid.back.service.impl.ImageIngestServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ImageIngestServiceTest {
+
+    private static final byte[] BODY = "image-bytes".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private ImageIngestRedisRepository imageIngestRedisRepository;
+
+    @Mock
+    private ThreadPoolTaskExecutor imageIngestExecutor;
+
+    @TempDir
+    Path tempDir;
+
+    private ImageIngestServiceImpl imageIngestService;
+
+    private final MockMultipartFile file = new MockMultipartFile("imgFile", "a.png", "image/png",
+        BODY);
+
+    @BeforeEach
+    void setUp() {
+        imageIngestService = new ImageIngestServiceImpl(fileStorageService,
+            imageIngestRedisRepository, new SimpleMeterRegistry(), imageIngestExecutor);
+        ReflectionTestUtils.setField(imageIngestService, "tempDir", tempDir.toString());
+        ReflectionTestUtils.setField(imageIngestService, "maxAttempts", 1);
+        ReflectionTestUtils.setField(imageIngestService, "retryBackoffMillis", 10L);
+        ReflectionTestUtils.invokeMethod(imageIngestService, "init");
+    }
+
+    @Test
+    @DisplayName("submit - key를 먼저 반환하고 작업 스레드에서 업로드 후 DONE")
+    void submit_UploadsInBackground() throws Exception {
+        // given
+        givenPrepared(false);
+        runInline();
+        given(fileStorageService.getImageInfo("live/a.png")).willReturn(
+            StoredImageDto.builder().filePath("live/a.png").size(BODY.length).build());
+
+        // when
+        String filePath = imageIngestService.submit("live", file);
+
+        // then
+        assertThat(filePath).isEqualTo("live/a.png");
+        then(fileStorageService).should().storeImage(any(ImageUploadResultDto.class), any());
+        then(imageIngestRedisRepository).should().save("live/a.png", Status.PENDING, 0, null);
+        then(imageIngestRedisRepository).should().saveJob(any(ImageUploadResultDto.class));
+        then(imageIngestRedisRepository).should().save("live/a.png", Status.DONE, 1, null);
+        assertThat(tempFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("submit - 이미 있는 내용이면 업로드 없이 바로 DONE")
+    void submit_Deduplicated() throws Exception {
+        // given
+        givenPrepared(true);
+
+        // when
+        String filePath = imageIngestService.submit("live", file);
+
+        // then
+        assertThat(filePath).isEqualTo("live/a.png");
+        then(imageIngestExecutor).should(never()).execute(any(Runnable.class));
+        then(imageIngestRedisRepository).should().save("live/a.png", Status.DONE, 0, null);
+        assertThat(tempFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 쓰면 고정된 사유로 FAILED 기록 후 임시 파일 삭제")
+    void submit_FailsAfterMaxAttempts() throws Exception {
+        // given
+        givenPrepared(false);
+        runInline();
+        willThrow(new IllegalStateException("connection refused: minio.internal:9000"))
+            .given(fileStorageService).storeImage(any(ImageUploadResultDto.class), any());
+
+        // when
+        imageIngestService.submit("live", file);
+
+        // then
+        then(imageIngestRedisRepository).should()
+            .save("live/a.png", Status.FAILED, 1, "이미지 저장에 실패했습니다.");
+        then(imageIngestRedisRepository).should(never())
+            .save(eq("live/a.png"), eq(Status.DONE), any(Integer.class), isNull());
+        assertThat(tempFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시작 - 작업 정보가 남은 임시 파일은 다음 회차로 이어서 업로드")
+    void resumePendingJobs_ResumesWithJobInfo() throws Exception {
+        // given
+        Files.write(tempDir.resolve(tempName("live/a.png")), BODY);
+        runInline();
+        given(imageIngestRedisRepository.find("live/a.png")).willReturn(status(Status.PENDING, 1));
+        given(imageIngestRedisRepository.findJob("live/a.png")).willReturn(prepared(false));
+        given(fileStorageService.getImageInfo("live/a.png")).willReturn(
+            StoredImageDto.builder().filePath("live/a.png").size(BODY.length).build());
+        ReflectionTestUtils.setField(imageIngestService, "maxAttempts", 3);
+
+        // when
+        imageIngestService.resumePendingJobs();
+
+        // then
+        then(fileStorageService).should().storeImage(any(ImageUploadResultDto.class), any());
+        then(imageIngestRedisRepository).should().save("live/a.png", Status.DONE, 2, null);
+        assertThat(tempFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시작 - 작업 정보가 없는 임시 파일(커밋 전 중단)은 업로드하지 않고 삭제")
+    void resumePendingJobs_WithoutJobInfo_Discards() throws Exception {
+        // given
+        Files.write(tempDir.resolve(tempName("live/a.png")), BODY);
+        given(imageIngestRedisRepository.find("live/a.png")).willReturn(status(Status.PENDING, 0));
+        given(imageIngestRedisRepository.findJob("live/a.png")).willReturn(null);
+
+        // when
+        imageIngestService.resumePendingJobs();
+
+        // then
+        then(imageIngestExecutor).should(never()).execute(any(Runnable.class));
+        assertThat(tempFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("빈 파일은 IllegalArgumentException")
+    void submit_EmptyFile() {
+        // given
+        MockMultipartFile empty = new MockMultipartFile("imgFile", "a.png", "image/png",
+            new byte[0]);
+
+        // when & then
+        assertThatThrownBy(() -> imageIngestService.submit("live", empty))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("상태 정보가 없으면 NotFoundException")
+    void getStatus_NotFound() {
+        // given
+        given(imageIngestRedisRepository.find("live/none.png")).willReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> imageIngestService.getStatus("live/none.png"))
+            .isInstanceOf(NotFoundException.class);
+    }
+
+    private void givenPrepared(boolean deduplicated) {
+        given(fileStorageService.prepareUpload(eq("live"), any(), anyString(), anyString(),
+            anyLong())).willReturn(prepared(deduplicated));
+    }
+
+    private ImageUploadResultDto prepared(boolean deduplicated) {
+        return ImageUploadResultDto.builder()
+            .filePath("live/a.png")
+            .contentType("image/png")
+            .size(BODY.length)
+            .contentHash("hash")
+            .deduplicated(deduplicated)
+            .build();
+    }
+
+    private ImageIngestStatusDto status(Status status, int attempts) {
+        return ImageIngestStatusDto.builder()
+            .filePath("live/a.png")
+            .status(status)
+            .attempts(attempts)
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private String tempName(String filePath) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(filePath.getBytes(StandardCharsets.UTF_8)) + ".upload";
+    }
+
+    private void runInline() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(imageIngestExecutor).execute(any(Runnable.class));
+    }
+
+    private long tempFiles() throws Exception {
+        try (Stream<Path> paths = Files.list(tempDir)) {
+            return paths.count();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package FreshBid.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import FreshBid.back.dto.common.CommonResponse;
+import FreshBid.back.dto.image.ImageVariant;
+import FreshBid.back.dto.live.LiveBasicResponseDto;
+import FreshBid.back.dto.user.UserSearchResponseDto;
+import FreshBid.back.service.impl.ImageKeyResolveServiceImpl;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+@ExtendWith(MockitoExtension.class)
+class ImageKeyResolveServiceTest {
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private ImageKeyResolveServiceImpl imageKeyResolveService;
+
+    @BeforeEach
+    void setUp() {
+        imageKeyResolveService = new ImageKeyResolveServiceImpl(fileStorageService);
+    }
+
+    @Test
+    @DisplayName("페이지 응답 - 중복 key는 한 번만 변환하고 모든 행에 바꿔 넣음")
+    void resolve_Page_DeduplicatesKeys() {
+        // given
+        Page<LiveBasicResponseDto> page = new PageImpl<>(List.of(
+            live("live/a.png"), live("live/b.png"), live("live/a.png"), live(null)));
+        CommonResponse<Page<LiveBasicResponseDto>> body = CommonResponse.<Page<LiveBasicResponseDto>>builder()
+            .success(true)
+            .data(page)
+            .build();
+        given(fileStorageService.resolveImages(anyCollection(), eq(ImageVariant.MEDIUM)))
+            .willReturn(Map.of("live/a.png", "/images/live/a.png?w=480",
+                "live/b.png", "/images/live/b.png?w=480"));
+
+        // when
+        imageKeyResolveService.resolve(body);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.forClass(Collection.class);
+        then(fileStorageService).should(times(1)).resolveImages(keys.capture(), eq(ImageVariant.MEDIUM));
+        assertThat(keys.getValue()).containsOnly("live/a.png", "live/b.png");
+        assertThat(page.getContent()).extracting(LiveBasicResponseDto::getReprImgSrc)
+            .containsExactly("/images/live/a.png?w=480", "/images/live/b.png?w=480",
+                "/images/live/a.png?w=480", null);
+    }
+
+    @Test
+    @DisplayName("크기가 다른 필드는 크기별로 한 번씩 변환")
+    void resolve_GroupsByVariant() {
+        // given
+        UserSearchResponseDto seller = new UserSearchResponseDto();
+        seller.setProfileImage("profile-image/p.png");
+        given(fileStorageService.resolveImages(anyCollection(), eq(ImageVariant.MEDIUM)))
+            .willReturn(Map.of("live/a.png", "live-url"));
+        given(fileStorageService.resolveImages(anyCollection(), eq(ImageVariant.SMALL)))
+            .willReturn(Map.of("profile-image/p.png", "profile-url"));
+
+        // when
+        imageKeyResolveService.resolve(List.of(live("live/a.png"), seller));
+
+        // then
+        assertThat(seller.getProfileImage()).isEqualTo("profile-url");
+        then(fileStorageService).should(times(2)).resolveImages(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("@ImageKey 필드가 없는 응답은 변환하지 않음")
+    void resolve_NoImageFields() {
+        // given
+        CommonResponse<String> body = CommonResponse.<String>builder()
+            .success(true)
+            .data("ok")
+            .build();
+
+        // when
+        imageKeyResolveService.resolve(body);
+
+        // then
+        then(fileStorageService).shouldHaveNoInteractions();
+    }
+
+    private LiveBasicResponseDto live(String reprImgSrc) {
+        LiveBasicResponseDto dto = new LiveBasicResponseDto();
+        dto.setReprImgSrc(reprImgSrc);
+        return dto;
+    }
+}
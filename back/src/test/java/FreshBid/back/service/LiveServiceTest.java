@@ -52,6 +52,9 @@ class LiveServiceTest {
     @Mock
     private AuctionService auctionService;
 
+    @Mock
+    private ImageIngestService imageIngestService;
+
     @InjectMocks
     private LiveServiceImpl liveService;
 
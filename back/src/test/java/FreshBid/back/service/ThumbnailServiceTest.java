@@ -0,0 +1,115 @@
+package FreshBid.back.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import FreshBid.back.dto.image.ImageVariant;
+import FreshBid.back.service.impl.ThumbnailServiceImpl;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ErrorResponse;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailServiceTest {
+
+    @Mock
+    private MinioClient minioClient;
+
+    private ThumbnailServiceImpl thumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        thumbnailService = new ThumbnailServiceImpl(minioClient);
+        ReflectionTestUtils.setField(thumbnailService, "bucket", "test-bucket");
+        ReflectionTestUtils.setField(thumbnailService, "permitTimeoutMillis", 10L);
+        ReflectionTestUtils.setField(thumbnailService, "maxPixels", 40_000_000L);
+        ReflectionTestUtils.setField(thumbnailService, "generationPermits", new Semaphore(1));
+    }
+
+    @Test
+    @DisplayName("헤더 크기가 허용 픽셀 수를 넘으면 디코딩하지 않고 썸네일을 만들지 않음")
+    void createThumbnails_OverPixelCap_Skipped() throws Exception {
+        // given
+        ReflectionTestUtils.setField(thumbnailService, "maxPixels", 100L);
+
+        // when
+        thumbnailService.createThumbnails("product/a.png", new ByteArrayInputStream(png(20, 20)));
+
+        // then
+        then(minioClient).should(never()).putObject(any(PutObjectArgs.class));
+    }
+
+    @Test
+    @DisplayName("허용 범위 이미지는 모든 크기의 썸네일 저장")
+    void createThumbnails_WithinPixelCap_Stored() throws Exception {
+        // when
+        thumbnailService.createThumbnails("product/a.png", new ByteArrayInputStream(png(640, 480)));
+
+        // then
+        then(minioClient).should(times(ImageVariant.thumbnails().size()))
+            .putObject(any(PutObjectArgs.class));
+    }
+
+    @Test
+    @DisplayName("생성 슬롯을 얻지 못하면 원본 key를 내려주고 캐시하지 않음")
+    void ensureThumbnail_NoPermit_ServesOriginalWithoutCaching() throws Exception {
+        // given
+        ReflectionTestUtils.setField(thumbnailService, "generationPermits", new Semaphore(0));
+        ErrorResponse errorResponse = mock(ErrorResponse.class);
+        given(errorResponse.code()).willReturn("NoSuchKey");
+        ErrorResponseException noSuchKey = mock(ErrorResponseException.class);
+        given(noSuchKey.errorResponse()).willReturn(errorResponse);
+        given(minioClient.statObject(any(StatObjectArgs.class))).willThrow(noSuchKey);
+        given(minioClient.getObject(any(GetObjectArgs.class)))
+            .willAnswer(invocation -> mock(GetObjectResponse.class));
+
+        // when
+        String first = thumbnailService.ensureThumbnail("product/a.png", ImageVariant.SMALL);
+        String second = thumbnailService.ensureThumbnail("product/a.png", ImageVariant.SMALL);
+
+        // then
+        assertThat(first).isEqualTo("product/a.png");
+        assertThat(second).isEqualTo("product/a.png");
+        then(minioClient).should(times(2)).statObject(any(StatObjectArgs.class));
+        then(minioClient).should(never()).putObject(any(PutObjectArgs.class));
+    }
+
+    @Test
+    @DisplayName("원본 크기를 요청하면 썸네일을 찾거나 만들지 않고 원본 key 반환")
+    void ensureThumbnail_Original_ReturnsOriginalKey() {
+        // when
+        String key = thumbnailService.ensureThumbnail("product/a.png", ImageVariant.ORIGINAL);
+
+        // then
+        assertThat(key).isEqualTo("product/a.png");
+        then(minioClient).shouldHaveNoInteractions();
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,90 @@
+package FreshBid.back.socket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+import FreshBid.back.repository.RateLimitRedisRepository;
+import FreshBid.back.socket.BidRateLimiter.Decision;
+import FreshBid.back.socket.BidRateLimiter.Scope;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class BidRateLimiterTest {
+
+    @Mock
+    private RateLimitRedisRepository rateLimitRedisRepository;
+
+    private BidRateLimiter bidRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        bidRateLimiter = new BidRateLimiter(rateLimitRedisRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(bidRateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(bidRateLimiter, "store", "local");
+        ReflectionTestUtils.setField(bidRateLimiter, "userBurst", 3);
+        ReflectionTestUtils.setField(bidRateLimiter, "userRefillPerSecond", 1.0);
+        ReflectionTestUtils.setField(bidRateLimiter, "roomBurst", 4);
+        ReflectionTestUtils.setField(bidRateLimiter, "roomRefillPerSecond", 1.0);
+    }
+
+    @Test
+    @DisplayName("사용자 burst를 넘는 입찰은 사용자 제한으로 거절")
+    void tryAcquire_UserBurstExceeded() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            assertThat(bidRateLimiter.tryAcquire(1L, 10L).allowed()).isTrue();
+        }
+
+        // when
+        Decision decision = bidRateLimiter.tryAcquire(1L, 10L);
+
+        // then
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.scope()).isEqualTo(Scope.USER);
+        assertThat(decision.retryAfterMillis()).isPositive();
+    }
+
+    @Test
+    @DisplayName("룸 burst를 넘으면 다른 사용자도 룸 제한으로 거절")
+    void tryAcquire_RoomBurstExceeded() {
+        // given
+        for (long userId = 1; userId <= 4; userId++) {
+            assertThat(bidRateLimiter.tryAcquire(userId, 10L).allowed()).isTrue();
+        }
+
+        // when
+        Decision decision = bidRateLimiter.tryAcquire(5L, 10L);
+
+        // then
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.scope()).isEqualTo(Scope.ROOM);
+        assertThat(bidRateLimiter.tryAcquire(5L, 20L).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("redis 모드에서 Redis 오류 시 서버 메모리 버킷으로 판단")
+    void tryAcquire_RedisFailure_FallsBackToLocal() {
+        // given
+        ReflectionTestUtils.setField(bidRateLimiter, "store", "redis");
+        given(rateLimitRedisRepository.tryConsumeBidTokens(anyLong(), anyLong(), anyInt(),
+            anyDouble(), anyInt(), anyDouble()))
+            .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        Decision decision = bidRateLimiter.tryAcquire(1L, 10L);
+
+        // then
+        assertThat(decision.allowed()).isTrue();
+    }
+}
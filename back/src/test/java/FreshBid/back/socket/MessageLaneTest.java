@@ -0,0 +1,119 @@
+package FreshBid.back.socket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class MessageLaneTest {
+
+    private ThreadPoolTaskExecutor executor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 세션의 메시지는 들어온 순서대로 하나씩 처리")
+    void submit_SameKey_KeepsOrder() throws Exception {
+        // given
+        MessageLane lane = new MessageLane("signaling", executor, 100, meterRegistry);
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(50);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            int order = i;
+            lane.submit("session-1", () -> {
+                processed.add(order);
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(processed).isSorted().hasSize(50);
+    }
+
+    @Test
+    @DisplayName("대기 메시지가 capacity를 넘으면 받지 않고 거절 수 기록")
+    void submit_OverCapacity_Rejected() throws Exception {
+        // given
+        MessageLane lane = new MessageLane("admin", executor, 2, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // when
+        boolean first = lane.submit("session-1", blocking);
+        boolean second = lane.submit("session-2", blocking);
+        boolean third = lane.submit("session-3", blocking);
+        release.countDown();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(meterRegistry.counter("socket.lane.rejected", "lane", "admin").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("연결 종료 시 대기 메시지는 버리고 처리 중인 메시지가 끝난 뒤 정리 작업 실행")
+    void close_DropsQueuedAndRunsCleanupAfterInFlight() throws Exception {
+        // given
+        MessageLane lane = new MessageLane("signaling", executor, 100, meterRegistry);
+        List<String> processed = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch cleaned = new CountDownLatch(1);
+        lane.submit("session-1", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            processed.add("host");
+        });
+        lane.submit("session-1", () -> processed.add("startAuction"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        int dropped = lane.close("session-1", () -> {
+            processed.add("cleanup");
+            cleaned.countDown();
+        });
+        release.countDown();
+
+        // then
+        assertThat(cleaned.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dropped).isEqualTo(1);
+        assertThat(processed).containsExactly("host", "cleanup");
+        assertThat(lane.getPending()).isZero();
+    }
+}
@@ -0,0 +1,67 @@
+package FreshBid.back.socket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+import FreshBid.back.socket.QueuedWebSocketSession.OverflowPolicy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+@ExtendWith(MockitoExtension.class)
+class QueuedWebSocketSessionTest {
+
+    @Mock
+    private WebSocketSession delegate;
+
+    private final ExecutorService pumpExecutor = Executors.newSingleThreadExecutor();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pumpExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("전송이 제한 시간을 넘기면 다음 프레임을 넣을 때 연결 종료")
+    void enqueue_SendStalled_ClosesSession() throws Exception {
+        // given
+        CountDownLatch sending = new CountDownLatch(1);
+        given(delegate.isOpen()).willReturn(true);
+        willAnswer(invocation -> {
+            sending.countDown();
+            release.await();        // TCP 윈도우가 막힌 클라이언트
+            return null;
+        }).given(delegate).sendMessage(any(WebSocketMessage.class));
+        QueuedWebSocketSession session = new QueuedWebSocketSession(delegate, pumpExecutor, 64,
+            OverflowPolicy.DROP_STALE, 50);
+
+        session.sendMessage(new TextMessage("first"));
+        assertThat(sending.await(1, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+
+        // when
+        session.sendDroppableMessage(new TextMessage("second"));
+
+        // then
+        assertThat(session.isSendStalled()).isTrue();
+        then(delegate).should().close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(session.getQueueSize()).isZero();
+    }
+}
@@ -0,0 +1,87 @@
+package FreshBid.back.socket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+@ExtendWith(MockitoExtension.class)
+class SocketFrameTest {
+
+    private static final String BID_STATUS =
+        "{\"type\":\"bidStatusUpdate\",\"auctionId\":1,\"seq\":3,\"bidList\":[{\"bidPrice\":5000}]}";
+
+    @Mock
+    private WebSocketSession textSession;
+
+    @Mock
+    private WebSocketSession cborSession;
+
+    @Mock
+    private WebSocketSession otherCborSession;
+
+    @Test
+    @DisplayName("CBOR 세션에는 입찰 현황을 바이너리로, 텍스트 세션에는 JSON으로 전송")
+    void messageFor_BidStatus() {
+        // given
+        given(textSession.getAcceptedProtocol()).willReturn(null);
+        given(cborSession.getAcceptedProtocol()).willReturn(CborFrameCodec.PROTOCOL);
+        given(otherCborSession.getAcceptedProtocol()).willReturn(CborFrameCodec.PROTOCOL);
+        SocketFrame frame = SocketFrame.of(BID_STATUS);
+
+        // when
+        WebSocketMessage<?> text = frame.messageFor(textSession);
+        WebSocketMessage<?> binary = frame.messageFor(cborSession);
+        WebSocketMessage<?> otherBinary = frame.messageFor(otherCborSession);
+
+        // then
+        assertThat(text).isInstanceOf(TextMessage.class);
+        assertThat(((TextMessage) text).getPayload()).isEqualTo(BID_STATUS);
+        assertThat(binary).isInstanceOf(BinaryMessage.class);
+        assertThat(binary.getPayloadLength()).isLessThan(text.getPayloadLength());
+        // 첫 세션 전송처럼 버퍼를 끝까지 읽어도 다음 세션 프레임은 그대로
+        assertThat(CborFrameCodec.decode(((BinaryMessage) binary).getPayload()))
+            .isEqualTo(BID_STATUS);
+        assertThat(((BinaryMessage) binary).getPayload().hasRemaining()).isFalse();
+        assertThat(CborFrameCodec.decode(((BinaryMessage) otherBinary).getPayload()))
+            .isEqualTo(BID_STATUS);
+    }
+
+    @Test
+    @DisplayName("입찰 관련이 아닌 메시지는 CBOR 세션에도 텍스트로 전송")
+    void messageFor_OtherTypeStaysText() {
+        // given
+        given(cborSession.getAcceptedProtocol()).willReturn(CborFrameCodec.PROTOCOL);
+        SocketFrame frame = SocketFrame.of("{\"type\":\"iceCandidate\",\"candidate\":{}}");
+
+        // when
+        WebSocketMessage<?> message = frame.messageFor(cborSession);
+
+        // then
+        assertThat(message).isInstanceOf(TextMessage.class);
+    }
+
+    @Test
+    @DisplayName("클라이언트가 보낸 CBOR 메시지를 JSON으로 변환")
+    void decode_RoundTrip() {
+        // given
+        String submitBid = "{\"type\":\"submitBid\",\"roomId\":10,\"auctionId\":1,\"bidPrice\":5000}";
+        byte[] encoded = CborFrameCodec.encode(
+            submitBid.replace("submitBid\"", "submitBidResult\""));
+
+        // when
+        String decoded = CborFrameCodec.decode(ByteBuffer.wrap(encoded));
+
+        // then
+        assertThat(decoded).contains("\"bidPrice\":5000", "\"roomId\":10");
+    }
+}
@@ -7,6 +7,7 @@ import LiveStatusBadge from "./LiveStatusBadge";
 import { bookmarkApi } from "../../api/axiosInstance";
 import { useUserStore } from "../../stores/useUserStore";
 
+import { toImageSrc } from "../../utils/imageSrc";
 type AuctionStatus = "scheduled" | "active" | "closed";
 
 type LiveProps = {
@@ -35,7 +36,7 @@ export default function LiveCard({ live }: LiveProps) {
 	const [isBookmarked, setIsBookmarked] = useState(false);
 	const [isLoading, setIsLoading] = useState(false);
 
-	const thumb = live.reprImgSrc ? `data:image/jpeg;base64,${live.reprImgSrc}` : "/default.jpg";
+	const thumb = live.reprImgSrc ? toImageSrc(live.reprImgSrc) : "/default.jpg";
 
 	// 컴포넌트 마운트 시 찜 상태 확인
 	useEffect(() => {
@@ -2,6 +2,7 @@
 import { useState, useEffect } from "react";
 import axiosInstance from "../../api/axiosInstance";
 
+import { toImageSrc } from "../../utils/imageSrc";
 // 장바구니 아이템 타입 정의
 interface CartItem {
 	id: number;
@@ -161,7 +162,7 @@ const CartList = () => {
 											{/* 상품 이미지 */}
 											<div className="w-full sm:w-28 h-28 bg-gray-100 rounded-lg flex items-center justify-center border border-gray-200 overflow-hidden">
 												{item.reprImgSrc ? (
-													<img src={`data:image/jpeg;base64,${item.reprImgSrc}`} className="w-full h-full object-cover" />
+													<img src={toImageSrc(item.reprImgSrc)} className="w-full h-full object-cover" />
 												) : (
 													<div className="flex flex-col items-center text-gray-400">
 														<svg className="w-8 h-8 mb-2" fill="none" stroke="currentColor" viewBox="0 0 24 24">
@@ -1,6 +1,7 @@
 import { useEffect, useState } from "react";
 import axiosInstance from "../../api/axiosInstance";
 
+import { toImageSrc } from "../../utils/imageSrc";
 interface UserProfile {
 	username: string;
 	nickname: string;
@@ -33,7 +34,7 @@ const EditProfile = ({ userInfo, onSuccess, onCancel }: EditProfileProps) => {
 	const resolvedProfileSrc = previewImage
 		? previewImage
 		: hasProfileImage
-		? `data:image/jpeg;base64,${userInfo!.profileImage}`
+		? toImageSrc(userInfo!.profileImage)
 		: "/default-profile.png";
 
 	useEffect(() => {
@@ -2,6 +2,7 @@ import { useState, useEffect } from "react";
 import { useNavigate } from "react-router-dom";
 import axiosInstance from "../../api/axiosInstance";
 
+import { toImageSrc } from "../../utils/imageSrc";
 // 주문 정보 타입 정의
 interface OrderInfo {
   id: number;
@@ -208,7 +209,7 @@ const PurchasedList = () => {
                 {/* 상품 이미지 플레이스홀더 */}
                 <div className="w-20 h-20 bg-gray-100 rounded-md flex items-center justify-center border border-gray-200 flex-shrink-0">
                   {order.reprImgSrc ? (
-                    <img src={`data:image/jpeg;base64,${order.reprImgSrc}`} />
+                    <img src={toImageSrc(order.reprImgSrc)} />
                   ) : (
                     <span className="text-gray-400 text-xs">이미지</span>
                   )}
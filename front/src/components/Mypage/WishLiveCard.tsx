@@ -7,6 +7,7 @@ import LiveStatusBadge from "../Auction/LiveStatusBadge";
 import { bookmarkApi } from "../../api/axiosInstance";
 import { useUserStore } from "../../stores/useUserStore";
 
+import { toImageSrc } from "../../utils/imageSrc";
 type AuctionStatus = "scheduled" | "active" | "closed";
 
 type WishLiveProps = {
@@ -36,7 +37,7 @@ export default function WishLiveCard({ live }: WishLiveProps) {
   const [isLoading, setIsLoading] = useState(false);
 
   const thumb = live.reprImgSrc
-    ? `data:image/jpeg;base64,${live.reprImgSrc}`
+    ? toImageSrc(live.reprImgSrc)
     : "/default.jpg";
 
   // 컴포넌트 마운트 시 찜 상태 확인
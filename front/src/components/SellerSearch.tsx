@@ -2,6 +2,7 @@ import { useState } from "react";
 import axiosInstance from "../api/axiosInstance";
 import { useNavigate } from "react-router";
 
+import { toImageSrc } from "../utils/imageSrc";
 interface UserSearchResponse {
 	id: number;
 	profileImage: string | null;
@@ -99,7 +100,7 @@ export default function SellerSearch() {
 									<div className="flex items-center gap-3">
 										<img
 											src={
-												seller.profileImage ? `data:image/jpeg;base64,${seller.profileImage}` : "/farmer-profile.png"
+												seller.profileImage ? toImageSrc(seller.profileImage) : "/farmer-profile.png"
 											}
 											alt="프로필"
 											className="w-12 h-12 rounded-full object-cover"
@@ -4,6 +4,7 @@ import { useUserStore } from "../stores/useUserStore";
 import Logo from "/logo.png";
 import axiosInstance from "../api/axiosInstance";
 
+import { toImageSrc } from "../utils/imageSrc";
 export default function Header() {
   const [activeMenu, setActiveMenu] = useState("home");
   const [isMobileMenuOpen, setIsMobileMenuOpen] = useState(false);
@@ -132,7 +133,7 @@ export default function Header() {
                   <img
                     src={
                       hasProfile
-                        ? `data:image/jpeg;base64,${profileImageUrl}`
+                        ? toImageSrc(profileImageUrl)
                         : "/default-profile.png"
                     }
                     alt="프로필"
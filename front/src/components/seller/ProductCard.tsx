@@ -1,6 +1,7 @@
 import dayjs from "dayjs";
 import { FaTrash } from "react-icons/fa";
 
+import { toImageSrc } from "../../utils/imageSrc";
 type ProductInfo = {
 	id: number;
 	name: string;
@@ -39,7 +40,7 @@ export default function ProductCard({
 			{/* 이미지 */}
 			<div className="flex-shrink-0 w-32 h-32 bg-gray-100 overflow-hidden">
 				<img
-					src={product.reprImgSrc ? `data:image/jpeg;base64,${product.reprImgSrc}` : "/default.jpg"}
+					src={product.reprImgSrc ? toImageSrc(product.reprImgSrc) : "/default.jpg"}
 					alt={product.name}
 					className="w-full h-full object-cover"
 				/>
@@ -53,8 +53,24 @@ export interface BidStatusMessage {
 	currentHighestPrice: number;
 	auctionId: number;
 	status?: string; // status 필드 추가
+	seq?: number; // 서버 입찰 현황 시퀀스 (bidStatusDelta 기준점)
 }
 
+type BidListItem = BidStatusMessage["bidList"][number];
+
+// 서버가 보내는 입찰 현황 변경분 (baseSeq 이후 새로 목록에 들어온 입찰만 포함)
+interface BidStatusDeltaMessage {
+	type: "bidStatusDelta";
+	auctionId: number;
+	seq: number;
+	baseSeq: number;
+	status?: string;
+	currentHighestPrice: number;
+	bids: BidListItem[];
+}
+
+const BID_LIST_LIMIT = 10;
+
 interface AuctionResultMessage {
 	type: "startAuctionResult" | "stopAuctionResult" | "submitBidResult";
 	success: boolean;
@@ -95,6 +111,7 @@ type WebSocketMessage =
 	| IceCandidateMessage
 	| NewParticipantArrivedMessage
 	| BidStatusMessage
+	| BidStatusDeltaMessage
 	| AuctionResultMessage
 	| ErrorMessage
 	| FreshNessRequestMessage
@@ -123,6 +140,8 @@ export function useWebRTC(
 	const remoteVideoRef = useRef<HTMLVideoElement | null>(null);
 	const localStreamRef = useRef<MediaStream | null>(null);
 	const pendingCandidatesRef = useRef<RTCIceCandidateInit[]>([]);
+	// auctionId → 마지막으로 적용한 입찰 현황 (bidStatusDelta 적용용)
+	const bidStatusRef = useRef<Map<number, { seq: number; bidList: BidListItem[] }>>(new Map());
 
 	const sendMessage = (msg: Record<string, unknown>) => {
 		const ws = wsRef.current;
@@ -344,7 +363,22 @@ export function useWebRTC(
 
 					case "bidStatusUpdate":
 						console.log(`💰 [${role.toUpperCase()}] Bid Status Update 수신`);
-						if ("bidListJson" in data && typeof data.bidListJson === "string") {
+						if ("bidList" in data && Array.isArray(data.bidList)) {
+							if (typeof data.seq === "number") {
+								bidStatusRef.current.set(Number(data.auctionId), {
+									seq: data.seq,
+									bidList: data.bidList,
+								});
+							}
+							onMessage?.({
+								type: "bidStatusUpdate",
+								bidList: data.bidList,
+								currentHighestPrice: Number(data.currentHighestPrice),
+								auctionId: Number(data.auctionId),
+								status: typeof data.status === "string" ? data.status : undefined,
+							});
+						} else if ("bidListJson" in data && typeof data.bidListJson === "string") {
+							// 이전 서버 형식 (bidList가 JSON 문자열로 인코딩된 경우)
 							try {
 								const parsedList = JSON.parse(data.bidListJson);
 								console.log(`💰 [${role.toUpperCase()}] Bid List 파싱 성공:`, parsedList);
@@ -363,6 +397,31 @@ export function useWebRTC(
 						}
 						break;
 
+					case "bidStatusDelta": {
+						const delta = data as BidStatusDeltaMessage;
+						const auctionId = Number(delta.auctionId);
+						const known = bidStatusRef.current.get(auctionId);
+						if (!known || known.seq !== delta.baseSeq) {
+							// 중간 변경분을 놓친 경우 전체 스냅샷 재요청
+							console.warn(`⚠️ [${role.toUpperCase()}] bidStatusDelta 시퀀스 불일치 - 스냅샷 요청`);
+							bidStatusRef.current.delete(auctionId);
+							sendMessage({ type: "bidStatusSync", roomId, auctionId });
+							break;
+						}
+						const merged = [...delta.bids, ...known.bidList]
+							.sort((a, b) => b.bidPrice - a.bidPrice)
+							.slice(0, BID_LIST_LIMIT);
+						bidStatusRef.current.set(auctionId, { seq: delta.seq, bidList: merged });
+						onMessage?.({
+							type: "bidStatusUpdate",
+							bidList: merged,
+							currentHighestPrice: Number(delta.currentHighestPrice),
+							auctionId,
+							status: typeof delta.status === "string" ? delta.status : undefined,
+						});
+						break;
+					}
+
 					case "startAuctionResult":
 					case "stopAuctionResult":
 					case "submitBidResult":
@@ -7,6 +7,7 @@ import CartList from "../../../components/Mypage/CartList";
 import axiosInstance from "../../../api/axiosInstance";
 import { useUserStore } from "../../../stores/useUserStore";
 
+import { toImageSrc } from "../../../utils/imageSrc";
 const Tabs = [
   "회원정보 수정",
   "장바구니",
@@ -62,7 +63,7 @@ const MyPage = () => {
           <img
             src={
               userInfo?.profileImage
-                ? `data:image/jpeg;base64,${userInfo.profileImage}`
+                ? toImageSrc(userInfo.profileImage)
                 : "/default-profile.png"
             }
             alt="사용자 프로필"
@@ -8,6 +8,7 @@ import LiveList from "../../../components/seller/LiveList";
 import { useUserStore } from "../../../stores/useUserStore";
 import ProductList from "../../../components/seller/ProductList";
 
+import { toImageSrc } from "../../../utils/imageSrc";
 // 탭 타입 정의
 type TabType = "경매" | "농장 리뷰" | "문의" | "라이브" | "상품";
 
@@ -150,7 +151,7 @@ const SellerDetail = () => {
 				<div className="flex items-center space-x-4">
 					<img
 						src={
-							sellerInfo?.profileImage ? `data:image/jpeg;base64,${sellerInfo?.profileImage}` : "/farmer-profile.png"
+							sellerInfo?.profileImage ? toImageSrc(sellerInfo.profileImage) : "/farmer-profile.png"
 						}
 						alt="농장주"
 						className="w-16 h-16 rounded-full object-cover"
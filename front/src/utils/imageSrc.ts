@@ -0,0 +1,20 @@
+import axiosInstance from "../api/axiosInstance";
+
+/**
+ * 서버가 내려준 이미지 값을 <img src>로 변환
+ * - "/images/..." : API 서버 이미지 엔드포인트 경로 (기본)
+ * - "http(s)://..." : CDN/presigned URL
+ * - 그 외 : base64 본문 (imageFormat=base64 로 요청한 경우)
+ */
+export const toImageSrc = (value: string | null | undefined) => {
+	if (!value) {
+		return "";
+	}
+	if (value.startsWith("http://") || value.startsWith("https://") || value.startsWith("data:")) {
+		return value;
+	}
+	if (value.startsWith("/")) {
+		return `${axiosInstance.defaults.baseURL}${value}`;
+	}
+	return `data:image/jpeg;base64,${value}`;
+};